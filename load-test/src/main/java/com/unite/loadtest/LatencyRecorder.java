@@ -0,0 +1,55 @@
+package com.unite.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency recording in microseconds. Recording goes through HdrHistogram
+ * {@link Recorder}s, which are wait-free for writers, so worker threads never contend on a lock.
+ */
+final class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String operation, long elapsedNanos) {
+        recorders.computeIfAbsent(operation, key -> new Recorder(SIGNIFICANT_DIGITS))
+                .recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    }
+
+    void error(String operation) {
+        errors.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    List<OperationStats> snapshot(double elapsedSeconds) {
+        Map<String, OperationStats> stats = new TreeMap<>();
+        recorders.forEach((operation, recorder) -> {
+            Histogram histogram = recorder.getIntervalHistogram();
+            stats.put(operation, OperationStats.of(operation, histogram, errorCount(operation), elapsedSeconds));
+        });
+        errors.keySet().stream()
+                .filter(operation -> !stats.containsKey(operation))
+                .forEach(operation -> stats.put(operation,
+                        OperationStats.of(operation, new Histogram(SIGNIFICANT_DIGITS), errorCount(operation), elapsedSeconds)));
+        return List.copyOf(stats.values());
+    }
+
+    private long errorCount(String operation) {
+        LongAdder adder = errors.get(operation);
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -0,0 +1,142 @@
+package com.unite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the scenario mix from one virtual thread per worker. Without a target rate the workers run
+ * closed-loop; with one, each worker follows its own schedule and latency is measured from the intended
+ * start time, so a stalled server shows up in the percentiles instead of silently lowering the rate.
+ */
+final class LoadGenerator {
+
+    private static final int RECENT_EXECUTIONS = 1024;
+
+    private final LoadTestConfig config;
+    private final UniteClient client;
+    private final LatencyRecorder recorder;
+    private final JsonNode definitionJson;
+    private final List<String> definitionIds = new CopyOnWriteArrayList<>();
+    private final AtomicReferenceArray<String> recentExecutions = new AtomicReferenceArray<>(RECENT_EXECUTIONS);
+    private final AtomicLong executionCursor = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile boolean running;
+
+    LoadGenerator(LoadTestConfig config, UniteClient client, LatencyRecorder recorder, JsonNode definitionJson) {
+        this.config = config;
+        this.client = client;
+        this.recorder = recorder;
+        this.definitionJson = definitionJson;
+    }
+
+    void prepare() throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.definitions(); i++) {
+            definitionIds.add(client.createDefinition("load-test-" + runId + "-" + i, "1.0.0", definitionJson));
+        }
+    }
+
+    void cleanup() {
+        for (String id : definitionIds) {
+            try {
+                client.deleteDefinition(id);
+            } catch (Exception ignored) {
+                // Definitions with executions may be kept by the server; they are tagged load-test.
+            }
+        }
+    }
+
+    void run(long durationNanos) throws InterruptedException {
+        running = true;
+        long intervalNanos = config.targetRate() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) * config.concurrency() / config.targetRate())
+                : 0;
+        long deadline = System.nanoTime() + durationNanos;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                long offset = intervalNanos * i / config.concurrency();
+                workers.submit(() -> work(deadline, intervalNanos, offset));
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+            running = false;
+        }
+    }
+
+    private void work(long deadline, long intervalNanos, long offset) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intended = System.nanoTime() + offset;
+        while (running && intended < deadline) {
+            if (intervalNanos > 0) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            long start = intervalNanos > 0 ? intended : System.nanoTime();
+            Scenario scenario = config.mix().next(random);
+            try {
+                execute(scenario, random);
+                recorder.record(scenario.key(), System.nanoTime() - start);
+            } catch (Exception e) {
+                recorder.error(scenario.key());
+            }
+            intended = intervalNanos > 0 ? intended + intervalNanos : System.nanoTime();
+        }
+    }
+
+    private void execute(Scenario scenario, ThreadLocalRandom random) throws Exception {
+        switch (scenario) {
+            case DEFINITION_CRUD -> {
+                String name = "load-test-crud-" + sequence.incrementAndGet();
+                String id = client.createDefinition(name, "1.0.0", definitionJson);
+                client.getDefinition(id);
+                client.updateDefinition(id, name, "1.0.1", definitionJson);
+                client.deleteDefinition(id);
+            }
+            case START_SYNC -> {
+                String executionId = client.startSync(pickDefinition(random), variables());
+                if (executionId != null) {
+                    recentExecutions.set((int) (executionCursor.getAndIncrement() % RECENT_EXECUTIONS), executionId);
+                }
+            }
+            case START_ASYNC -> client.startAsync(pickDefinition(random), variables());
+            case START_BATCH -> client.startBatch(pickDefinition(random), variables(), config.batchSize());
+            case GET_EXECUTION -> {
+                String executionId = pickExecution(random);
+                if (executionId == null) {
+                    client.getDefinition(pickDefinition(random));
+                } else {
+                    client.getExecution(executionId);
+                }
+            }
+        }
+    }
+
+    private String pickDefinition(ThreadLocalRandom random) {
+        return definitionIds.get(random.nextInt(definitionIds.size()));
+    }
+
+    private String pickExecution(ThreadLocalRandom random) {
+        long written = Math.min(executionCursor.get(), RECENT_EXECUTIONS);
+        return written == 0 ? null : recentExecutions.get(random.nextInt((int) written));
+    }
+
+    private Map<String, Object> variables() {
+        return Map.of("sequence", sequence.incrementAndGet(), "source", "load-test");
+    }
+}
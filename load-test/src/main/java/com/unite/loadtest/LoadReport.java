@@ -0,0 +1,21 @@
+package com.unite.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+record LoadReport(
+        Instant startedAt,
+        double durationSeconds,
+        String baseUrl,
+        String api,
+        int concurrency,
+        double targetRate,
+        Map<String, Integer> mix,
+        List<OperationStats> operations,
+        SubscriberStats subscribers,
+        SubscriberStats sseSubscribers) {
+
+    record SubscriberStats(int connected, int failed, long messages, double messagesPerSecond) {
+    }
+}
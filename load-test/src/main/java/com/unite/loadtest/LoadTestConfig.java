@@ -0,0 +1,113 @@
+package com.unite.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+record LoadTestConfig(
+        URI baseUrl,
+        String api,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        double targetRate,
+        ScenarioMix mix,
+        int subscribers,
+        int sseSubscribers,
+        int batchSize,
+        int definitions,
+        Path definitionFile,
+        Path reportFile,
+        Path baseline,
+        double maxRegressionPercent) {
+
+    static final String USAGE = """
+            Usage: LoadTestMain [options]
+              --base-url=URL            orchestrator base URL (default http://localhost:8080)
+              --api=servlet|reactive    which API the workers call (default servlet)
+              --duration=DURATION       measured run time, ISO-8601 or e.g. 60s, 5m (default 60s)
+              --warmup=DURATION         warm-up time discarded from the report (default 10s)
+              --concurrency=N           virtual-thread workers (default 64)
+              --rate=OPS_PER_SECOND     target total rate; 0 runs closed-loop (default 0)
+              --mix=crud=10,sync=30,async=30,batch=10,get=20
+              --subscribers=N           STOMP subscribers on /ws (default 10)
+              --sse-subscribers=N       server-sent event subscribers on the reactive API (default 0)
+              --batch-size=N            executions per batch start (default 10)
+              --definitions=N           workflow definitions created for starts (default 5)
+              --definition-file=PATH    definitionJson used for created definitions
+              --report=PATH             write the JSON report to PATH
+              --baseline=PATH           compare against a previous JSON report
+              --max-regression=PERCENT  fail when p99 or throughput regress more than this (default 10)
+              --compare=BASE,CURRENT    only compare two existing reports
+            """;
+
+    static LoadTestConfig parse(Map<String, String> options) {
+        return new LoadTestConfig(
+                URI.create(options.getOrDefault("base-url", "http://localhost:8080")),
+                api(options.getOrDefault("api", "servlet")),
+                duration(options.getOrDefault("duration", "60s")),
+                duration(options.getOrDefault("warmup", "10s")),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                options.containsKey("mix") ? ScenarioMix.parse(options.get("mix")) : ScenarioMix.defaults(),
+                Integer.parseInt(options.getOrDefault("subscribers", "10")),
+                Integer.parseInt(options.getOrDefault("sse-subscribers", "0")),
+                Integer.parseInt(options.getOrDefault("batch-size", "10")),
+                Integer.parseInt(options.getOrDefault("definitions", "5")),
+                path(options.get("definition-file")),
+                path(options.get("report")),
+                path(options.get("baseline")),
+                Double.parseDouble(options.getOrDefault("max-regression", "10")));
+    }
+
+    String apiPrefix() {
+        return "reactive".equals(api) ? "/api/v1/reactive" : "/api/v1";
+    }
+
+    static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'\n" + USAGE);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    static Duration duration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.startsWith("p")) {
+            return Duration.parse(trimmed.toUpperCase());
+        }
+        long amount = Long.parseLong(trimmed.replaceAll("[a-z]+$", ""));
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(amount);
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(amount);
+        }
+        if (trimmed.endsWith("h")) {
+            return Duration.ofHours(amount);
+        }
+        return Duration.ofSeconds(amount);
+    }
+
+    private static String api(String value) {
+        if (!value.equals("servlet") && !value.equals("reactive")) {
+            throw new IllegalArgumentException("Unknown --api '" + value + "'\n" + USAGE);
+        }
+        return value;
+    }
+
+    private static Path path(String value) {
+        return value == null ? null : Path.of(value);
+    }
+}
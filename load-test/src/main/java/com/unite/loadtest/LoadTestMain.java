@@ -0,0 +1,148 @@
+package com.unite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+public final class LoadTestMain {
+
+    private static final int EXIT_REGRESSION = 2;
+
+    private static final String DEFAULT_DEFINITION = """
+            {"steps": [{"id": "validate", "type": "validation"}, {"id": "process", "type": "processing"}]}
+            """;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestConfig.options(args);
+        if (options.containsKey("help")) {
+            System.out.print(LoadTestConfig.USAGE);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        LoadTestConfig config = LoadTestConfig.parse(options);
+
+        if (options.containsKey("compare")) {
+            String[] reports = options.get("compare").split(",");
+            ReportComparison comparison = ReportComparison.compare(
+                    read(objectMapper, Path.of(reports[0])), read(objectMapper, Path.of(reports[1])),
+                    config.maxRegressionPercent());
+            comparison.print(System.out);
+            System.exit(comparison.regressions().isEmpty() ? 0 : EXIT_REGRESSION);
+        }
+
+        LoadReport report = run(config, objectMapper);
+        print(report, System.out);
+
+        if (config.reportFile() != null) {
+            objectMapper.writeValue(config.reportFile().toFile(), report);
+            System.out.println("Report written to " + config.reportFile());
+        }
+        if (config.baseline() != null) {
+            ReportComparison comparison = ReportComparison.compare(
+                    read(objectMapper, config.baseline()), report, config.maxRegressionPercent());
+            comparison.print(System.out);
+            if (!comparison.regressions().isEmpty()) {
+                System.exit(EXIT_REGRESSION);
+            }
+        }
+    }
+
+    private static LoadReport run(LoadTestConfig config, ObjectMapper objectMapper) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        JsonNode definitionJson = objectMapper.readTree(config.definitionFile() == null
+                ? DEFAULT_DEFINITION
+                : Files.readString(config.definitionFile()));
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        UniteClient client = new UniteClient(http, config.baseUrl(), objectMapper, config.apiPrefix());
+        LoadGenerator generator = new LoadGenerator(config, client, recorder, definitionJson);
+
+        try (StompSubscribers subscribers = new StompSubscribers(http, config.baseUrl(), objectMapper, recorder);
+             SseSubscribers sseSubscribers = new SseSubscribers(http, config.baseUrl(), objectMapper, recorder)) {
+            subscribers.connect(config.subscribers());
+            sseSubscribers.connect(config.sseSubscribers());
+            generator.prepare();
+            System.out.printf("Connected %d/%d STOMP and %d/%d SSE subscribers, created %d definitions "
+                            + "against %s (%s API)%n",
+                    subscribers.connected(), config.subscribers(), sseSubscribers.connected(),
+                    config.sseSubscribers(), config.definitions(), config.baseUrl(), config.api());
+
+            if (!config.warmup().isZero()) {
+                System.out.printf("Warming up for %s%n", config.warmup());
+                generator.run(config.warmup().toNanos());
+            }
+            recorder.reset();
+            subscribers.resetCounters();
+            sseSubscribers.resetCounters();
+
+            System.out.printf("Running %s with %d workers%s%n", config.duration(), config.concurrency(),
+                    config.targetRate() > 0 ? " at " + config.targetRate() + " ops/s" : " closed-loop");
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            generator.run(config.duration().toNanos());
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            return new LoadReport(
+                    startedAt,
+                    elapsedSeconds,
+                    config.baseUrl().toString(),
+                    config.api(),
+                    config.concurrency(),
+                    config.targetRate(),
+                    config.mix().describe(),
+                    recorder.snapshot(elapsedSeconds),
+                    stats(subscribers.connected(), subscribers.failed(), subscribers.messages(), elapsedSeconds),
+                    stats(sseSubscribers.connected(), sseSubscribers.failed(), sseSubscribers.messages(),
+                            elapsedSeconds));
+        } finally {
+            generator.cleanup();
+        }
+    }
+
+    private static LoadReport.SubscriberStats stats(int connected, int failed, long messages, double seconds) {
+        return new LoadReport.SubscriberStats(connected, failed, messages, messages / seconds);
+    }
+
+    private static void print(LoadReport report, PrintStream out) {
+        out.printf("%n%-14s %9s %7s %10s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "ops/s", "mean", "p50", "p99", "p99.9", "max");
+        for (OperationStats stats : report.operations()) {
+            out.printf("%-14s %9d %7d %10.1f %8.0fus %8dus %8dus %8dus %8dus%n",
+                    stats.operation(), stats.count(), stats.errors(), stats.throughput(), stats.meanMicros(),
+                    stats.p50Micros(), stats.p99Micros(), stats.p999Micros(), stats.maxMicros());
+        }
+        LoadReport.SubscriberStats subscribers = report.subscribers();
+        out.printf("%nSTOMP subscribers: %d connected, %d failed, %d messages (%.1f msg/s)%n",
+                subscribers.connected(), subscribers.failed(), subscribers.messages(), subscribers.messagesPerSecond());
+        LoadReport.SubscriberStats sse = report.sseSubscribers();
+        if (sse != null && sse.connected() + sse.failed() > 0) {
+            out.printf("SSE subscribers: %d connected, %d failed, %d messages (%.1f msg/s)%n",
+                    sse.connected(), sse.failed(), sse.messages(), sse.messagesPerSecond());
+        }
+    }
+
+    private static LoadReport read(ObjectMapper objectMapper, Path path) throws IOException {
+        return objectMapper.readValue(path.toFile(), LoadReport.class);
+    }
+}
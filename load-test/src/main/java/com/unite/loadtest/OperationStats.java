@@ -0,0 +1,31 @@
+package com.unite.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+record OperationStats(
+        String operation,
+        long count,
+        long errors,
+        double throughput,
+        double meanMicros,
+        long p50Micros,
+        long p90Micros,
+        long p99Micros,
+        long p999Micros,
+        long maxMicros) {
+
+    static OperationStats of(String operation, Histogram histogram, long errors, double elapsedSeconds) {
+        long count = histogram.getTotalCount();
+        return new OperationStats(
+                operation,
+                count,
+                errors,
+                elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                count == 0 ? 0 : histogram.getMean(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue());
+    }
+}
@@ -0,0 +1,69 @@
+package com.unite.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+record ReportComparison(List<Delta> deltas, double maxRegressionPercent) {
+
+    record Delta(String operation, long baselineP99, long currentP99, double baselineThroughput, double currentThroughput) {
+
+        double p99ChangePercent() {
+            return percent(baselineP99, currentP99);
+        }
+
+        double throughputChangePercent() {
+            return percent(baselineThroughput, currentThroughput);
+        }
+
+        private static double percent(double baseline, double current) {
+            return baseline == 0 ? 0 : (current - baseline) * 100.0 / baseline;
+        }
+    }
+
+    static ReportComparison compare(LoadReport baseline, LoadReport current, double maxRegressionPercent) {
+        Map<String, OperationStats> previous = baseline.operations().stream()
+                .collect(Collectors.toMap(OperationStats::operation, Function.identity()));
+        List<Delta> deltas = new ArrayList<>();
+        for (OperationStats stats : current.operations()) {
+            OperationStats before = previous.get(stats.operation());
+            if (before != null) {
+                deltas.add(new Delta(stats.operation(), before.p99Micros(), stats.p99Micros(),
+                        before.throughput(), stats.throughput()));
+            }
+        }
+        return new ReportComparison(deltas, maxRegressionPercent);
+    }
+
+    List<String> regressions() {
+        List<String> regressions = new ArrayList<>();
+        for (Delta delta : deltas) {
+            if (delta.p99ChangePercent() > maxRegressionPercent) {
+                regressions.add("%s p99 +%.1f%%".formatted(delta.operation(), delta.p99ChangePercent()));
+            }
+            if (-delta.throughputChangePercent() > maxRegressionPercent) {
+                regressions.add("%s throughput %.1f%%".formatted(delta.operation(), delta.throughputChangePercent()));
+            }
+        }
+        return regressions;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-14s %12s %12s %9s %12s %12s %9s%n",
+                "operation", "base p99", "p99", "change", "base ops/s", "ops/s", "change");
+        for (Delta delta : deltas) {
+            out.printf("%-14s %10dus %10dus %+8.1f%% %12.1f %12.1f %+8.1f%%%n",
+                    delta.operation(), delta.baselineP99(), delta.currentP99(), delta.p99ChangePercent(),
+                    delta.baselineThroughput(), delta.currentThroughput(), delta.throughputChangePercent());
+        }
+        List<String> regressions = regressions();
+        if (regressions.isEmpty()) {
+            out.printf("No regression above %.1f%%%n", maxRegressionPercent);
+        } else {
+            out.printf("Regressions above %.1f%%: %s%n", maxRegressionPercent, String.join(", ", regressions));
+        }
+    }
+}
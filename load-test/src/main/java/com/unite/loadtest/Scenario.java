@@ -0,0 +1,35 @@
+package com.unite.loadtest;
+
+import java.util.Arrays;
+
+enum Scenario {
+    DEFINITION_CRUD("crud", 10),
+    START_SYNC("sync", 30),
+    START_ASYNC("async", 30),
+    START_BATCH("batch", 10),
+    GET_EXECUTION("get", 20);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Scenario(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Scenario fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Scenario::key).toList()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.unite.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+final class ScenarioMix {
+
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private ScenarioMix(Map<Scenario, Integer> weights) {
+        this.scenarios = weights.keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += weights.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Scenario mix must have a positive total weight");
+        }
+        this.totalWeight = total;
+    }
+
+    static ScenarioMix defaults() {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(scenario, scenario.defaultWeight());
+        }
+        return new ScenarioMix(weights);
+    }
+
+    static ScenarioMix parse(String spec) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromKey(parts[0]), weight);
+            }
+        }
+        return new ScenarioMix(weights);
+    }
+
+    Scenario next(RandomGenerator random) {
+        int pick = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    Map<String, Integer> describe() {
+        Map<String, Integer> description = new LinkedHashMap<>();
+        int previous = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            description.put(scenarios[i].key(), cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return description;
+    }
+}
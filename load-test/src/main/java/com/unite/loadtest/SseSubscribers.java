@@ -0,0 +1,118 @@
+package com.unite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Server-sent event clients on the reactive {@code /events} endpoint, the SSE counterpart of
+ * {@link StompSubscribers}. Each stream is read line by line on its own virtual thread.
+ */
+final class SseSubscribers implements AutoCloseable {
+
+    static final String DELIVERY_OPERATION = "sse-delivery";
+
+    private static final String DATA = "data:";
+
+    private final HttpClient http;
+    private final URI endpoint;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Stream<String>> streams = new ArrayList<>();
+    private final LongAdder messages = new LongAdder();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    SseSubscribers(HttpClient http, URI baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.http = http;
+        this.endpoint = baseUrl.resolve("/api/v1/reactive/workflow-executions/events");
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    void connect(int count) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        List<CompletableFuture<HttpResponse<Stream<String>>>> connecting = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            connecting.add(http.sendAsync(request, HttpResponse.BodyHandlers.ofLines()));
+        }
+        for (CompletableFuture<HttpResponse<Stream<String>>> future : connecting) {
+            try {
+                HttpResponse<Stream<String>> response = future.get(15, TimeUnit.SECONDS);
+                if (response.statusCode() != 200) {
+                    response.body().close();
+                    failed.incrementAndGet();
+                    continue;
+                }
+                streams.add(response.body());
+                readers.execute(() -> read(response.body()));
+            } catch (Exception e) {
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    void resetCounters() {
+        messages.reset();
+    }
+
+    int connected() {
+        return streams.size();
+    }
+
+    int failed() {
+        return failed.get();
+    }
+
+    long messages() {
+        return messages.sum();
+    }
+
+    @Override
+    public void close() {
+        streams.forEach(Stream::close);
+        readers.shutdownNow();
+    }
+
+    private void read(Stream<String> lines) {
+        try {
+            lines.filter(line -> line.startsWith(DATA)).forEach(this::handleData);
+        } catch (RuntimeException e) {
+            // Closing the stream at the end of the run ends up here as well.
+        }
+    }
+
+    private void handleData(String line) {
+        messages.increment();
+        try {
+            JsonNode event = objectMapper.readTree(line.substring(DATA.length()));
+            if (event.hasNonNull("timestamp")) {
+                LocalDateTime published = LocalDateTime.parse(event.get("timestamp").asText());
+                long nanos = Duration.between(published, LocalDateTime.now()).toNanos();
+                if (nanos >= 0) {
+                    recorder.record(DELIVERY_OPERATION, nanos);
+                }
+            }
+        } catch (Exception ignored) {
+            // Non-JSON payloads still count as delivered messages.
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.unite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time to first successful execution: each run launches the application jar in a fresh JVM, then
+ * keeps creating a definition and starting it synchronously until both succeed. Compare the default build
+ * with the {@code fast-start} one by running twice with different {@code --jar} and {@code --jvm-args}.
+ */
+public final class StartupBenchmark {
+
+    static final String USAGE = """
+            Usage: StartupBenchmark --jar=PATH [options]
+              --jar=PATH                application jar to launch
+              --jvm-args="ARGS"         JVM options, separated by spaces
+              --profiles=LIST           spring.profiles.active for the launched application
+              --runs=N                  launches measured (default 5)
+              --port=N                  server port of the launched application (default 18080)
+              --timeout=DURATION        give up on a launch after this long (default 120s)
+              --logs=DIR                application output per run (default target/startup)
+              --report=PATH             write the JSON report to PATH
+              --baseline=PATH           compare against a previous report
+              --max-regression=PERCENT  fail when the median regresses more than this (default 10)
+            """;
+
+    private static final int EXIT_REGRESSION = 2;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+    private static final String DEFINITION = """
+            {"steps": [{"id": "validate", "type": "validation"}, {"id": "process", "type": "processing"}]}
+            """;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestConfig.options(args);
+        if (options.containsKey("help") || !options.containsKey("jar")) {
+            System.out.print(USAGE);
+            return;
+        }
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        String jar = options.get("jar");
+        List<String> jvmArgs = options.containsKey("jvm-args")
+                ? Arrays.asList(options.get("jvm-args").trim().split("\\s+"))
+                : List.of();
+        String profiles = options.get("profiles");
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        Duration timeout = LoadTestConfig.duration(options.getOrDefault("timeout", "120s"));
+        Path logs = Path.of(options.getOrDefault("logs", "target/startup"));
+        Files.createDirectories(logs);
+
+        Instant startedAt = Instant.now();
+        List<StartupReport.Run> results = new ArrayList<>();
+        for (int i = 1; i <= runs; i++) {
+            List<String> command = command(jar, jvmArgs, profiles, port);
+            StartupReport.Run run = measure(command, port, timeout, logs.resolve("run-" + i + ".log"), objectMapper);
+            System.out.printf("Run %d: first response %d ms, first execution %d ms%n",
+                    i, run.firstResponseMillis(), run.firstExecutionMillis());
+            results.add(run);
+        }
+
+        long[] firstResponses = results.stream().mapToLong(StartupReport.Run::firstResponseMillis).toArray();
+        long[] firstExecutions = results.stream().mapToLong(StartupReport.Run::firstExecutionMillis).toArray();
+        StartupReport report = new StartupReport(startedAt, jar, jvmArgs, profiles, results,
+                StartupReport.Summary.of(firstResponses), StartupReport.Summary.of(firstExecutions));
+        System.out.printf("%nFirst response:  min %d ms, median %d ms, max %d ms%n", report.firstResponse().minMillis(),
+                report.firstResponse().medianMillis(), report.firstResponse().maxMillis());
+        System.out.printf("First execution: min %d ms, median %d ms, max %d ms%n", report.firstExecution().minMillis(),
+                report.firstExecution().medianMillis(), report.firstExecution().maxMillis());
+
+        if (options.containsKey("report")) {
+            Path path = Path.of(options.get("report"));
+            objectMapper.writeValue(path.toFile(), report);
+            System.out.println("Report written to " + path);
+        }
+        if (options.containsKey("baseline")) {
+            StartupReport baseline = objectMapper.readValue(Path.of(options.get("baseline")).toFile(),
+                    StartupReport.class);
+            double maxRegression = Double.parseDouble(options.getOrDefault("max-regression", "10"));
+            long before = baseline.firstExecution().medianMillis();
+            long after = report.firstExecution().medianMillis();
+            double change = before == 0 ? 0 : (after - before) * 100.0 / before;
+            System.out.printf("Median time to first execution: %d ms -> %d ms (%+.1f%%)%n", before, after, change);
+            if (change > maxRegression) {
+                System.exit(EXIT_REGRESSION);
+            }
+        }
+    }
+
+    private static List<String> command(String jar, List<String> jvmArgs, String profiles, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+        if (profiles != null) {
+            command.add("--spring.profiles.active=" + profiles);
+        }
+        return command;
+    }
+
+    private static StartupReport.Run measure(List<String> command, int port, Duration timeout, Path log,
+                                             ObjectMapper objectMapper) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        UniteClient client = new UniteClient(http, URI.create("http://localhost:" + port), objectMapper, "/api/v1");
+        JsonNode definition = objectMapper.readTree(DEFINITION);
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = launched + timeout.toNanos();
+            String definitionId = untilSuccess(deadline, process, log,
+                    () -> client.createDefinition("startup-" + System.nanoTime(), "1.0", definition));
+            long firstResponse = System.nanoTime();
+            untilSuccess(deadline, process, log, () -> client.startSync(definitionId, Map.of("startup", true)));
+            long firstExecution = System.nanoTime();
+            return new StartupReport.Run(TimeUnit.NANOSECONDS.toMillis(firstResponse - launched),
+                    TimeUnit.NANOSECONDS.toMillis(firstExecution - launched));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Retries while the port is closed or the application answers with an error.
+     */
+    private static <T> T untilSuccess(long deadline, Process process, Path log, Call<T> call) throws Exception {
+        IOException last = null;
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                return call.call();
+            } catch (IOException e) {
+                // Refused while the port is not open yet, or an error status while beans are still bootstrapping
+                last = e;
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+        throw new IllegalStateException("No successful execution before the timeout, see " + log, last);
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws IOException;
+    }
+}
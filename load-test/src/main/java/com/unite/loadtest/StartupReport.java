@@ -0,0 +1,31 @@
+package com.unite.loadtest;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+record StartupReport(
+        Instant startedAt,
+        String jar,
+        List<String> jvmArgs,
+        String profiles,
+        List<Run> runs,
+        Summary firstResponse,
+        Summary firstExecution) {
+
+    /**
+     * Milliseconds from process launch to the first successful definition create and to the first completed
+     * workflow execution.
+     */
+    record Run(long firstResponseMillis, long firstExecutionMillis) {
+    }
+
+    record Summary(long minMillis, long medianMillis, long maxMillis) {
+
+        static Summary of(long[] millis) {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            return new Summary(sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+        }
+    }
+}
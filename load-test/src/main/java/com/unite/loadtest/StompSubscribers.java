@@ -0,0 +1,144 @@
+package com.unite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plain STOMP 1.2 clients over the raw (non-SockJS) {@code /ws} endpoint, subscribed to
+ * {@code /topic/workflow-events}. Delivery latency is measured against the event timestamp,
+ * which is only meaningful when the generator runs on the orchestrator host.
+ */
+final class StompSubscribers implements AutoCloseable {
+
+    static final String DELIVERY_OPERATION = "ws-delivery";
+
+    private static final char NULL = '\0';
+
+    private final HttpClient http;
+    private final URI endpoint;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final List<WebSocket> sockets = new ArrayList<>();
+    private final LongAdder messages = new LongAdder();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    StompSubscribers(HttpClient http, URI baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.http = http;
+        this.endpoint = URI.create(baseUrl.toString().replaceFirst("^http", "ws") + "/ws");
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    void connect(int count) {
+        List<CompletableFuture<WebSocket>> connecting = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            connecting.add(http.newWebSocketBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .buildAsync(endpoint, new FrameListener("sub-" + i)));
+        }
+        for (CompletableFuture<WebSocket> future : connecting) {
+            try {
+                sockets.add(future.get(15, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    void resetCounters() {
+        messages.reset();
+    }
+
+    int connected() {
+        return sockets.size();
+    }
+
+    int failed() {
+        return failed.get();
+    }
+
+    long messages() {
+        return messages.sum();
+    }
+
+    @Override
+    public void close() {
+        for (WebSocket socket : sockets) {
+            socket.sendText("DISCONNECT\n\n" + NULL, true)
+                    .thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, "done"))
+                    .exceptionally(error -> null);
+        }
+    }
+
+    private final class FrameListener implements WebSocket.Listener {
+
+        private final String subscriptionId;
+        private final StringBuilder buffer = new StringBuilder();
+
+        private FrameListener(String subscriptionId) {
+            this.subscriptionId = subscriptionId;
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            webSocket.sendText("CONNECT\naccept-version:1.2\nhost:" + endpoint.getHost() + "\n\n" + NULL, true)
+                    .thenCompose(ws -> ws.sendText("SUBSCRIBE\nid:" + subscriptionId
+                            + "\ndestination:/topic/workflow-events\n\n" + NULL, true));
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            int end;
+            while ((end = buffer.indexOf(String.valueOf(NULL))) >= 0) {
+                handleFrame(buffer.substring(0, end));
+                buffer.delete(0, end + 1);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            failed.incrementAndGet();
+        }
+
+        private void handleFrame(String frame) {
+            String trimmed = frame.stripLeading();
+            if (!trimmed.startsWith("MESSAGE")) {
+                return;
+            }
+            messages.increment();
+            int bodyStart = trimmed.indexOf("\n\n");
+            if (bodyStart < 0) {
+                return;
+            }
+            try {
+                JsonNode event = objectMapper.readTree(trimmed.substring(bodyStart + 2));
+                if (event.hasNonNull("timestamp")) {
+                    LocalDateTime published = LocalDateTime.parse(event.get("timestamp").asText());
+                    long nanos = Duration.between(published, LocalDateTime.now()).toNanos();
+                    if (nanos >= 0) {
+                        recorder.record(DELIVERY_OPERATION, nanos);
+                    }
+                }
+            } catch (Exception ignored) {
+                // Non-JSON bodies still count as delivered messages.
+            }
+        }
+    }
+}
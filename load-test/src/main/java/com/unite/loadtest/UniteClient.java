@@ -0,0 +1,115 @@
+package com.unite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+final class UniteClient {
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final String definitions;
+    private final String executions;
+
+    /**
+     * {@code apiPrefix} is {@code /api/v1} for the servlet API or {@code /api/v1/reactive} for the reactive one.
+     */
+    UniteClient(HttpClient http, URI baseUrl, ObjectMapper objectMapper, String apiPrefix) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.definitions = apiPrefix + "/workflow-definitions";
+        this.executions = apiPrefix + "/workflow-executions";
+    }
+
+    String createDefinition(String name, String version, JsonNode definitionJson) throws IOException {
+        return send("POST", definitions, definition(name, version, definitionJson)).path("id").asText();
+    }
+
+    void getDefinition(String id) throws IOException {
+        send("GET", definitions + "/" + id, null);
+    }
+
+    String updateDefinition(String id, String name, String version, JsonNode definitionJson) throws IOException {
+        return send("PUT", definitions + "/" + id, definition(name, version, definitionJson)).path("id").asText(id);
+    }
+
+    void deleteDefinition(String id) throws IOException {
+        send("DELETE", definitions + "/" + id, null);
+    }
+
+    String startSync(String definitionId, Map<String, Object> variables) throws IOException {
+        return send("POST", executions, execution(definitionId, variables)).path("id").asText(null);
+    }
+
+    void startAsync(String definitionId, Map<String, Object> variables) throws IOException {
+        send("POST", executions + "?async=true", execution(definitionId, variables));
+    }
+
+    void startBatch(String definitionId, Map<String, Object> variables, int size) throws IOException {
+        ArrayNode batch = objectMapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            batch.add(execution(definitionId, variables));
+        }
+        send("POST", executions + "/batch", batch);
+    }
+
+    void getExecution(String id) throws IOException {
+        send("GET", executions + "/" + id, null);
+    }
+
+    private ObjectNode definition(String name, String version, JsonNode definitionJson) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("name", name);
+        body.put("version", version);
+        body.put("description", "Created by the U-N-I-T-E load generator");
+        body.set("definitionJson", definitionJson);
+        body.put("active", true);
+        body.put("createdBy", "load-test");
+        body.put("tags", "load-test");
+        return body;
+    }
+
+    private ObjectNode execution(String definitionId, Map<String, Object> variables) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("workflowDefinitionId", definitionId);
+        body.set("inputVariables", objectMapper.valueToTree(variables));
+        return body;
+    }
+
+    private JsonNode send(String method, String path, JsonNode body) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling " + method + " " + path, e);
+        }
+
+        if (response.statusCode() >= 300) {
+            throw new IOException(method + " " + path + " returned " + response.statusCode());
+        }
+        byte[] payload = response.body();
+        return payload.length == 0 ? objectMapper.missingNode() : objectMapper.readTree(payload);
+    }
+}
@@ -0,0 +1,110 @@
+package com.unite.actuator;
+
+import com.unite.config.FlightRecorderProperties;
+import com.unite.dto.FlightRecordingStatus;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Controls a single on-demand Java Flight Recorder recording. {@code POST start|stop} manages the recording
+ * and {@code GET dump} downloads what has been recorded so far; only the most recent dump is kept on disk.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private static final DateTimeFormatter DUMP_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private final FlightRecorderProperties properties;
+
+    private Recording recording;
+    private String recordingSettings;
+    private Path lastDump;
+
+    @ReadOperation
+    public synchronized FlightRecordingStatus status() {
+        if (recording == null) {
+            return FlightRecordingStatus.builder().state("NONE").build();
+        }
+        return FlightRecordingStatus.builder()
+                .state(recording.getState().name())
+                .name(recording.getName())
+                .settings(recordingSettings)
+                .startedAt(recording.getStartTime())
+                .stoppedAt(recording.getStopTime())
+                .maxAge(recording.getMaxAge())
+                .sizeBytes(recording.getSize())
+                .lastDump(lastDump != null ? lastDump.toString() : null)
+                .build();
+    }
+
+    @WriteOperation
+    public synchronized FlightRecordingStatus control(@Selector String action, @Nullable String settings)
+            throws Exception {
+        switch (action) {
+            case "start" -> start(settings != null ? settings : properties.getSettings());
+            case "stop" -> {
+                if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                    recording.stop();
+                    log.info("Stopped flight recording {}", recording.getName());
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown flight recorder action: " + action);
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String action) throws IOException {
+        if (!"dump".equals(action)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording == null || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Files.createDirectories(properties.getDumpDirectory());
+        if (lastDump != null) {
+            Files.deleteIfExists(lastDump);
+        }
+        lastDump = properties.getDumpDirectory().resolve("unite-" + DUMP_NAME.format(Instant.now()) + ".jfr");
+        recording.dump(lastDump);
+        log.info("Dumped flight recording {} to {}", recording.getName(), lastDump);
+        return new WebEndpointResponse<>(new FileSystemResource(lastDump));
+    }
+
+    private void start(String settings) throws Exception {
+        if (recording != null) {
+            recording.close();
+        }
+        recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName("unite-" + DUMP_NAME.format(Instant.now()));
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setToDisk(true);
+        recording.start();
+        recordingSettings = settings;
+        log.info("Started flight recording {} with '{}' settings", recording.getName(), settings);
+    }
+}
@@ -0,0 +1,27 @@
+package com.unite.actuator;
+
+import com.unite.dto.RecoveryReport;
+import com.unite.service.ExecutionRecoveryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "recovery")
+@RequiredArgsConstructor
+public class RecoveryEndpoint {
+
+    private final ExecutionRecoveryService recoveryService;
+
+    @ReadOperation
+    public RecoveryReport progress() {
+        return recoveryService.getReport();
+    }
+
+    @WriteOperation
+    public RecoveryReport recover() {
+        return recoveryService.startRecovery();
+    }
+}
@@ -1,7 +1,11 @@
 package com.unite.config;
 
+import com.unite.jfr.JfrTaskDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
@@ -17,6 +21,7 @@ public class AsyncConfig {
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("workflow-exec-");
+        executor.setTaskDecorator(decorator("workflowExecutor"));
         executor.initialize();
         return executor;
     }
@@ -24,6 +29,17 @@ public class AsyncConfig {
 
     @Bean(name = "virtualExecutor")
     Executor virtualExecutor() {
-        return Executors.newVirtualThreadPerTaskExecutor();
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+        executor.setTaskDecorator(decorator("virtualExecutor"));
+        return executor;
+    }
+
+    /**
+     * Carries the submitter's trace context onto the worker thread and records queue wait in JFR.
+     */
+    private static TaskDecorator decorator(String executorName) {
+        TaskDecorator context = new ContextPropagatingTaskDecorator();
+        TaskDecorator jfr = new JfrTaskDecorator(executorName);
+        return runnable -> jfr.decorate(context.decorate(runnable));
     }
 }
@@ -0,0 +1,55 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "unite.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private KeyType keyBy = KeyType.DEFINITION;
+
+    /**
+     * Limits for keys without an entry in {@code bulkheads}.
+     */
+    private Limits defaults = new Limits();
+
+    /**
+     * Per-key limits: tenant ids, definition names or tags, depending on {@code keyBy}.
+     */
+    private Map<String, Limits> bulkheads = new LinkedHashMap<>();
+
+    /**
+     * Keys beyond this many share the {@code default} bulkhead, which bounds pools and metric cardinality.
+     */
+    private int maxBulkheads = 1000;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Data
+    public static class Limits {
+
+        private int maxConcurrent = 16;
+
+        private OverflowPolicy overflow = OverflowPolicy.WAIT;
+
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    public enum KeyType {
+        TENANT,
+        DEFINITION,
+        TAG
+    }
+
+    public enum OverflowPolicy {
+        REJECT,
+        WAIT
+    }
+}
@@ -0,0 +1,46 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 500;
+
+    /**
+     * Fraction of the newly computed limit applied per sample.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * How far short-term latency may exceed the long-term average before the limit starts shrinking.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Number of samples the long-term latency average spans.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Multiplicative decrease applied when a call fails with an overload error (timeouts, pool exhaustion).
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Engine callbacks are not rejected; they wait this long for a permit and then run regardless.
+     */
+    private Duration callbackMaxWait = Duration.ofSeconds(1);
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
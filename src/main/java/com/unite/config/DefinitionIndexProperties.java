@@ -0,0 +1,17 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.definitions.index")
+public class DefinitionIndexProperties {
+
+    /**
+     * How long the indexed versions of a name are trusted before they are reloaded, to pick up versions
+     * created, activated or deactivated on other nodes.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
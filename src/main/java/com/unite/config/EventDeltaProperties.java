@@ -0,0 +1,22 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.events.delta")
+public class EventDeltaProperties {
+
+    private boolean enabled = false;
+
+    private int snapshotInterval = 20;
+
+    private int maxTrackedExecutions = 100_000;
+
+    /**
+     * Executions without an event for this long are dropped from tracking once the limit above is reached.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+}
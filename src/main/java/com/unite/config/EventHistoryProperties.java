@@ -0,0 +1,36 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.events.history")
+public class EventHistoryProperties {
+
+    private boolean enabled = true;
+
+    private int queueCapacity = 100_000;
+
+    private int batchSize = 1000;
+
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    private int defaultPageSize = 100;
+
+    private int maxPageSize = 1000;
+
+    private boolean partitioned = false;
+
+    private int partitionsAhead = 3;
+
+    private Duration retention = Duration.ofDays(30);
+
+    public int resolvePageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
@@ -0,0 +1,13 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "unite.export")
+public class ExportProperties {
+
+    private int fetchSize = 5_000;
+
+    private int bufferSize = 64 * 1024;
+}
@@ -0,0 +1,26 @@
+package com.unite.config;
+
+import com.unite.controller.WorkflowDefinitionController;
+import com.unite.controller.WorkflowExecutionController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The {@code fast-start} profile turns on lazy initialization. The definition and execution controllers stay
+ * eager, and with them everything a workflow start needs (JPA, the engine, event publishing), so the first
+ * request does not pay for that bootstrap. Export, reactive, dead letter, flight recorder and actuator beans
+ * are created on first use. Startup work that listens for {@code ApplicationReadyEvent} still runs, because
+ * the event creates its listeners.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter workflowStartPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(WorkflowDefinitionController.class,
+                WorkflowExecutionController.class);
+    }
+}
@@ -0,0 +1,21 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.jfr")
+public class FlightRecorderProperties {
+
+    private String settings = "profile";
+
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "unite-jfr");
+}
@@ -0,0 +1,125 @@
+package com.unite.config;
+
+import com.unite.storage.journal.JournalOptions;
+import com.unite.storage.journal.JournalWorkflowStorage;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Registers a {@link JournalWorkflowStorage} bean named {@code <engine>JournalStorage} for every
+ * {@code workflow.engines[]} entry whose {@code storage.type} is {@code journal}.
+ * <p>
+ * With a single journal engine its bean is primary, so a starter that injects its engine storage as a
+ * {@code CommonService} gets the journal. Whether the engine really ended up on the journal is checked by
+ * {@link JournalStorageVerifier}, which fails startup (or the first start) otherwise.
+ */
+@Configuration
+public class JournalStorageConfig {
+
+    public static final String STORAGE_TYPE = "journal";
+
+    /**
+     * Segments are mapped whole into one {@code MappedByteBuffer}, which is int-indexed.
+     */
+    static final DataSize MIN_SEGMENT_SIZE = DataSize.ofMegabytes(1);
+    static final DataSize MAX_SEGMENT_SIZE = DataSize.ofGigabytes(1);
+
+    @Bean
+    static JournalStorageRegistrar journalStorageRegistrar() {
+        return new JournalStorageRegistrar();
+    }
+
+    @Slf4j
+    static class JournalStorageRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware {
+
+        private Environment environment;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+            List<EngineDefinition> engines = Binder.get(environment)
+                    .bind("workflow.engines", Bindable.listOf(EngineDefinition.class))
+                    .orElse(List.of())
+                    .stream()
+                    .filter(engine -> STORAGE_TYPE.equalsIgnoreCase(engine.getStorage().getType()))
+                    .toList();
+
+            for (EngineDefinition engine : engines) {
+                StorageDefinition storage = engine.getStorage();
+                JournalSettings journal = storage.getJournal();
+                JournalOptions options = new JournalOptions(
+                        segmentSizeBytes(engine.getName(), journal.getSegmentSize()),
+                        journal.getGroupCommitInterval(),
+                        journal.isSyncWrites(),
+                        journal.getCompactionThreshold());
+
+                registry.registerBeanDefinition(engine.getName() + "JournalStorage",
+                        BeanDefinitionBuilder.genericBeanDefinition(JournalWorkflowStorage.class)
+                                .addConstructorArgValue(engine.getName())
+                                .addConstructorArgValue(Path.of(storage.getFilePath()))
+                                .addConstructorArgValue(options)
+                                .addConstructorArgValue(journal.getCompactionInterval())
+                                .addConstructorArgReference("objectMapper")
+                                .setInitMethodName("open")
+                                .setDestroyMethodName("close")
+                                .setPrimary(engines.size() == 1)
+                                .getBeanDefinition());
+                log.info("Registered journal storage for workflow engine '{}'", engine.getName());
+            }
+        }
+
+        static int segmentSizeBytes(String engineName, DataSize segmentSize) {
+            if (segmentSize.compareTo(MIN_SEGMENT_SIZE) < 0 || segmentSize.compareTo(MAX_SEGMENT_SIZE) > 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Journal segment-size of workflow engine '%s' must be between %s and %s, was %s",
+                        engineName, MIN_SEGMENT_SIZE, MAX_SEGMENT_SIZE, segmentSize));
+            }
+            return Math.toIntExact(segmentSize.toBytes());
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        }
+    }
+
+    @Data
+    public static class EngineDefinition {
+        private String name;
+        private StorageDefinition storage = new StorageDefinition();
+    }
+
+    @Data
+    public static class StorageDefinition {
+        private String type;
+        private String filePath = "./workflow-data";
+        private JournalSettings journal = new JournalSettings();
+    }
+
+    @Data
+    public static class JournalSettings {
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+        private Duration groupCommitInterval = Duration.ofMillis(2);
+        private boolean syncWrites = true;
+        private double compactionThreshold = 0.5;
+        private Duration compactionInterval = Duration.ofMinutes(5);
+    }
+}
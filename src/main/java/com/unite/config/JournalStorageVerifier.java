@@ -0,0 +1,59 @@
+package com.unite.config;
+
+import com.anode.workflow.service.CommonService;
+import com.unite.storage.journal.JournalWorkflowStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Refuses to run when journal storage is configured but the engine is on another storage. At startup, any
+ * {@code CommonService} bean besides the journal ones means the starter built storage of its own. After the
+ * first engine start, a journal that received no write means the engine persisted the case elsewhere; that
+ * start and every later one fail until the configuration is fixed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JournalStorageVerifier implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+
+    private Map<String, JournalWorkflowStorage> journals = Map.of();
+    private volatile boolean verified;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        journals = beanFactory.getBeansOfType(JournalWorkflowStorage.class);
+        if (journals.isEmpty()) {
+            verified = true;
+            return;
+        }
+        List<String> others = Arrays.stream(beanFactory.getBeanNamesForType(CommonService.class, true, false))
+                .filter(name -> !journals.containsKey(name))
+                .toList();
+        if (!others.isEmpty()) {
+            throw new IllegalStateException("Journal storage is configured (" + journals.keySet()
+                    + ") but the workflow engine storage " + others + " was created as well; the engine would not"
+                    + " store cases in the journal");
+        }
+    }
+
+    public void afterEngineStart(String caseId) {
+        if (verified) {
+            return;
+        }
+        if (journals.values().stream().noneMatch(JournalWorkflowStorage::hasWrites)) {
+            throw new IllegalStateException("Journal storage is configured (" + journals.keySet()
+                    + ") but the workflow engine persisted case " + caseId + " elsewhere");
+        }
+        verified = true;
+        log.info("Verified that the workflow engine stores cases in journal storage {}", journals.keySet());
+    }
+}
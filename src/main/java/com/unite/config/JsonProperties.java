@@ -0,0 +1,11 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "unite.json")
+public class JsonProperties {
+
+    private boolean rawPassthrough = true;
+}
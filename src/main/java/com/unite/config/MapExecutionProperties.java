@@ -0,0 +1,29 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.map")
+public class MapExecutionProperties {
+
+    private int defaultParallelism = 16;
+
+    private int maxParallelism = 256;
+
+    private int maxCollectedResults = 10_000;
+
+    /**
+     * How long an item waits for its execution to finish before it is reported as unfinished.
+     */
+    private Duration completionTimeout = Duration.ofMinutes(10);
+
+    public int resolveParallelism(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultParallelism;
+        }
+        return Math.min(requested, maxParallelism);
+    }
+}
@@ -0,0 +1,13 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "unite.profiling")
+public class ProfilingProperties {
+
+    private boolean enabled = true;
+
+    private int maxTrackedCases = 100_000;
+}
@@ -0,0 +1,32 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.reactive")
+public class ReactiveProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Threads that run the blocking service calls behind the reactive endpoints. Calls beyond them wait in a
+     * queue of {@code bridgeQueueCapacity}; past that they are rejected with 503.
+     */
+    private int bridgeThreads = 10 * Runtime.getRuntime().availableProcessors();
+
+    private int bridgeQueueCapacity = 100_000;
+
+    /**
+     * Events buffered per stream subscriber; a subscriber that falls further behind loses the oldest ones.
+     */
+    private int eventBuffer = 1024;
+
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    private int batchConcurrency = 16;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,28 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.recovery")
+public class RecoveryProperties {
+
+    private boolean enabled = true;
+
+    private int pageSize = 500;
+
+    private int concurrency = 32;
+
+    private boolean blockReadiness = false;
+
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    /**
+     * How long a node may miss heartbeats before its executions are resumed elsewhere.
+     */
+    private Duration leaseTimeout = Duration.ofMinutes(1);
+
+    private Duration scanInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,24 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection settings for the replica are bound separately, from {@code unite.replica.datasource} (and its
+ * {@code hikari} block), the same way {@code spring.datasource} is for the primary.
+ */
+@Data
+@ConfigurationProperties(prefix = "unite.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * How long reads of something this node just wrote keep going to the primary, to cover replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private int maxTrackedWrites = 100_000;
+}
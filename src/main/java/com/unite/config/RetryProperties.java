@@ -0,0 +1,49 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "unite.retry")
+public class RetryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Policy for definitions without an entry in {@code policies}.
+     */
+    private Policy defaults = new Policy();
+
+    /**
+     * Per-definition policies, keyed by definition name and shared by all of its versions.
+     */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    /**
+     * Upper bound on dead letters moved back to the start queue by one replay request.
+     */
+    private int maxReplayBatch = 10_000;
+
+    public Policy policyFor(String definitionName) {
+        return definitionName != null ? policies.getOrDefault(definitionName, defaults) : defaults;
+    }
+
+    @Data
+    public static class Policy {
+
+        /**
+         * Total attempts including the first; 1 disables retries and dead-letters the first failure.
+         */
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofSeconds(5);
+
+        private double multiplier = 2.0;
+
+        private Duration maxBackoff = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,29 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.scheduling")
+public class SchedulingProperties {
+
+    private boolean enabled = true;
+
+    private Duration tick = Duration.ofMillis(100);
+
+    private int wheelSize = 512;
+
+    private Duration horizon = Duration.ofMinutes(10);
+
+    private Duration loadInterval = Duration.ofMinutes(1);
+
+    private int loadBatchSize = 5000;
+
+    private Duration jitter = Duration.ofSeconds(5);
+
+    private int maxConcurrentStarts = 64;
+
+    private Duration claimTimeout = Duration.ofMinutes(5);
+}
@@ -0,0 +1,22 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "unite.search")
+public class SearchProperties {
+
+    private double similarityThreshold = 0.3;
+
+    private int defaultLimit = 50;
+
+    private int maxLimit = 500;
+
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
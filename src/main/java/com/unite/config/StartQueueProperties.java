@@ -0,0 +1,29 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.start-queue")
+public class StartQueueProperties {
+
+    private boolean enabled = true;
+
+    private int workers = 4;
+
+    private int batchSize = 32;
+
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    private Duration maxPollInterval = Duration.ofSeconds(2);
+
+    private Duration visibilityTimeout = Duration.ofMinutes(5);
+
+    private int maxAttempts = 5;
+
+    private Duration retryBackoff = Duration.ofSeconds(10);
+
+    private Duration metricsInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,24 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "unite.timeouts")
+public class TimeoutProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Applies to executions whose request and definition set no timeout; none when unset.
+     */
+    private Duration defaultTimeout;
+
+    private Duration maxTimeout = Duration.ofHours(24);
+
+    private Duration tick = Duration.ofMillis(100);
+
+    private int wheelSize = 512;
+}
@@ -0,0 +1,24 @@
+package com.unite.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.tracing.JsonLinesSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Picked up by the OpenTelemetry auto-configuration next to the OTLP exporter; intended for local runs
+     * and tests where no collector is available.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "unite.tracing", name = "file-export", havingValue = "true")
+    JsonLinesSpanExporter jsonLinesSpanExporter(TracingProperties properties, ObjectMapper objectMapper)
+            throws IOException {
+        return new JsonLinesSpanExporter(properties.getFilePath(), objectMapper);
+    }
+}
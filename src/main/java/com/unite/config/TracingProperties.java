@@ -0,0 +1,15 @@
+package com.unite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Data
+@ConfigurationProperties(prefix = "unite.tracing")
+public class TracingProperties {
+
+    private boolean fileExport = false;
+
+    private Path filePath = Path.of("spans.jsonl");
+}
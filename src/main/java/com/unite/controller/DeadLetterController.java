@@ -0,0 +1,36 @@
+package com.unite.controller;
+
+import com.unite.dto.DeadLetterReplayResult;
+import com.unite.dto.DeadLetterResponse;
+import com.unite.service.retry.DeadLetterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping
+    public ResponseEntity<List<DeadLetterResponse>> getDeadLetters(
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /api/v1/dead-letters - definitionId: {}, limit: {}", definitionId, limit);
+        return ResponseEntity.ok(deadLetterService.list(definitionId, limit));
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayResult> replay(
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(defaultValue = "1000") int limit) {
+        log.info("POST /api/v1/dead-letters/replay - definitionId: {}, limit: {}", definitionId, limit);
+        return ResponseEntity.ok(deadLetterService.replay(definitionId, limit));
+    }
+}
@@ -0,0 +1,65 @@
+package com.unite.controller;
+
+import com.unite.dto.WorkflowDefinitionRequest;
+import com.unite.dto.WorkflowDefinitionResponse;
+import com.unite.service.WorkflowDefinitionService;
+import com.unite.service.reactive.BlockingBridge;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/reactive/workflow-definitions")
+@ConditionalOnProperty(prefix = "unite.reactive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveWorkflowDefinitionController {
+
+    private final WorkflowDefinitionService workflowDefinitionService;
+    private final BlockingBridge bridge;
+
+    @PostMapping
+    public Mono<ResponseEntity<WorkflowDefinitionResponse>> createWorkflowDefinition(
+            @Valid @RequestBody WorkflowDefinitionRequest request) {
+        log.info("POST /api/v1/reactive/workflow-definitions - Creating workflow definition: {}", request.getName());
+        return bridge.call(() -> workflowDefinitionService.createWorkflowDefinition(request))
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<WorkflowDefinitionResponse> getWorkflowDefinition(@PathVariable String id) {
+        log.debug("GET /api/v1/reactive/workflow-definitions/{}", id);
+        return bridge.call(() -> workflowDefinitionService.getWorkflowDefinition(id));
+    }
+
+    @GetMapping
+    public Mono<List<WorkflowDefinitionResponse>> getAllWorkflowDefinitions(
+            @RequestParam(required = false) Boolean active) {
+        log.debug("GET /api/v1/reactive/workflow-definitions - active: {}", active);
+        return bridge.call(() -> active != null && active
+                ? workflowDefinitionService.getActiveWorkflowDefinitions()
+                : workflowDefinitionService.getAllWorkflowDefinitions());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<WorkflowDefinitionResponse> updateWorkflowDefinition(
+            @PathVariable String id,
+            @Valid @RequestBody WorkflowDefinitionRequest request) {
+        log.info("PUT /api/v1/reactive/workflow-definitions/{}", id);
+        return bridge.call(() -> workflowDefinitionService.updateWorkflowDefinition(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteWorkflowDefinition(@PathVariable String id) {
+        log.info("DELETE /api/v1/reactive/workflow-definitions/{}", id);
+        return bridge.run(() -> workflowDefinitionService.deleteWorkflowDefinition(id))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.unite.controller;
+
+import com.unite.config.ReactiveProperties;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.dto.WorkflowExecutionResponse;
+import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowStartQueueEntity;
+import com.unite.service.WorkflowExecutionService;
+import com.unite.service.definitions.DefinitionVersionIndex;
+import com.unite.service.queue.StartQueueService;
+import com.unite.service.reactive.BlockingBridge;
+import com.unite.service.reactive.ReactiveEventStream;
+import com.unite.service.scheduling.ScheduledStartService;
+import com.unite.service.validation.InputSchemaValidator;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Same operations as {@link WorkflowExecutionController}, but the request thread is handed back while the
+ * blocking work runs on the {@link BlockingBridge}, and events are streamed as server-sent events.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/workflow-executions")
+@ConditionalOnProperty(prefix = "unite.reactive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveWorkflowExecutionController {
+
+    private final WorkflowExecutionService workflowExecutionService;
+    private final ScheduledStartService scheduledStartService;
+    private final StartQueueService startQueueService;
+    private final DefinitionVersionIndex versionIndex;
+    private final InputSchemaValidator inputSchemaValidator;
+    private final BlockingBridge bridge;
+    private final ReactiveEventStream eventStream;
+    private final ReactiveProperties properties;
+
+    @PostMapping
+    public Mono<ResponseEntity<WorkflowExecutionResponse>> executeWorkflow(
+            @Valid @RequestBody WorkflowExecutionRequest request,
+            @RequestParam(defaultValue = "false") boolean async) {
+        log.debug("POST /api/v1/reactive/workflow-executions - Executing workflow: {} (async: {})",
+                request.getWorkflowDefinitionId(), async);
+        return bridge.call(() -> {
+            resolveDefinition(request);
+            inputSchemaValidator.validate(request.getWorkflowDefinitionId(), request.getInputVariables());
+
+            if (request.getStartAt() != null || request.getDelay() != null) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(scheduledStartService.schedule(request));
+            } else if (async) {
+                WorkflowStartQueueEntity queued = startQueueService.enqueue(request);
+                WorkflowExecutionResponse response = WorkflowExecutionResponse.builder()
+                        .workflowDefinitionId(queued.getWorkflowDefinitionId())
+                        .caseId(queued.getCaseId())
+                        .status(WorkflowExecutionEntity.ExecutionStatus.PENDING)
+                        .build();
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            } else {
+                WorkflowExecutionResponse response = workflowExecutionService.executeWorkflow(request);
+                return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            }
+        });
+    }
+
+    /**
+     * Validates the whole batch first, then runs at most {@code batchConcurrency} starts at a time. Results
+     * come back in request order.
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<WorkflowExecutionResponse>>> executeWorkflows(
+            @Valid @RequestBody List<WorkflowExecutionRequest> requests) {
+        log.info("POST /api/v1/reactive/workflow-executions/batch - Executing {} workflows", requests.size());
+        return bridge.run(() -> {
+                    requests.forEach(this::resolveDefinition);
+                    inputSchemaValidator.validateAll(requests);
+                })
+                .thenMany(Flux.fromIterable(requests))
+                .flatMapSequential(request -> bridge.call(() -> workflowExecutionService.executeWorkflow(request))
+                                .onErrorResume(e -> {
+                                    log.error("Error executing workflow in batch: {}", e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        properties.getBatchConcurrency())
+                .collectList()
+                .map(responses -> ResponseEntity.status(HttpStatus.CREATED).body(responses));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<WorkflowExecutionResponse> getExecution(@PathVariable String id) {
+        log.debug("GET /api/v1/reactive/workflow-executions/{}", id);
+        return bridge.call(() -> workflowExecutionService.getExecution(id));
+    }
+
+    @GetMapping
+    public Mono<List<WorkflowExecutionResponse>> getExecutions(@RequestParam String definitionId) {
+        log.debug("GET /api/v1/reactive/workflow-executions - definitionId: {}", definitionId);
+        return bridge.call(() -> workflowExecutionService.getExecutionsByDefinition(definitionId));
+    }
+
+    /**
+     * Live events as server-sent events, optionally narrowed to one execution or definition. A comment is sent
+     * right away and then every {@code heartbeat} so proxies keep idle streams open.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<WorkflowEventMessage>> streamEvents(
+            @RequestParam(required = false) String executionId,
+            @RequestParam(required = false) String definitionId) {
+        log.debug("GET /api/v1/reactive/workflow-executions/events - executionId: {}, definitionId: {}",
+                executionId, definitionId);
+        Flux<ServerSentEvent<WorkflowEventMessage>> events = eventStream.events(executionId, definitionId)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(event.getEventId())
+                        .event(String.valueOf(event.getEventType()))
+                        .build());
+        Flux<ServerSentEvent<WorkflowEventMessage>> heartbeats = Flux.interval(Duration.ZERO, properties.getHeartbeat())
+                .map(tick -> ServerSentEvent.<WorkflowEventMessage>builder().comment("heartbeat").build())
+                .onBackpressureDrop();
+        return Flux.merge(events, heartbeats);
+    }
+
+    private void resolveDefinition(WorkflowExecutionRequest request) {
+        request.setWorkflowDefinitionId(versionIndex.resolve(request.getWorkflowDefinitionId(),
+                request.getWorkflowDefinitionName(), request.getWorkflowDefinitionVersion()));
+    }
+}
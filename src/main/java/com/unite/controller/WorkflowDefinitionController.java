@@ -1,8 +1,13 @@
 package com.unite.controller;
 
+import com.unite.dto.StepProfileResponse;
 import com.unite.dto.WorkflowDefinitionRequest;
 import com.unite.dto.WorkflowDefinitionResponse;
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.dto.WorkflowDefinitionSearchResult;
 import com.unite.service.WorkflowDefinitionService;
+import com.unite.service.projection.FieldProjectionService;
+import com.unite.service.projection.FieldSelection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/workflow-definitions")
@@ -19,6 +25,7 @@ import java.util.List;
 public class WorkflowDefinitionController {
 
     private final WorkflowDefinitionService workflowDefinitionService;
+    private final FieldProjectionService fieldProjectionService;
 
     @PostMapping
     public ResponseEntity<WorkflowDefinitionResponse> createWorkflowDefinition(
@@ -35,6 +42,14 @@ public class WorkflowDefinitionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getWorkflowDefinitionFields(
+            @PathVariable String id,
+            @RequestParam String fields) {
+        log.info("GET /api/v1/workflow-definitions/{} - fields: {}", id, fields);
+        return ResponseEntity.ok(fieldProjectionService.definition(id, FieldSelection.definitions(fields)));
+    }
+
     @GetMapping
     public ResponseEntity<List<WorkflowDefinitionResponse>> getAllWorkflowDefinitions(
             @RequestParam(required = false) Boolean active,
@@ -54,6 +69,43 @@ public class WorkflowDefinitionController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllWorkflowDefinitionFields(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String search,
+            @RequestParam String fields) {
+        log.info("GET /api/v1/workflow-definitions - active: {}, search: {}, fields: {}", active, search, fields);
+        return ResponseEntity.ok(fieldProjectionService.definitions(active, search,
+                FieldSelection.definitions(fields)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<WorkflowDefinitionSearchResult>> searchWorkflowDefinitions(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String version,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/workflow-definitions/search - q: {}, tag: {}, active: {}, version: {}",
+                q, tag, active, version);
+
+        WorkflowDefinitionSearchCriteria criteria = WorkflowDefinitionSearchCriteria.builder()
+                .query(q)
+                .tag(tag)
+                .active(active)
+                .version(version)
+                .limit(limit)
+                .build();
+
+        return ResponseEntity.ok(workflowDefinitionService.search(criteria));
+    }
+
+    @GetMapping("/{id}/step-profile")
+    public ResponseEntity<StepProfileResponse> getStepProfile(@PathVariable String id) {
+        log.info("GET /api/v1/workflow-definitions/{}/step-profile", id);
+        return ResponseEntity.ok(workflowDefinitionService.getStepProfile(id));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<WorkflowDefinitionResponse> updateWorkflowDefinition(
             @PathVariable String id,
@@ -0,0 +1,34 @@
+package com.unite.controller;
+
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.dto.WorkflowEventPage;
+import com.unite.service.events.EventHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/workflow-events")
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowEventController {
+
+    private final EventHistoryService eventHistoryService;
+
+    @GetMapping
+    public ResponseEntity<WorkflowEventPage> getEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(required = false) WorkflowEventMessage.EventType eventType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/workflow-events - from: {}, to: {}, definitionId: {}, eventType: {}",
+                from, to, definitionId, eventType);
+        return ResponseEntity.ok(eventHistoryService.range(from, to, definitionId, eventType, cursor, limit));
+    }
+}
@@ -1,18 +1,45 @@
 package com.unite.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.dto.ExecutionExportCriteria;
+import com.unite.dto.MapExecutionSummary;
+import com.unite.dto.WorkflowEventPage;
 import com.unite.dto.WorkflowExecutionRequest;
 import com.unite.dto.WorkflowExecutionResponse;
 import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowStartQueueEntity;
 import com.unite.service.WorkflowExecutionService;
+import com.unite.service.definitions.DefinitionVersionIndex;
+import com.unite.service.events.EventHistoryService;
+import com.unite.service.export.ExecutionExportService;
+import com.unite.service.export.ExportFormat;
+import com.unite.service.map.MapExecutionService;
+import com.unite.service.projection.FieldProjectionService;
+import com.unite.service.projection.FieldSelection;
+import com.unite.service.queue.StartQueueService;
+import com.unite.service.scheduling.ScheduledStartService;
+import com.unite.service.validation.InputSchemaValidator;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 @RestController
@@ -22,19 +49,33 @@ import java.util.concurrent.CompletableFuture;
 public class WorkflowExecutionController {
 
     private final WorkflowExecutionService workflowExecutionService;
+    private final ScheduledStartService scheduledStartService;
+    private final StartQueueService startQueueService;
+    private final EventHistoryService eventHistoryService;
+    private final MapExecutionService mapExecutionService;
+    private final DefinitionVersionIndex versionIndex;
+    private final FieldProjectionService fieldProjectionService;
+    private final ExecutionExportService executionExportService;
+    private final InputSchemaValidator inputSchemaValidator;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<WorkflowExecutionResponse> executeWorkflow(
             @Valid @RequestBody WorkflowExecutionRequest request,
             @RequestParam(defaultValue = "false") boolean async) {
+        resolveDefinition(request);
         log.info("POST /api/v1/workflow-executions - Executing workflow: {} (async: {})",
                 request.getWorkflowDefinitionId(), async);
+        inputSchemaValidator.validate(request.getWorkflowDefinitionId(), request.getInputVariables());
 
-        if (async) {
-            workflowExecutionService.executeWorkflowAsync(request);
+        if (request.getStartAt() != null || request.getDelay() != null) {
+            WorkflowExecutionResponse response = scheduledStartService.schedule(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } else if (async) {
+            WorkflowStartQueueEntity queued = startQueueService.enqueue(request);
             WorkflowExecutionResponse response = WorkflowExecutionResponse.builder()
-                    .workflowDefinitionId(request.getWorkflowDefinitionId())
-                    .caseId(request.getCaseId())
+                    .workflowDefinitionId(queued.getWorkflowDefinitionId())
+                    .caseId(queued.getCaseId())
                     .status(WorkflowExecutionEntity.ExecutionStatus.PENDING)
                     .build();
             return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
@@ -49,6 +90,9 @@ public class WorkflowExecutionController {
             @Valid @RequestBody List<WorkflowExecutionRequest> requests) {
         log.info("POST /api/v1/workflow-executions/batch - Executing {} workflows in parallel", requests.size());
 
+        requests.forEach(this::resolveDefinition);
+        inputSchemaValidator.validateAll(requests);
+
         List<CompletableFuture<WorkflowExecutionResponse>> futures = new ArrayList<>();
 
         for (WorkflowExecutionRequest request : requests) {
@@ -71,6 +115,84 @@ public class WorkflowExecutionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responses);
     }
 
+    @PostMapping(value = "/map",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MapExecutionSummary> mapWorkflow(
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(required = false) String definitionName,
+            @RequestParam(required = false) String version,
+            @RequestParam(required = false) Integer parallelism,
+            @RequestParam(defaultValue = "false") boolean failFast,
+            @RequestParam(defaultValue = "true") boolean collectResults,
+            HttpServletRequest request) throws IOException {
+        definitionId = versionIndex.resolve(definitionId, definitionName, version);
+        log.info("POST /api/v1/workflow-executions/map - definition: {}, parallelism: {}", definitionId, parallelism);
+        mapExecutionService.validate(definitionId);
+
+        try (MappingIterator<Map<String, Object>> inputs = mapExecutionService.readInputs(request.getInputStream())) {
+            MapExecutionSummary summary = mapExecutionService.run(definitionId, inputs, parallelism, failFast,
+                    collectResults, null);
+            return ResponseEntity.ok(summary);
+        }
+    }
+
+    @PostMapping(value = "/map",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> mapWorkflowStreaming(
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(required = false) String definitionName,
+            @RequestParam(required = false) String version,
+            @RequestParam(required = false) Integer parallelism,
+            @RequestParam(defaultValue = "false") boolean failFast,
+            HttpServletRequest request) {
+        String resolvedId = versionIndex.resolve(definitionId, definitionName, version);
+        log.info("POST /api/v1/workflow-executions/map (streaming) - definition: {}, parallelism: {}",
+                resolvedId, parallelism);
+        mapExecutionService.validate(resolvedId);
+
+        StreamingResponseBody body = output -> {
+            try (MappingIterator<Map<String, Object>> inputs = mapExecutionService.readInputs(request.getInputStream())) {
+                MapExecutionSummary summary = mapExecutionService.run(resolvedId, inputs, parallelism, failFast,
+                        false, result -> writeLine(output, result));
+                writeLine(output, summary);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExecutions(
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(required = false) WorkflowExecutionEntity.ExecutionStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean includeVariables,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("GET /api/v1/workflow-executions/export - definitionId: {}, status: {}, from: {}, to: {}, format: {}",
+                definitionId, status, from, to, format);
+
+        ExecutionExportCriteria criteria = ExecutionExportCriteria.builder()
+                .definitionId(definitionId)
+                .status(status)
+                .from(from)
+                .to(to)
+                .includeVariables(includeVariables)
+                .build();
+        String filename = "executions." + format.extension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = output -> executionExportService.export(criteria, format, gzip, output);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<WorkflowExecutionResponse> getExecution(@PathVariable String id) {
         log.info("GET /api/v1/workflow-executions/{}", id);
@@ -78,6 +200,23 @@ public class WorkflowExecutionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getExecutionFields(
+            @PathVariable String id,
+            @RequestParam String fields) {
+        log.info("GET /api/v1/workflow-executions/{} - fields: {}", id, fields);
+        return ResponseEntity.ok(fieldProjectionService.execution(id, FieldSelection.executions(fields)));
+    }
+
+    @GetMapping("/{id}/events")
+    public ResponseEntity<WorkflowEventPage> getExecutionEvents(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/workflow-executions/{}/events - cursor: {}", id, cursor);
+        return ResponseEntity.ok(eventHistoryService.forExecution(id, cursor, limit));
+    }
+
     @GetMapping
     public ResponseEntity<List<WorkflowExecutionResponse>> getAllExecutions(
             @RequestParam(required = false) String definitionId,
@@ -97,10 +236,54 @@ public class WorkflowExecutionController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllExecutionFields(
+            @RequestParam(required = false) String definitionId,
+            @RequestParam(required = false) WorkflowExecutionEntity.ExecutionStatus status,
+            @RequestParam String fields) {
+        log.info("GET /api/v1/workflow-executions - definitionId: {}, status: {}, fields: {}",
+                definitionId, status, fields);
+        return ResponseEntity.ok(fieldProjectionService.executions(definitionId, status,
+                FieldSelection.executions(fields)));
+    }
+
     @PostMapping("/{id}/cancel")
     public ResponseEntity<WorkflowExecutionResponse> cancelExecution(@PathVariable String id) {
         log.info("POST /api/v1/workflow-executions/{}/cancel", id);
         WorkflowExecutionResponse response = workflowExecutionService.cancelExecution(id);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/cases/{caseId}/cancel")
+    public ResponseEntity<WorkflowExecutionResponse> cancelCase(@PathVariable String caseId) {
+        log.info("POST /api/v1/workflow-executions/cases/{}/cancel", caseId);
+        WorkflowExecutionResponse response = workflowExecutionService.cancelCase(caseId);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/scheduled/{caseId}")
+    public ResponseEntity<Void> cancelScheduledStart(@PathVariable String caseId) {
+        log.info("DELETE /api/v1/workflow-executions/scheduled/{}", caseId);
+        scheduledStartService.cancel(caseId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Pins a start by name to a concrete definition version up front, so queued and scheduled starts run the
+     * version that was current when they were accepted.
+     */
+    private void resolveDefinition(WorkflowExecutionRequest request) {
+        request.setWorkflowDefinitionId(versionIndex.resolve(request.getWorkflowDefinitionId(),
+                request.getWorkflowDefinitionName(), request.getWorkflowDefinitionVersion()));
+    }
 }
@@ -0,0 +1,86 @@
+package com.unite.datasource;
+
+import com.unite.config.ReplicaProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers ids written by this node for {@code readYourWritesWindow}. A read of one of them runs on the
+ * primary even inside a read-only transaction, so a client polling an execution it just started does not see
+ * the replica's older state. The window is per node; clients spread across nodes can still read stale data.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final ReplicaProperties properties;
+
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public void written(String... keys) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + properties.getReadYourWritesWindow().toNanos();
+        for (String key : keys) {
+            if (key != null) {
+                recentWrites.put(key, expiresAt);
+            }
+        }
+        if (recentWrites.size() > properties.getMaxTrackedWrites()) {
+            evictExpired();
+        }
+    }
+
+    public boolean isRecent(String key) {
+        Long expiresAt = key == null ? null : recentWrites.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - System.nanoTime() < 0) {
+            recentWrites.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs {@code read} on the primary if {@code key} was written recently. The connection is only chosen when
+     * the first statement runs, so this works from inside an already started read-only transaction.
+     */
+    public <T> T read(String key, Supplier<T> read) {
+        if (!isRecent(key) || Boolean.TRUE.equals(PRIMARY_REQUIRED.get())) {
+            return read.get();
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<String, Long>> it = recentWrites.entrySet().iterator(); it.hasNext(); ) {
+            if (it.next().getValue() - now < 0) {
+                it.remove();
+            }
+        }
+        if (recentWrites.size() > properties.getMaxTrackedWrites()) {
+            // Still full of live entries: forget them rather than grow without bound; reads fall back to the replica
+            recentWrites.clear();
+        }
+    }
+}
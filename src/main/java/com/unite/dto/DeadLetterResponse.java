@@ -0,0 +1,30 @@
+package com.unite.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.unite.model.DeadLetterEntity.DeadLetterStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterResponse {
+
+    private String id;
+    private String executionId;
+    private String workflowDefinitionId;
+    private String caseId;
+    private String tenantId;
+    private JsonNode inputVariables;
+    private Integer attempts;
+    private String errorMessage;
+    private LocalDateTime failedAt;
+    private DeadLetterStatus status;
+    private LocalDateTime replayedAt;
+    private String replayCaseId;
+}
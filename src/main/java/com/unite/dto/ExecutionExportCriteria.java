@@ -0,0 +1,22 @@
+package com.unite.dto;
+
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionExportCriteria {
+
+    private String definitionId;
+    private ExecutionStatus status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private boolean includeVariables;
+}
@@ -0,0 +1,25 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightRecordingStatus {
+
+    private String state;
+    private String name;
+    private String settings;
+    private Instant startedAt;
+    private Instant stoppedAt;
+    private Duration maxAge;
+    private long sizeBytes;
+    private String lastDump;
+}
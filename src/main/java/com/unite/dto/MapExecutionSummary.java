@@ -0,0 +1,28 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapExecutionSummary {
+
+    private String workflowDefinitionId;
+    private long submitted;
+    private long succeeded;
+    private long failed;
+    /**
+     * Items whose execution did not finish within {@code unite.map.completion-timeout}.
+     */
+    private long unfinished;
+    private boolean aborted;
+    private long durationMillis;
+    private MapItemResult firstFailure;
+    private List<MapItemResult> results;
+}
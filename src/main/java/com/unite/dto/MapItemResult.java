@@ -0,0 +1,23 @@
+package com.unite.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapItemResult {
+
+    private long index;
+    private String executionId;
+    private String caseId;
+    private ExecutionStatus status;
+    private JsonNode outputVariables;
+    private String errorMessage;
+    private long durationMillis;
+}
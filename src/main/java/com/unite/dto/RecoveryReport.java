@@ -0,0 +1,31 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecoveryReport {
+
+    private RecoveryState state;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long scanned;
+    private long resumed;
+    private long failed;
+    private long inFlight;
+    private double resumedPerSecond;
+
+    public enum RecoveryState {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepLatencyStats {
+
+    private String step;
+    private long count;
+    private long failures;
+    private double meanMicros;
+    private long p50Micros;
+    private long p99Micros;
+    private long maxMicros;
+}
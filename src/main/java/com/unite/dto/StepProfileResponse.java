@@ -0,0 +1,22 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepProfileResponse {
+
+    private String definitionId;
+    private String name;
+    private String version;
+    private List<StepLatencyStats> steps;
+    private List<String> criticalPath;
+    private double criticalPathMicros;
+}
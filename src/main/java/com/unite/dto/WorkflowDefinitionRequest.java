@@ -1,5 +1,7 @@
 package com.unite.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -7,6 +9,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,9 +28,24 @@ public class WorkflowDefinitionRequest {
     @NotNull(message = "Definition JSON is required")
     private Object definitionJson;
 
+    private Object inputSchema;
+
     private Boolean active;
 
     private String createdBy;
 
     private String tags;
+
+    private String cronExpression;
+
+    /**
+     * Default time limit for executions of this definition.
+     */
+    private Duration timeout;
+
+    @JsonIgnore
+    @AssertTrue(message = "Timeout must be positive")
+    public boolean isTimeoutPositive() {
+        return timeout == null || timeout.isPositive();
+    }
 }
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Data
@@ -18,10 +19,15 @@ public class WorkflowDefinitionResponse {
     private String name;
     private String description;
     private String version;
+    private Integer revision;
+    private String contentHash;
     private JsonNode definitionJson;
+    private JsonNode inputSchema;
     private Boolean active;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String createdBy;
     private String tags;
+    private String cronExpression;
+    private Duration timeout;
 }
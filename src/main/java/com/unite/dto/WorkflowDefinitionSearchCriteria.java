@@ -0,0 +1,19 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowDefinitionSearchCriteria {
+
+    private String query;
+    private String tag;
+    private Boolean active;
+    private String version;
+    private Integer limit;
+}
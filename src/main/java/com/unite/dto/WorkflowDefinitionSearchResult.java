@@ -0,0 +1,16 @@
+package com.unite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowDefinitionSearchResult {
+
+    private double score;
+    private WorkflowDefinitionResponse definition;
+}
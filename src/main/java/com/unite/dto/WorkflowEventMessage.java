@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -14,12 +15,19 @@ import java.util.Map;
 @AllArgsConstructor
 public class WorkflowEventMessage {
 
+    private String eventId;
     private String executionId;
     private String caseId;
     private String workflowDefinitionId;
+    private String stepName;
     private EventType eventType;
     private String message;
     private Map<String, Object> data;
+    private Long sequence;
+    private PayloadEncoding encoding;
+    private List<JsonPatchOperation> patch;
+    private String traceId;
+    private String spanId;
     private LocalDateTime timestamp;
 
     public enum EventType {
@@ -31,4 +39,9 @@ public class WorkflowEventMessage {
         STEP_FAILED,
         STATE_CHANGED
     }
+
+    public enum PayloadEncoding {
+        SNAPSHOT,
+        DELTA
+    }
 }
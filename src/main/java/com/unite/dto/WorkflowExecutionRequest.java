@@ -1,11 +1,14 @@
 package com.unite.dto;
 
-import jakarta.validation.constraints.NotBlank;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Data
@@ -14,10 +17,46 @@ import java.util.Map;
 @AllArgsConstructor
 public class WorkflowExecutionRequest {
 
-    @NotBlank(message = "Workflow definition ID is required")
     private String workflowDefinitionId;
 
+    private String workflowDefinitionName;
+
+    private String workflowDefinitionVersion;
+
     private String caseId;
 
+    private String tenantId;
+
     private Map<String, Object> inputVariables;
+
+    private LocalDateTime startAt;
+
+    private Duration delay;
+
+    /**
+     * Overrides the definition's timeout for this execution.
+     */
+    private Duration timeout;
+
+    /**
+     * Set for server-side retries only; not part of the API.
+     */
+    @JsonIgnore
+    private Integer attempt;
+
+    @JsonIgnore
+    private String retryOf;
+
+    @JsonIgnore
+    @AssertTrue(message = "Workflow definition ID or name is required")
+    public boolean isDefinitionReferenced() {
+        return (workflowDefinitionId != null && !workflowDefinitionId.isBlank())
+                || (workflowDefinitionName != null && !workflowDefinitionName.isBlank());
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Timeout must be positive")
+    public boolean isTimeoutPositive() {
+        return timeout == null || timeout.isPositive();
+    }
 }
@@ -1,6 +1,6 @@
 package com.unite.dto;
 
-import com.anode.workflow.entities.workflows.WorkflowContext;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +8,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Data
 @Builder
@@ -19,12 +18,17 @@ public class WorkflowExecutionResponse {
     private String id;
     private String workflowDefinitionId;
     private String caseId;
+    private String tenantId;
     private ExecutionStatus status;
-    private Map<String, Object> inputVariables;
-    private Map<String, Object> outputVariables;
+    private JsonNode inputVariables;
+    private JsonNode outputVariables;
     private String errorMessage;
+    private Integer attempt;
+    private String retryOf;
     private LocalDateTime startedAt;
     private LocalDateTime updatedAt;
     private LocalDateTime completedAt;
+    private LocalDateTime deadline;
+    private LocalDateTime scheduledAt;
 
 }
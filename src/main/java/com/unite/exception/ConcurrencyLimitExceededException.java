@@ -0,0 +1,17 @@
+package com.unite.exception;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String limiter, int limit, Duration retryAfter) {
+        super(String.format("Concurrency limit of %d reached for %s", limit, limiter));
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,15 @@
+package com.unite.exception;
+
+import lombok.Getter;
+
+@Getter
+public class DuplicateDefinitionException extends RuntimeException {
+
+    private final String existingId;
+
+    public DuplicateDefinitionException(String name, String existingVersion, String existingId) {
+        super(String.format("Workflow definition '%s' already has this body as version '%s' (id: %s)",
+                name, existingVersion, existingId));
+        this.existingId = existingId;
+    }
+}
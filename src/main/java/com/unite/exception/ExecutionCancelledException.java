@@ -0,0 +1,8 @@
+package com.unite.exception;
+
+public class ExecutionCancelledException extends WorkflowExecutionException {
+
+    public ExecutionCancelledException(String caseId, String reason, Throwable cause) {
+        super(String.format("Execution of case %s was cancelled: %s", caseId, reason), cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.unite.exception;
+
+import java.util.Map;
+
+public class InputValidationException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InputValidationException(String message, Map<String, String> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,24 @@
+package com.unite.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.unite.AsyncQueueWait")
+@Label("Async Queue Wait")
+@Category({"U-N-I-T-E", "Executors"})
+@Description("Time a task spent queued in an application executor before it started running")
+@StackTrace(false)
+public class AsyncQueueWaitEvent extends Event {
+
+    @Label("Executor")
+    public String executor;
+
+    @Label("Queue Wait")
+    @Timespan
+    public long waitNanos;
+}
@@ -0,0 +1,22 @@
+package com.unite.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.unite.ExecutionPersist")
+@Label("Execution Persist")
+@Category({"U-N-I-T-E", "Execution"})
+@Description("Save of a workflow execution row")
+@StackTrace(false)
+public class ExecutionPersistEvent extends Event {
+
+    @Label("Execution Id")
+    public String executionId;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,35 @@
+package com.unite.jfr;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Records how long each task waited between submission and the start of its execution. The wait is only
+ * measured when the {@link AsyncQueueWaitEvent} is enabled in the running recording.
+ */
+public class JfrTaskDecorator implements TaskDecorator {
+
+    private static final AsyncQueueWaitEvent PROBE = new AsyncQueueWaitEvent();
+
+    private final String executorName;
+
+    public JfrTaskDecorator(String executorName) {
+        this.executorName = executorName;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        if (!PROBE.isEnabled()) {
+            return runnable;
+        }
+        long submittedAt = System.nanoTime();
+        return () -> {
+            AsyncQueueWaitEvent event = new AsyncQueueWaitEvent();
+            event.waitNanos = System.nanoTime() - submittedAt;
+            if (event.shouldCommit()) {
+                event.executor = executorName;
+                event.commit();
+            }
+            runnable.run();
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.unite.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.unite.WorkflowEventPublish")
+@Label("Workflow Event Publish")
+@Category({"U-N-I-T-E", "Events"})
+@Description("Publishing of a workflow event to history and STOMP subscribers")
+@StackTrace(false)
+public class WorkflowEventPublishEvent extends Event {
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Execution Id")
+    public String executionId;
+}
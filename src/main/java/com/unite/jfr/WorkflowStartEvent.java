@@ -0,0 +1,42 @@
+package com.unite.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.unite.WorkflowStart")
+@Label("Workflow Start")
+@Category({"U-N-I-T-E", "Execution"})
+@Description("Synchronous start of a workflow execution, broken down by phase")
+@StackTrace(false)
+public class WorkflowStartEvent extends Event {
+
+    @Label("Definition Id")
+    public String definitionId;
+
+    @Label("Case Id")
+    public String caseId;
+
+    @Label("Definition Lookup")
+    @Timespan
+    public long lookupNanos;
+
+    @Label("Definition Parse")
+    @Timespan
+    public long parseNanos;
+
+    @Label("Engine Start")
+    @Timespan
+    public long engineStartNanos;
+
+    @Label("Persist")
+    @Timespan
+    public long persistNanos;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
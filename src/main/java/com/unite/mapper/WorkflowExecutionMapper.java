@@ -1,15 +1,40 @@
 package com.unite.mapper;
 
 import com.anode.workflow.entities.workflows.WorkflowContext;
+import com.unite.dto.WorkflowEventMessage.EventType;
 import com.unite.model.WorkflowExecutionEntity;
 import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
 
+import java.util.Map;
+
 public class WorkflowExecutionMapper {
+
+    /**
+     * Engine {@code EventType} constants by name. Events not listed here (including ones added to the engine
+     * later) are reported as {@link EventType#STATE_CHANGED} rather than guessed from their names.
+     */
+    private static final Map<String, EventType> ENGINE_EVENTS = Map.ofEntries(
+            Map.entry("ON_PROCESS_START", EventType.WORKFLOW_STARTED),
+            Map.entry("ON_PROCESS_RESUME", EventType.STATE_CHANGED),
+            Map.entry("ON_PROCESS_PEND", EventType.STATE_CHANGED),
+            Map.entry("ON_PROCESS_REOPEN", EventType.STATE_CHANGED),
+            Map.entry("ON_PROCESS_COMPLETE", EventType.WORKFLOW_COMPLETED),
+            Map.entry("ON_PROCESS_ERROR", EventType.WORKFLOW_FAILED),
+            Map.entry("ON_STEP_START", EventType.STEP_STARTED),
+            Map.entry("ON_STEP_COMPLETE", EventType.STEP_COMPLETED),
+            Map.entry("ON_STEP_ERROR", EventType.STEP_FAILED),
+            Map.entry("ON_TICKET_RAISED", EventType.STATE_CHANGED),
+            Map.entry("ON_PERSIST", EventType.STATE_CHANGED));
+
     public static WorkflowExecutionEntity map(WorkflowContext context){
         return WorkflowExecutionEntity.builder().id(context.getCaseId())
                 .build();
     }
 
+    public static EventType mapEventType(String engineEvent) {
+        return ENGINE_EVENTS.getOrDefault(engineEvent, EventType.STATE_CHANGED);
+    }
+
     private static ExecutionStatus mapStatus(String status) {
         if (status == null) {
             return ExecutionStatus.PENDING;
@@ -0,0 +1,64 @@
+package com.unite.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "dead_letters", indexes = {
+        @Index(name = "idx_dl_status_failed_at", columnList = "status, failed_at"),
+        @Index(name = "idx_dl_definition_status", columnList = "workflow_definition_id, status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(nullable = false)
+    private String executionId;
+
+    @Column(name = "workflow_definition_id", nullable = false)
+    private String workflowDefinitionId;
+
+    @Column(nullable = false)
+    private String caseId;
+
+    @Column
+    private String tenantId;
+
+    @Column(columnDefinition = "TEXT")
+    private String inputVariables;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DeadLetterStatus status;
+
+    @Column
+    private LocalDateTime replayedAt;
+
+    @Column
+    private String replayCaseId;
+
+    public enum DeadLetterStatus {
+        DEAD,
+        REPLAYED
+    }
+}
@@ -0,0 +1,93 @@
+package com.unite.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduled_starts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ss_dedupe_key", columnNames = "dedupe_key"),
+        indexes = {
+                @Index(name = "idx_ss_status_fire_at", columnList = "status, fire_at"),
+                @Index(name = "idx_ss_definition_id", columnList = "workflow_definition_id")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledStartEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "workflow_definition_id", nullable = false)
+    private String workflowDefinitionId;
+
+    @Column(nullable = false)
+    private String caseId;
+
+    @Column
+    private String tenantId;
+
+    @Column(columnDefinition = "TEXT")
+    private String inputVariables;
+
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ScheduleStatus status;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ScheduleSource source;
+
+    @Column(name = "dedupe_key")
+    private String dedupeKey;
+
+    @Column
+    private String executionId;
+
+    @Column
+    private Integer attempt;
+
+    @Column
+    private String retryOf;
+
+    @Column(name = "timeout_ms")
+    private Long timeoutMillis;
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime claimedAt;
+
+    @Column
+    private LocalDateTime firedAt;
+
+    public enum ScheduleStatus {
+        SCHEDULED,
+        CLAIMED,
+        FIRED,
+        FAILED,
+        CANCELLED
+    }
+
+    public enum ScheduleSource {
+        REQUEST,
+        CRON,
+        RETRY
+    }
+}
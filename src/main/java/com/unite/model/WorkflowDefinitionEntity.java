@@ -11,7 +11,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "workflow_definitions")
+@Table(name = "workflow_definitions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_wd_name_version", columnNames = {"name", "version"})
+}, indexes = {
+        @Index(name = "idx_wd_name_content_hash", columnList = "name, content_hash")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +26,7 @@ public class WorkflowDefinitionEntity {
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Column(length = 1000)
@@ -34,6 +38,15 @@ public class WorkflowDefinitionEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String definitionJson;
 
+    @Column(name = "input_schema", columnDefinition = "TEXT")
+    private String inputSchema;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column
+    private Integer revision;
+
     @Column(nullable = false)
     private Boolean active = true;
 
@@ -50,4 +63,10 @@ public class WorkflowDefinitionEntity {
 
     @Column
     private String tags;
+
+    @Column
+    private String cronExpression;
+
+    @Column(name = "timeout_ms")
+    private Long timeoutMillis;
 }
@@ -0,0 +1,31 @@
+package com.unite.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "workflow_definition_tags",
+        uniqueConstraints = @UniqueConstraint(name = "uk_wdt_definition_tag", columnNames = {"definition_id", "tag"}),
+        indexes = {
+                @Index(name = "idx_wdt_tag", columnList = "tag"),
+                @Index(name = "idx_wdt_definition_id", columnList = "definition_id")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowDefinitionTagEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "definition_id", nullable = false)
+    private String definitionId;
+
+    @Column(name = "tag", nullable = false, length = 100)
+    private String tag;
+}
@@ -0,0 +1,58 @@
+package com.unite.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Schema of the append-only event history. Rows are written and read through JDBC by
+ * {@code EventHistoryWriter} and {@code EventHistoryService}; on PostgreSQL the table is range
+ * partitioned by day (see {@code db/postgresql/events.sql}).
+ */
+@Entity
+@Table(name = "workflow_events", indexes = {
+        @Index(name = "idx_wev_execution", columnList = "execution_id, occurred_at, event_id"),
+        @Index(name = "idx_wev_case", columnList = "case_id, occurred_at, event_id"),
+        @Index(name = "idx_wev_occurred_at", columnList = "occurred_at, event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowEventEntity {
+
+    @Id
+    @Column(name = "event_id", length = 36)
+    private String eventId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "execution_id")
+    private String executionId;
+
+    @Column
+    private String caseId;
+
+    @Column
+    private String workflowDefinitionId;
+
+    @Column
+    private String stepName;
+
+    @Column(nullable = false, length = 32)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(columnDefinition = "TEXT")
+    private String data;
+
+    @Column(length = 32)
+    private String traceId;
+}
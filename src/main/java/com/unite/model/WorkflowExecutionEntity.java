@@ -11,7 +11,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "workflow_executions")
+@Table(name = "workflow_executions", indexes = {
+        @Index(name = "idx_we_status_id", columnList = "status, id"),
+        @Index(name = "idx_we_started_at", columnList = "started_at"),
+        @Index(name = "idx_we_owner_node", columnList = "owner_node"),
+        @Index(name = "idx_we_case_id", columnList = "case_id", unique = true)
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -28,6 +33,9 @@ public class WorkflowExecutionEntity {
     @Column(nullable = false)
     private String caseId;
 
+    @Column
+    private String tenantId;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private ExecutionStatus status;
@@ -41,6 +49,27 @@ public class WorkflowExecutionEntity {
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column
+    private Integer attempt;
+
+    @Column
+    private String retryOf;
+
+    /**
+     * The node running the execution; it renews {@code ownerHeartbeat} while it is alive.
+     */
+    @Column(name = "owner_node")
+    private String ownerNode;
+
+    @Column(name = "owner_heartbeat")
+    private LocalDateTime ownerHeartbeat;
+
+    @Column(name = "timeout_ms")
+    private Long timeoutMillis;
+
+    @Column
+    private LocalDateTime deadline;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime startedAt;
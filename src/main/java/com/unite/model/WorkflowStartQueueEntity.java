@@ -0,0 +1,66 @@
+package com.unite.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "workflow_start_queue", indexes = {
+        @Index(name = "idx_wsq_status_visible_at", columnList = "status, visible_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowStartQueueEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(nullable = false)
+    private String workflowDefinitionId;
+
+    @Column(nullable = false)
+    private String caseId;
+
+    @Column
+    private String tenantId;
+
+    @Column(columnDefinition = "TEXT")
+    private String inputVariables;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private QueueStatus status;
+
+    @Column(name = "timeout_ms")
+    private Long timeoutMillis;
+
+    @Column(nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    @Column(name = "visible_at", nullable = false)
+    private LocalDateTime visibleAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column
+    private String claimToken;
+
+    @Column
+    private String claimedBy;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    public enum QueueStatus {
+        READY,
+        FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package com.unite.repository;
+
+import com.unite.model.DeadLetterEntity;
+import com.unite.model.DeadLetterEntity.DeadLetterStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DeadLetterRepository extends JpaRepository<DeadLetterEntity, String> {
+
+    List<DeadLetterEntity> findByStatusOrderByFailedAt(DeadLetterStatus status, Pageable page);
+
+    List<DeadLetterEntity> findByWorkflowDefinitionIdAndStatusOrderByFailedAt(String workflowDefinitionId,
+                                                                            DeadLetterStatus status,
+                                                                            Pageable page);
+
+    long countByStatus(DeadLetterStatus status);
+}
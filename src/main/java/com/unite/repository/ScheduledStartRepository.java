@@ -0,0 +1,83 @@
+package com.unite.repository;
+
+import com.unite.model.ScheduledStartEntity;
+import com.unite.model.ScheduledStartEntity.ScheduleSource;
+import com.unite.model.ScheduledStartEntity.ScheduleStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledStartRepository extends JpaRepository<ScheduledStartEntity, String> {
+
+    Optional<ScheduledStartEntity> findByCaseIdAndStatus(String caseId, ScheduleStatus status);
+
+    boolean existsByDedupeKey(String dedupeKey);
+
+    @Query("select s from ScheduledStartEntity s where s.status = :status and s.fireAt < :until "
+            + "and (s.fireAt > :afterFireAt or (s.fireAt = :afterFireAt and s.id > :afterId)) order by s.fireAt, s.id")
+    List<ScheduledStartEntity> findDueBefore(@Param("status") ScheduleStatus status,
+                                             @Param("until") LocalDateTime until,
+                                             @Param("afterFireAt") LocalDateTime afterFireAt,
+                                             @Param("afterId") String afterId,
+                                             Pageable page);
+
+    @Modifying
+    @Query("update ScheduledStartEntity s set s.status = :claimed, s.claimedAt = :now "
+            + "where s.id = :id and s.status = :scheduled")
+    int claim(@Param("id") String id,
+              @Param("now") LocalDateTime now,
+              @Param("scheduled") ScheduleStatus scheduled,
+              @Param("claimed") ScheduleStatus claimed);
+
+    @Modifying
+    @Query("update ScheduledStartEntity s set s.claimedAt = :now "
+            + "where s.id = :id and s.status = :claimed and s.claimedAt = :claimedAt")
+    int extendClaim(@Param("id") String id,
+                    @Param("claimedAt") LocalDateTime claimedAt,
+                    @Param("now") LocalDateTime now,
+                    @Param("claimed") ScheduleStatus claimed);
+
+    @Modifying
+    @Query("update ScheduledStartEntity s set s.status = :status, s.executionId = :executionId, "
+            + "s.errorMessage = :errorMessage, s.firedAt = :now "
+            + "where s.id = :id and s.status = :claimed and s.claimedAt = :claimedAt")
+    int finishClaimed(@Param("id") String id,
+                      @Param("claimedAt") LocalDateTime claimedAt,
+                      @Param("status") ScheduleStatus status,
+                      @Param("executionId") String executionId,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now,
+                      @Param("claimed") ScheduleStatus claimed);
+
+    @Modifying
+    @Query("update ScheduledStartEntity s set s.status = :scheduled, s.fireAt = :fireAt, s.claimedAt = null "
+            + "where s.id = :id and s.status = :claimed and s.claimedAt = :claimedAt")
+    int deferClaimed(@Param("id") String id,
+                     @Param("claimedAt") LocalDateTime claimedAt,
+                     @Param("fireAt") LocalDateTime fireAt,
+                     @Param("claimed") ScheduleStatus claimed,
+                     @Param("scheduled") ScheduleStatus scheduled);
+
+    @Modifying
+    @Query("update ScheduledStartEntity s set s.status = :scheduled, s.claimedAt = null "
+            + "where s.status = :claimed and s.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore,
+                           @Param("claimed") ScheduleStatus claimed,
+                           @Param("scheduled") ScheduleStatus scheduled);
+
+    @Modifying
+    @Query("delete from ScheduledStartEntity s where s.workflowDefinitionId = :definitionId "
+            + "and s.source = :source and s.status = :status and (:keep is null or s.dedupeKey <> :keep)")
+    int deletePending(@Param("definitionId") String definitionId,
+                      @Param("source") ScheduleSource source,
+                      @Param("status") ScheduleStatus status,
+                      @Param("keep") String keep);
+}
@@ -12,9 +12,20 @@ public interface WorkflowDefinitionRepository extends JpaRepository<WorkflowDefi
 
     Optional<WorkflowDefinitionEntity> findByNameAndVersion(String name, String version);
 
-    List<WorkflowDefinitionEntity> findByActive(Boolean active);
+    List<WorkflowDefinitionEntity> findByName(String name);
 
-    List<WorkflowDefinitionEntity> findByNameContainingIgnoreCase(String name);
+    List<WorkflowDefinitionEntity> findByActive(Boolean active);
 
     boolean existsByNameAndVersion(String name, String version);
+
+    Optional<WorkflowDefinitionEntity> findFirstByNameAndContentHash(String name, String contentHash);
+
+    Optional<WorkflowDefinitionEntity> findTopByNameOrderByRevisionDesc(String name);
+
+    Optional<WorkflowDefinitionEntity> findTopByNameAndActiveTrueOrderByRevisionDesc(String name);
+
+    List<WorkflowDefinitionEntity> findByNameAndCronExpressionIsNotNull(String name);
+
+
+    List<WorkflowDefinitionEntity> findByCronExpressionIsNotNullAndActiveTrue();
 }
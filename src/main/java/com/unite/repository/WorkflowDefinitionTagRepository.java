@@ -0,0 +1,23 @@
+package com.unite.repository;
+
+import com.unite.model.WorkflowDefinitionTagEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WorkflowDefinitionTagRepository extends JpaRepository<WorkflowDefinitionTagEntity, String> {
+
+    List<WorkflowDefinitionTagEntity> findByDefinitionId(String definitionId);
+
+    @Query("select t.definitionId from WorkflowDefinitionTagEntity t where t.tag = :tag")
+    List<String> findDefinitionIdsByTag(@Param("tag") String tag);
+
+    @Modifying
+    @Query("delete from WorkflowDefinitionTagEntity t where t.definitionId = :definitionId")
+    void deleteByDefinitionId(@Param("definitionId") String definitionId);
+}
@@ -2,9 +2,15 @@ package com.unite.repository;
 
 import com.unite.model.WorkflowExecutionEntity;
 import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +23,54 @@ public interface WorkflowExecutionRepository extends JpaRepository<WorkflowExecu
 
     Optional<WorkflowExecutionEntity> findByCaseId(String caseId);
 
+    boolean existsByCaseId(String caseId);
+
     List<WorkflowExecutionEntity> findByWorkflowDefinitionIdAndStatus(String workflowDefinitionId, ExecutionStatus status);
+
+    /**
+     * Executions in one of the statuses whose owner has not renewed its lease since {@code staleBefore}.
+     */
+    @Query("select e from WorkflowExecutionEntity e where e.status in :statuses "
+            + "and (e.ownerHeartbeat is null or e.ownerHeartbeat < :staleBefore) and e.id > :afterId order by e.id")
+    List<WorkflowExecutionEntity> findStaleAfterId(@Param("statuses") Collection<ExecutionStatus> statuses,
+                                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                                   @Param("afterId") String afterId,
+                                                   Pageable page);
+
+    @Modifying
+    @Query("update WorkflowExecutionEntity e set e.ownerNode = :node, e.ownerHeartbeat = :now where e.id = :id "
+            + "and e.status in :statuses and (e.ownerHeartbeat is null or e.ownerHeartbeat < :staleBefore)")
+    int claimStale(@Param("id") String id,
+                   @Param("node") String node,
+                   @Param("now") LocalDateTime now,
+                   @Param("staleBefore") LocalDateTime staleBefore,
+                   @Param("statuses") Collection<ExecutionStatus> statuses);
+
+    @Modifying
+    @Query("update WorkflowExecutionEntity e set e.ownerHeartbeat = :now "
+            + "where e.caseId in :caseIds and e.ownerNode = :node and e.status in :statuses")
+    int renewLeases(@Param("caseIds") Collection<String> caseIds,
+                    @Param("node") String node,
+                    @Param("now") LocalDateTime now,
+                    @Param("statuses") Collection<ExecutionStatus> statuses);
+
+    @Modifying
+    @Query("update WorkflowExecutionEntity e set e.status = :completed, e.outputVariables = :outputs, "
+            + "e.completedAt = :now, e.updatedAt = :now where e.caseId = :caseId and e.status in :inFlight")
+    int complete(@Param("caseId") String caseId,
+                 @Param("outputs") String outputs,
+                 @Param("now") LocalDateTime now,
+                 @Param("completed") ExecutionStatus completed,
+                 @Param("inFlight") Collection<ExecutionStatus> inFlight);
+
+    @Modifying
+    @Query("update WorkflowExecutionEntity e set e.status = :cancelled, e.completedAt = :now, e.updatedAt = :now "
+            + "where e.caseId = :caseId and e.status in :inFlight")
+    int cancel(@Param("caseId") String caseId,
+               @Param("now") LocalDateTime now,
+               @Param("cancelled") ExecutionStatus cancelled,
+               @Param("inFlight") Collection<ExecutionStatus> inFlight);
+
+    @Query("select e.status from WorkflowExecutionEntity e where e.caseId = :caseId")
+    Optional<ExecutionStatus> findStatusByCaseId(@Param("caseId") String caseId);
 }
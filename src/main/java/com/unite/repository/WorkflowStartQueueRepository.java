@@ -0,0 +1,46 @@
+package com.unite.repository;
+
+import com.unite.model.WorkflowStartQueueEntity;
+import com.unite.model.WorkflowStartQueueEntity.QueueStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkflowStartQueueRepository extends JpaRepository<WorkflowStartQueueEntity, String> {
+
+    /**
+     * Lock timeout {@code -2} is Hibernate's {@code SKIP LOCKED}: rows claimed by other workers are skipped
+     * instead of waited on.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select q from WorkflowStartQueueEntity q where q.status = :status and q.visibleAt <= :now order by q.visibleAt")
+    List<WorkflowStartQueueEntity> findVisibleForUpdate(@Param("status") QueueStatus status,
+                                                        @Param("now") LocalDateTime now,
+                                                        Pageable page);
+
+    @Modifying
+    @Query("delete from WorkflowStartQueueEntity q where q.id = :id and q.claimToken = :claimToken")
+    int deleteClaimed(@Param("id") String id, @Param("claimToken") String claimToken);
+
+    @Modifying
+    @Query("update WorkflowStartQueueEntity q set q.visibleAt = :visibleAt where q.claimToken in :claimTokens")
+    int extendClaims(@Param("claimTokens") Collection<String> claimTokens, @Param("visibleAt") LocalDateTime visibleAt);
+
+    long countByStatus(QueueStatus status);
+
+    @Query("select min(q.enqueuedAt) from WorkflowStartQueueEntity q where q.status = :status")
+    LocalDateTime findOldestEnqueuedAt(@Param("status") QueueStatus status);
+}
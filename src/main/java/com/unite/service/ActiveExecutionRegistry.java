@@ -0,0 +1,145 @@
+package com.unite.service;
+
+import com.unite.exception.ExecutionCancelledException;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class ActiveExecutionRegistry {
+
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+    private static final long CANCELLATION_TTL_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final Map<String, ActiveExecution> executionsByCaseId = new ConcurrentHashMap<>();
+    private final Map<String, EngineRun> engineRuns = new ConcurrentHashMap<>();
+    private final Map<String, Cancellation> cancellations = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the execution along with the caller's thread-local context (trace and observation), so engine
+     * callbacks that arrive on other threads can be attributed to the request that started the case.
+     */
+    public void register(String caseId, String executionId, String workflowDefinitionId) {
+        executionsByCaseId.put(caseId, new ActiveExecution(caseId, executionId, workflowDefinitionId,
+                SNAPSHOTS.captureAll()));
+    }
+
+    public Optional<ActiveExecution> findByCaseId(String caseId) {
+        return Optional.ofNullable(executionsByCaseId.get(caseId));
+    }
+
+    public void remove(String caseId) {
+        executionsByCaseId.remove(caseId);
+    }
+
+    /**
+     * Runs an engine call for the case on the current thread, where {@link #cancel} can interrupt it. A call
+     * that fails after being cancelled, or a case cancelled before the call, is reported as an
+     * {@link ExecutionCancelledException}.
+     */
+    public <T> T runEngine(String caseId, Supplier<T> call) {
+        EngineRun run = new EngineRun(Thread.currentThread());
+        engineRuns.put(caseId, run);
+        try {
+            Cancellation cancellation = cancellations.get(caseId);
+            if (cancellation != null) {
+                throw new ExecutionCancelledException(caseId, cancellation.reason(), null);
+            }
+            return call.get();
+        } catch (ExecutionCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            String reason = run.cancelReason();
+            throw reason != null ? new ExecutionCancelledException(caseId, reason, e) : e;
+        } finally {
+            engineRuns.remove(caseId, run);
+            run.finish();
+        }
+    }
+
+    /**
+     * Marks the case cancelled and interrupts the thread running it in the engine, if any. Returns whether one
+     * was interrupted. The mark outlives the engine call, so that a case cancelled before its start reaches the
+     * engine, or while it is parked, is refused when it is run again. Marks are kept for an hour.
+     */
+    public boolean cancel(String caseId, String reason) {
+        long now = System.nanoTime();
+        cancellations.values().removeIf(cancellation -> now - cancellation.atNanos() > CANCELLATION_TTL_NANOS);
+        cancellations.putIfAbsent(caseId, new Cancellation(reason, now));
+        EngineRun run = engineRuns.get(caseId);
+        return run != null && run.cancel(reason);
+    }
+
+    public boolean isCancelled(String caseId) {
+        return cancelReason(caseId).isPresent();
+    }
+
+    /**
+     * The reason the case was first cancelled with, if it was.
+     */
+    public Optional<String> cancelReason(String caseId) {
+        Cancellation cancellation = cancellations.get(caseId);
+        if (cancellation != null) {
+            return Optional.of(cancellation.reason());
+        }
+        EngineRun run = engineRuns.get(caseId);
+        return Optional.ofNullable(run != null ? run.cancelReason() : null);
+    }
+
+    public Collection<ActiveExecution> getActiveExecutions() {
+        return executionsByCaseId.values();
+    }
+
+    public int size() {
+        return executionsByCaseId.size();
+    }
+
+    private static final class EngineRun {
+
+        private final Thread thread;
+        private String cancelReason;
+        private boolean finished;
+
+        private EngineRun(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized boolean cancel(String reason) {
+            if (finished || cancelReason != null) {
+                return false;
+            }
+            cancelReason = reason;
+            thread.interrupt();
+            return true;
+        }
+
+        synchronized String cancelReason() {
+            return cancelReason;
+        }
+
+        /**
+         * Called on the running thread; request and worker threads are pooled, so the interrupt must not
+         * outlive the call it was meant for.
+         */
+        synchronized void finish() {
+            finished = true;
+            if (cancelReason != null) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private record Cancellation(String reason, long atNanos) {
+    }
+
+    public record ActiveExecution(String caseId, String executionId, String workflowDefinitionId,
+                                  ContextSnapshot context) {
+    }
+}
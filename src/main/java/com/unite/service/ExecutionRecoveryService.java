@@ -0,0 +1,254 @@
+package com.unite.service;
+
+import com.anode.workflow.service.runtime.RuntimeService;
+import com.unite.config.RecoveryProperties;
+import com.unite.dto.RecoveryReport;
+import com.unite.dto.RecoveryReport.RecoveryState;
+import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.ActiveExecutionRegistry.ActiveExecution;
+import com.unite.service.timeout.ExecutionTimeouts;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resumes executions whose node has gone away. Every in-flight execution is leased by the node running it,
+ * which renews the leases of the cases it holds in {@link ActiveExecutionRegistry}. Rows whose lease has lapsed
+ * are claimed with a conditional update before they are resumed, so with several nodes each stale case is
+ * resumed exactly once and cases of live nodes are left alone.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionRecoveryService {
+
+    /**
+     * Unique per process: a container restarted with the same host name and pid must not take over, and keep
+     * renewing, the leases of the cases its previous process left behind.
+     */
+    public static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    private static final int RENEW_BATCH_SIZE = 1000;
+    private static final Set<ExecutionStatus> IN_FLIGHT_STATUSES = EnumSet.of(ExecutionStatus.PENDING, ExecutionStatus.RUNNING);
+
+    private final WorkflowExecutionRepository executionRepository;
+    private final RuntimeService runtimeService;
+    private final ActiveExecutionRegistry activeExecutionRegistry;
+    private final ExecutionTimeouts executionTimeouts;
+    private final RecoveryProperties properties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+    @Qualifier("virtualExecutor")
+    private final Executor virtualExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong resumed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile RecoveryState state = RecoveryState.IDLE;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private TransactionTemplate transactions;
+    private ScheduledExecutorService leases;
+
+    @PostConstruct
+    void registerMetrics() {
+        transactions = new TransactionTemplate(transactionManager);
+        transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("unite.recovery.scanned", scanned, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("unite.recovery.resumed", resumed, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("unite.recovery.failed", failed, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("unite.recovery.throughput", this, service -> service.getReport().getResumedPerSecond())
+                .baseUnit("executions/s")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        leases = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("execution-lease").daemon().factory());
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        leases.scheduleWithFixedDelay(this::renewLeases, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        if (properties.isEnabled()) {
+            startRecovery();
+            long scan = properties.getScanInterval().toMillis();
+            leases.scheduleWithFixedDelay(() -> startRecovery(false), scan, scan, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (leases != null) {
+            leases.shutdownNow();
+        }
+    }
+
+    public RecoveryReport startRecovery() {
+        return startRecovery(properties.isBlockReadiness());
+    }
+
+    private RecoveryReport startRecovery(boolean blockReadiness) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Execution recovery already running");
+            return getReport();
+        }
+
+        scanned.set(0);
+        resumed.set(0);
+        failed.set(0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        state = RecoveryState.RUNNING;
+        if (blockReadiness) {
+            AvailabilityChangeEvent.publish(applicationEventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+
+        Thread.ofPlatform().name("execution-recovery").start(() -> recover(blockReadiness));
+        return getReport();
+    }
+
+    public RecoveryReport getReport() {
+        LocalDateTime start = startedAt;
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        double seconds = start == null ? 0 : Math.max(Duration.between(start, end).toMillis(), 1) / 1000.0;
+
+        return RecoveryReport.builder()
+                .state(state)
+                .startedAt(start)
+                .finishedAt(finishedAt)
+                .scanned(scanned.get())
+                .resumed(resumed.get())
+                .failed(failed.get())
+                .inFlight(scanned.get() - resumed.get() - failed.get())
+                .resumedPerSecond(seconds == 0 ? 0 : resumed.get() / seconds)
+                .build();
+    }
+
+    void recover(boolean blockReadiness) {
+        log.debug("Recovering stale executions (page size: {}, concurrency: {})",
+                properties.getPageSize(), properties.getConcurrency());
+        Semaphore permits = new Semaphore(properties.getConcurrency());
+        LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getLeaseTimeout());
+
+        try {
+            String lastId = "";
+            List<WorkflowExecutionEntity> page;
+            do {
+                page = executionRepository.findStaleAfterId(IN_FLIGHT_STATUSES, staleBefore, lastId,
+                        PageRequest.of(0, properties.getPageSize()));
+                for (WorkflowExecutionEntity execution : page) {
+                    if (!claim(execution, staleBefore)) {
+                        // Renewed or claimed by another node since the page was read
+                        continue;
+                    }
+                    scanned.incrementAndGet();
+                    permits.acquire();
+                    virtualExecutor.execute(() -> {
+                        try {
+                            resume(execution);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == properties.getPageSize());
+
+            permits.acquire(properties.getConcurrency());
+            state = RecoveryState.COMPLETED;
+        } catch (Exception e) {
+            log.error("Execution recovery aborted: {}", e.getMessage(), e);
+            state = RecoveryState.FAILED;
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+            if (blockReadiness) {
+                AvailabilityChangeEvent.publish(applicationEventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+            }
+            RecoveryReport report = getReport();
+            if (report.getScanned() > 0 || report.getState() == RecoveryState.FAILED) {
+                log.info("Execution recovery {}: {} scanned, {} resumed, {} failed ({} executions/s)",
+                        report.getState(), report.getScanned(), report.getResumed(), report.getFailed(),
+                        String.format("%.1f", report.getResumedPerSecond()));
+            }
+        }
+    }
+
+    private boolean claim(WorkflowExecutionEntity execution, LocalDateTime staleBefore) {
+        Integer claimed = transactions.execute(status -> executionRepository.claimStale(
+                execution.getId(), NODE_ID, LocalDateTime.now(), staleBefore, IN_FLIGHT_STATUSES));
+        return claimed != null && claimed > 0;
+    }
+
+    void renewLeases() {
+        List<String> caseIds = activeExecutionRegistry.getActiveExecutions().stream()
+                .filter(execution -> execution.executionId() != null)
+                .map(ActiveExecution::caseId)
+                .toList();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (int from = 0; from < caseIds.size(); from += RENEW_BATCH_SIZE) {
+                List<String> batch = caseIds.subList(from, Math.min(from + RENEW_BATCH_SIZE, caseIds.size()));
+                transactions.executeWithoutResult(status -> executionRepository.renewLeases(
+                        batch, NODE_ID, now, IN_FLIGHT_STATUSES));
+            }
+        } catch (Exception e) {
+            log.error("Failed to renew execution leases: {}", e.getMessage(), e);
+        }
+    }
+
+    private void resume(WorkflowExecutionEntity execution) {
+        try {
+            activeExecutionRegistry.register(execution.getCaseId(), execution.getId(), execution.getWorkflowDefinitionId());
+            if (execution.getDeadline() != null) {
+                executionTimeouts.arm(execution.getCaseId(), Duration.ofMillis(execution.getTimeoutMillis()),
+                        execution.getDeadline());
+            }
+            activeExecutionRegistry.runEngine(execution.getCaseId(), () -> {
+                runtimeService.resumeCase(execution.getCaseId());
+                return null;
+            });
+            resumed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            activeExecutionRegistry.remove(execution.getCaseId());
+            executionTimeouts.disarm(execution.getCaseId());
+            log.error("Failed to resume execution {} (case {}): {}",
+                    execution.getId(), execution.getCaseId(), e.getMessage());
+        }
+    }
+}
@@ -2,17 +2,43 @@ package com.unite.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.unite.config.JsonProperties;
+import com.unite.datasource.ReadYourWrites;
+import com.unite.dto.StepLatencyStats;
+import com.unite.dto.StepProfileResponse;
 import com.unite.dto.WorkflowDefinitionRequest;
 import com.unite.dto.WorkflowDefinitionResponse;
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.dto.WorkflowDefinitionSearchResult;
+import com.unite.exception.DuplicateDefinitionException;
 import com.unite.exception.ResourceNotFoundException;
 import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.model.WorkflowDefinitionTagEntity;
 import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowDefinitionTagRepository;
+import com.unite.service.definitions.DefinitionContentHash;
+import com.unite.service.definitions.DefinitionVersionIndex;
+import com.unite.service.profiling.CriticalPath;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.scheduling.ScheduledStartService;
+import com.unite.service.search.DefinitionTags;
+import com.unite.service.search.SearchHit;
+import com.unite.service.search.WorkflowDefinitionSearchIndex;
+import com.unite.service.validation.InputSchemaValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,30 +47,69 @@ import java.util.stream.Collectors;
 public class WorkflowDefinitionService {
 
     private final WorkflowDefinitionRepository repository;
+    private final WorkflowDefinitionTagRepository tagRepository;
+    private final WorkflowDefinitionSearchIndex searchIndex;
+    private final StepLatencyProfiler stepLatencyProfiler;
+    private final ScheduledStartService scheduledStartService;
+    private final DefinitionVersionIndex versionIndex;
+    private final ReadYourWrites readYourWrites;
+    private final InputSchemaValidator inputSchemaValidator;
     private final ObjectMapper objectMapper;
+    private final JsonProperties jsonProperties;
 
+    /**
+     * Stores a new immutable version. A body identical to an existing version of the same name (compared by
+     * content hash) is not stored again; the request is rejected with a reference to that version.
+     */
     @Transactional
     public WorkflowDefinitionResponse createWorkflowDefinition(WorkflowDefinitionRequest request) {
         log.info("Creating workflow definition: {}", request.getName());
 
+        String definitionJson = convertToJsonString(request.getDefinitionJson());
+        String inputSchema = compileInputSchema(request);
+        String contentHash = DefinitionContentHash.of(definitionJson, inputSchema);
+        Optional<WorkflowDefinitionEntity> identical = repository.findFirstByNameAndContentHash(request.getName(), contentHash);
+        if (identical.isPresent()) {
+            throw new DuplicateDefinitionException(request.getName(), identical.get().getVersion(),
+                    identical.get().getId());
+        }
+
         if (repository.existsByNameAndVersion(request.getName(), request.getVersion())) {
             throw new IllegalArgumentException(
                     String.format("Workflow definition with name '%s' and version '%s' already exists",
                             request.getName(), request.getVersion()));
         }
 
+        int revision = repository.findTopByNameOrderByRevisionDesc(request.getName())
+                .map(latest -> latest.getRevision() != null ? latest.getRevision() + 1 : 1)
+                .orElse(1);
+
         WorkflowDefinitionEntity entity = WorkflowDefinitionEntity.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .version(request.getVersion())
-                .definitionJson(convertToJsonString(request.getDefinitionJson()))
+                .definitionJson(definitionJson)
+                .inputSchema(inputSchema)
+                .contentHash(contentHash)
+                .revision(revision)
                 .active(request.getActive() != null ? request.getActive() : true)
                 .createdBy(request.getCreatedBy())
                 .tags(request.getTags())
+                .cronExpression(normalizeCron(request.getCronExpression()))
+                .timeoutMillis(request.getTimeout() != null ? request.getTimeout().toMillis() : null)
                 .build();
 
         WorkflowDefinitionEntity saved = repository.save(entity);
-        log.info("Workflow definition created with ID: {}", saved.getId());
+        readYourWrites.written(saved.getId());
+        syncTags(saved);
+        if (saved.getCronExpression() != null) {
+            clearCronOnOtherVersions(saved);
+        }
+        afterCommit(() -> {
+            versionIndex.index(saved);
+            scheduledStartService.syncCronTrigger(saved);
+        });
+        log.info("Workflow definition created with ID: {} (revision {})", saved.getId(), revision);
 
         return mapToResponse(saved);
     }
@@ -52,7 +117,7 @@ public class WorkflowDefinitionService {
     @Transactional(readOnly = true)
     public WorkflowDefinitionResponse getWorkflowDefinition(String id) {
         log.debug("Fetching workflow definition: {}", id);
-        WorkflowDefinitionEntity entity = repository.findById(id)
+        WorkflowDefinitionEntity entity = readYourWrites.read(id, () -> repository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", id));
         return mapToResponse(entity);
     }
@@ -76,11 +141,37 @@ public class WorkflowDefinitionService {
     @Transactional(readOnly = true)
     public List<WorkflowDefinitionResponse> searchWorkflowDefinitions(String name) {
         log.debug("Searching workflow definitions by name: {}", name);
-        return repository.findByNameContainingIgnoreCase(name).stream()
-                .map(this::mapToResponse)
+        return search(WorkflowDefinitionSearchCriteria.builder().query(name).build()).stream()
+                .map(WorkflowDefinitionSearchResult::getDefinition)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<WorkflowDefinitionSearchResult> search(WorkflowDefinitionSearchCriteria criteria) {
+        log.debug("Searching workflow definitions: {}", criteria);
+        List<SearchHit> hits = searchIndex.search(criteria);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, WorkflowDefinitionEntity> definitions = repository.findAllById(
+                        hits.stream().map(SearchHit::definitionId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(WorkflowDefinitionEntity::getId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> definitions.containsKey(hit.definitionId()))
+                .map(hit -> WorkflowDefinitionSearchResult.builder()
+                        .score(hit.score())
+                        .definition(mapToResponse(definitions.get(hit.definitionId())))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Definition bodies are immutable: metadata (description, tags, schedule, active flag) is updated in place,
+     * while a changed body is stored as a new version so that running executions keep the one they started with.
+     */
     @Transactional
     public WorkflowDefinitionResponse updateWorkflowDefinition(String id, WorkflowDefinitionRequest request) {
         log.info("Updating workflow definition: {}", id);
@@ -88,25 +179,47 @@ public class WorkflowDefinitionService {
         WorkflowDefinitionEntity entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", id));
 
-        if (!entity.getName().equals(request.getName()) || !entity.getVersion().equals(request.getVersion())) {
-            if (repository.existsByNameAndVersion(request.getName(), request.getVersion())) {
+        if (!entity.getName().equals(request.getName())) {
+            throw new IllegalArgumentException(
+                    String.format("Workflow definition '%s' cannot be renamed to '%s'",
+                            entity.getName(), request.getName()));
+        }
+
+        if (entity.getContentHash() == null) {
+            // Versions stored before content hashing have none; backfilled here with the update
+            entity.setContentHash(DefinitionContentHash.of(entity.getDefinitionJson(), entity.getInputSchema()));
+        }
+        String contentHash = DefinitionContentHash.of(convertToJsonString(request.getDefinitionJson()),
+                compileInputSchema(request));
+        boolean sameBody = contentHash.equals(entity.getContentHash());
+        if (!sameBody || !entity.getVersion().equals(request.getVersion())) {
+            if (entity.getVersion().equals(request.getVersion())) {
                 throw new IllegalArgumentException(
-                        String.format("Workflow definition with name '%s' and version '%s' already exists",
-                                request.getName(), request.getVersion()));
+                        String.format("Version '%s' of workflow definition '%s' is immutable; submit the change as a new version",
+                                request.getVersion(), request.getName()));
             }
+            return createWorkflowDefinition(request);
         }
 
-        entity.setName(request.getName());
         entity.setDescription(request.getDescription());
-        entity.setVersion(request.getVersion());
-        entity.setDefinitionJson(convertToJsonString(request.getDefinitionJson()));
         if (request.getActive() != null) {
             entity.setActive(request.getActive());
         }
         entity.setCreatedBy(request.getCreatedBy());
         entity.setTags(request.getTags());
+        entity.setCronExpression(normalizeCron(request.getCronExpression()));
+        entity.setTimeoutMillis(request.getTimeout() != null ? request.getTimeout().toMillis() : null);
 
         WorkflowDefinitionEntity updated = repository.save(entity);
+        readYourWrites.written(updated.getId());
+        syncTags(updated);
+        if (updated.getCronExpression() != null) {
+            clearCronOnOtherVersions(updated);
+        }
+        afterCommit(() -> {
+            versionIndex.index(updated);
+            scheduledStartService.syncCronTrigger(updated);
+        });
         log.info("Workflow definition updated: {}", id);
 
         return mapToResponse(updated);
@@ -120,10 +233,37 @@ public class WorkflowDefinitionService {
             throw new ResourceNotFoundException("Workflow Definition", id);
         }
 
+        tagRepository.deleteByDefinitionId(id);
         repository.deleteById(id);
+        afterCommit(() -> {
+            searchIndex.remove(id);
+            versionIndex.remove(id);
+            inputSchemaValidator.evict(id);
+            stepLatencyProfiler.reset(id);
+            scheduledStartService.removeCronTrigger(id);
+        });
         log.info("Workflow definition deleted: {}", id);
     }
 
+    @Transactional(readOnly = true)
+    public StepProfileResponse getStepProfile(String id) {
+        log.debug("Fetching step profile for workflow definition: {}", id);
+        WorkflowDefinitionEntity entity = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", id));
+
+        List<StepLatencyStats> steps = stepLatencyProfiler.snapshot(id);
+        CriticalPath criticalPath = CriticalPath.of(readDefinition(entity.getDefinitionJson()), steps);
+
+        return StepProfileResponse.builder()
+                .definitionId(entity.getId())
+                .name(entity.getName())
+                .version(entity.getVersion())
+                .steps(steps)
+                .criticalPath(criticalPath.steps())
+                .criticalPathMicros(criticalPath.durationMicros())
+                .build();
+    }
+
     @Transactional
     public WorkflowDefinitionResponse activateWorkflowDefinition(String id) {
         log.info("Activating workflow definition: {}", id);
@@ -133,6 +273,12 @@ public class WorkflowDefinitionService {
 
         entity.setActive(true);
         WorkflowDefinitionEntity updated = repository.save(entity);
+        readYourWrites.written(updated.getId());
+        afterCommit(() -> {
+            searchIndex.index(updated);
+            versionIndex.index(updated);
+            scheduledStartService.syncCronTrigger(updated);
+        });
 
         return mapToResponse(updated);
     }
@@ -146,29 +292,87 @@ public class WorkflowDefinitionService {
 
         entity.setActive(false);
         WorkflowDefinitionEntity updated = repository.save(entity);
+        readYourWrites.written(updated.getId());
+        afterCommit(() -> {
+            searchIndex.index(updated);
+            versionIndex.index(updated);
+            scheduledStartService.syncCronTrigger(updated);
+        });
 
         return mapToResponse(updated);
     }
 
+    /**
+     * Only one version of a definition carries the cron schedule, otherwise every version would fire.
+     */
+    private void clearCronOnOtherVersions(WorkflowDefinitionEntity current) {
+        for (WorkflowDefinitionEntity other : repository.findByNameAndCronExpressionIsNotNull(current.getName())) {
+            if (!other.getId().equals(current.getId())) {
+                other.setCronExpression(null);
+                repository.save(other);
+                afterCommit(() -> scheduledStartService.removeCronTrigger(other.getId()));
+            }
+        }
+    }
+
+    private void syncTags(WorkflowDefinitionEntity entity) {
+        tagRepository.deleteByDefinitionId(entity.getId());
+        tagRepository.saveAll(DefinitionTags.parse(entity.getTags()).stream()
+                .map(tag -> WorkflowDefinitionTagEntity.builder()
+                        .definitionId(entity.getId())
+                        .tag(tag)
+                        .build())
+                .collect(Collectors.toList()));
+        afterCommit(() -> searchIndex.index(entity));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private WorkflowDefinitionResponse mapToResponse(WorkflowDefinitionEntity entity) {
         return WorkflowDefinitionResponse.builder()
                 .id(entity.getId())
                 .name(entity.getName())
                 .description(entity.getDescription())
                 .version(entity.getVersion())
+                .revision(entity.getRevision())
+                .contentHash(entity.getContentHash())
                 .definitionJson(parseJsonString(entity.getDefinitionJson()))
+                .inputSchema(entity.getInputSchema() != null ? parseJsonString(entity.getInputSchema()) : null)
                 .active(entity.getActive())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .createdBy(entity.getCreatedBy())
                 .tags(entity.getTags())
+                .cronExpression(entity.getCronExpression())
+                .timeout(entity.getTimeoutMillis() != null ? Duration.ofMillis(entity.getTimeoutMillis()) : null)
                 .build();
     }
 
+    private String compileInputSchema(WorkflowDefinitionRequest request) {
+        if (request.getInputSchema() == null) {
+            return null;
+        }
+        String inputSchema = convertToJsonString(request.getInputSchema());
+        inputSchemaValidator.compile(inputSchema);
+        return inputSchema;
+    }
+
     private String convertToJsonString(Object obj) {
         try {
-            if (obj instanceof String) {
-                return (String) obj;
+            if (obj instanceof String json) {
+                objectMapper.readTree(json);
+                return json;
             }
             return objectMapper.writeValueAsString(obj);
         } catch (Exception e) {
@@ -177,6 +381,9 @@ public class WorkflowDefinitionService {
     }
 
     private JsonNode parseJsonString(String json) {
+        if (jsonProperties.isRawPassthrough()) {
+            return json == null ? null : JsonNodeFactory.instance.rawValueNode(new RawValue(json));
+        }
         try {
             return objectMapper.readTree(json);
         } catch (Exception e) {
@@ -184,4 +391,21 @@ public class WorkflowDefinitionService {
             return null;
         }
     }
+
+    private String normalizeCron(String cronExpression) {
+        if (cronExpression == null || cronExpression.isBlank()) {
+            return null;
+        }
+        ScheduledStartService.parseCron(cronExpression);
+        return cronExpression.trim();
+    }
+
+    private JsonNode readDefinition(String json) {
+        try {
+            return json == null ? null : objectMapper.readTree(json);
+        } catch (Exception e) {
+            log.warn("Stored definition JSON is not readable: {}", e.getMessage());
+            return null;
+        }
+    }
 }
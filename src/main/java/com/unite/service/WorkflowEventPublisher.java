@@ -1,31 +1,82 @@
 package com.unite.service;
 
 import com.unite.dto.WorkflowEventMessage;
+import com.unite.jfr.WorkflowEventPublishEvent;
+import com.unite.service.events.EventDeltaEncoder;
+import com.unite.service.events.EventHistoryWriter;
+import com.unite.service.events.UuidV7;
+import com.unite.service.reactive.ReactiveEventStream;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WorkflowEventPublisher {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final EventHistoryWriter historyWriter;
+    private final EventDeltaEncoder deltaEncoder;
+    private final ReactiveEventStream reactiveEventStream;
+    private final Tracer tracer;
+    private final ObservationRegistry observationRegistry;
 
     public void publishEvent(WorkflowEventMessage event) {
         log.debug("Publishing event: {} for execution: {}", event.getEventType(), event.getExecutionId());
+        WorkflowEventPublishEvent publishEvent = new WorkflowEventPublishEvent();
+        publishEvent.begin();
+
+        if (event.getEventId() == null) {
+            event.setEventId(UuidV7.generate().toString());
+        }
+        if (event.getTimestamp() == null) {
+            event.setTimestamp(LocalDateTime.now());
+        }
+        Span span = tracer.currentSpan();
+        if (span != null && event.getTraceId() == null) {
+            event.setTraceId(span.context().traceId());
+            event.setSpanId(span.context().spanId());
+        }
+        historyWriter.append(event);
+        reactiveEventStream.publish(event);
 
-        messagingTemplate.convertAndSend("/topic/workflow-events", event);
+        Observation.createNotStarted("unite.event.publish", observationRegistry)
+                .lowCardinalityKeyValue("unite.event.type", String.valueOf(event.getEventType()))
+                .observe(() -> deltaEncoder.publish(event, encoded -> {
+                    // Subscribers of the global topic see events of many executions and cannot resubscribe for a
+                    // snapshot of each, so only the execution topic carries deltas
+                    messagingTemplate.convertAndSend("/topic/workflow-events", event);
 
-        messagingTemplate.convertAndSend(
-                "/topic/workflow-events/" + event.getExecutionId(),
-                event
-        );
+                    messagingTemplate.convertAndSend(
+                            "/topic/workflow-events/" + encoded.getExecutionId(),
+                            encoded
+                    );
+                }));
 
+        publishEvent.end();
+        if (publishEvent.shouldCommit()) {
+            publishEvent.eventType = String.valueOf(event.getEventType());
+            publishEvent.executionId = event.getExecutionId();
+            publishEvent.commit();
+        }
         log.debug("Event published successfully");
     }
 
+    /**
+     * For executions that end without a WORKFLOW_COMPLETED or WORKFLOW_FAILED event.
+     */
+    public void executionFinished(String executionId) {
+        deltaEncoder.evict(executionId);
+    }
+
     public void publishEventToExecution(String executionId, WorkflowEventMessage event) {
         log.debug("Publishing event to specific execution: {}", executionId);
         messagingTemplate.convertAndSend("/topic/workflow-events/" + executionId, event);
@@ -5,29 +5,55 @@ import com.anode.workflow.entities.workflows.WorkflowDefinition;
 import com.anode.workflow.entities.workflows.WorkflowVariables;
 import com.anode.workflow.spring.autoconfigure.runtime.FluentWorkflowBuilder;
 import com.anode.workflow.spring.autoconfigure.runtime.FluentWorkflowBuilderFactory;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.unite.config.JournalStorageVerifier;
+import com.unite.config.JsonProperties;
+import com.unite.datasource.ReadYourWrites;
 import com.unite.dto.WorkflowEventMessage;
 import com.unite.dto.WorkflowExecutionRequest;
 import com.unite.dto.WorkflowExecutionResponse;
+import com.unite.exception.ExecutionCancelledException;
 import com.unite.exception.ResourceNotFoundException;
 import com.unite.exception.WorkflowExecutionException;
+import com.unite.jfr.ExecutionPersistEvent;
+import com.unite.jfr.WorkflowStartEvent;
 import com.unite.mapper.WorkflowExecutionMapper;
 import com.unite.model.WorkflowDefinitionEntity;
 import com.unite.model.WorkflowExecutionEntity;
 import com.unite.repository.WorkflowDefinitionRepository;
 import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.ActiveExecutionRegistry.ActiveExecution;
+import com.unite.service.bulkhead.BulkheadRegistry;
+import com.unite.service.concurrency.ConcurrencyLimits;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.retry.ExecutionStarting;
+import com.unite.service.timeout.ExecutionTimeouts;
+import com.unite.service.workflows.ExecutionOutcomes;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,13 +61,33 @@ import java.util.stream.Collectors;
 @Slf4j
 public class WorkflowExecutionService {
 
+    private static final String CANCELLED_REASON = "Cancelled";
+
     private final WorkflowExecutionRepository executionRepository;
     private final WorkflowDefinitionRepository definitionRepository;
     private final WorkflowEventPublisher eventPublisher;
+    private final ActiveExecutionRegistry activeExecutionRegistry;
     private final FluentWorkflowBuilderFactory workflowFactory;
     private final ObjectMapper objectMapper;
+    private final JsonProperties jsonProperties;
+    private final ObservationRegistry observationRegistry;
+    private final ConcurrencyLimits concurrencyLimits;
+    private final BulkheadRegistry bulkheads;
+    private final ReadYourWrites readYourWrites;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExecutionTimeouts executionTimeouts;
+    private final ExecutionOutcomes executionOutcomes;
+    private final StepLatencyProfiler stepLatencyProfiler;
+    private final JournalStorageVerifier journalStorageVerifier;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactions;
+
+    @PostConstruct
+    void init() {
+        transactions = new TransactionTemplate(transactionManager);
+    }
 
-    @Transactional
     @Async
     public CompletableFuture<WorkflowExecutionResponse> executeWorkflowAsync(WorkflowExecutionRequest request) {
         log.info("Starting async workflow execution for definition: {}", request.getWorkflowDefinitionId());
@@ -55,33 +101,128 @@ public class WorkflowExecutionService {
         }
     }
 
-    @Transactional
+    /**
+     * Not transactional itself: a start may wait for its bulkhead, and must not hold a pooled connection while
+     * it does. The definition is read in a short transaction of its own, and the start transaction is opened
+     * once the bulkhead has been entered.
+     */
     public WorkflowExecutionResponse executeWorkflow(WorkflowExecutionRequest request) {
+        return Observation.createNotStarted("unite.workflow.start", observationRegistry)
+                .highCardinalityKeyValue("unite.definition.id", String.valueOf(request.getWorkflowDefinitionId()))
+                .observe(() -> startWorkflow(request));
+    }
+
+    private WorkflowExecutionResponse startWorkflow(WorkflowExecutionRequest request) {
         log.info("Executing workflow for definition: {}", request.getWorkflowDefinitionId());
+        WorkflowStartEvent startEvent = new WorkflowStartEvent();
+        startEvent.begin();
+        startEvent.definitionId = request.getWorkflowDefinitionId();
+        long phaseStart = System.nanoTime();
 
-        WorkflowDefinitionEntity definition = definitionRepository.findById(request.getWorkflowDefinitionId())
+        WorkflowDefinitionEntity definition = observe("unite.definition.lookup",
+                () -> readYourWrites.read(request.getWorkflowDefinitionId(),
+                        () -> definitionRepository.findById(request.getWorkflowDefinitionId())))
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", request.getWorkflowDefinitionId()));
 
         
         if (!definition.getActive()) {
             throw new WorkflowExecutionException("Workflow definition is not active: " + definition.getName());
         }
+        startEvent.lookupNanos = System.nanoTime() - phaseStart;
+
+        // The bulkhead is entered before the adaptive limit so that time spent waiting for a noisy neighbour's
+        // bulkhead does not count as start latency. The limit samples database time only: the lookup, and the
+        // start transaction, which commits under the permit, less the time spent in the engine.
+        return bulkheads.execute(request.getTenantId(), definition, () -> concurrencyLimits.start(
+                startEvent.lookupNanos, () -> transactions.execute(status -> launch(request, definition, startEvent))));
+    }
 
+    private WorkflowExecutionResponse launch(WorkflowExecutionRequest request, WorkflowDefinitionEntity definition,
+                                             WorkflowStartEvent startEvent) {
         String caseId = request.getCaseId() != null ? request.getCaseId() : UUID.randomUUID().toString();
+        startEvent.caseId = caseId;
         FluentWorkflowBuilder builder = workflowFactory.builder(caseId);
-        
-        WorkflowDefinition workflowDefinition = mapToWorkflowDefinition(definition.getDefinitionJson());
-        WorkflowVariables workflowVariables = mapToWorkflowVariables(request.getInputVariables());
-        WorkflowContext context = builder.start(workflowDefinition, workflowVariables);
+        long launchStart = System.nanoTime();
+        long phaseStart = launchStart;
+
+        WorkflowDefinition workflowDefinition = observe("unite.definition.parse",
+                () -> mapToWorkflowDefinition(definition.getDefinitionJson()));
+        WorkflowVariables workflowVariables = observe("unite.variables.parse",
+                () -> mapToWorkflowVariables(request.getInputVariables()));
+        startEvent.parseNanos = System.nanoTime() - phaseStart;
+        phaseStart = System.nanoTime();
+        Duration timeout = executionTimeouts.resolve(request.getTimeout(), definition.getTimeoutMillis());
+        LocalDateTime deadline = timeout != null ? LocalDateTime.now().plus(timeout) : null;
+        activeExecutionRegistry.register(caseId, null, definition.getId());
+        applicationEventPublisher.publishEvent(new ExecutionStarting(caseId));
+        if (deadline != null) {
+            executionTimeouts.arm(caseId, timeout, deadline);
+        }
+        WorkflowContext context;
+        try {
+            context = observe("unite.engine.start", () -> activeExecutionRegistry.runEngine(caseId,
+                    () -> builder.start(workflowDefinition, workflowVariables)));
+            journalStorageVerifier.afterEngineStart(caseId);
+        } catch (RuntimeException e) {
+            activeExecutionRegistry.remove(caseId);
+            executionTimeouts.disarm(caseId);
+            stepLatencyProfiler.caseFinished(caseId);
+            startEvent.engineStartNanos = System.nanoTime() - phaseStart;
+            startEvent.commit();
+            throw e;
+        }
+        startEvent.engineStartNanos = System.nanoTime() - phaseStart;
+        phaseStart = System.nanoTime();
 
-        WorkflowExecutionEntity entity = executionRepository.save(WorkflowExecutionMapper.map(context));
+        WorkflowExecutionEntity execution = WorkflowExecutionMapper.map(context);
+        execution.setWorkflowDefinitionId(definition.getId());
+        execution.setCaseId(caseId);
+        execution.setTenantId(request.getTenantId());
+        execution.setAttempt(request.getAttempt() != null ? request.getAttempt() : 1);
+        execution.setRetryOf(request.getRetryOf());
+        execution.setInputVariables(convertToJsonString(request.getInputVariables()));
+        execution.setOwnerNode(ExecutionRecoveryService.NODE_ID);
+        execution.setOwnerHeartbeat(LocalDateTime.now());
+        execution.setTimeoutMillis(timeout != null ? timeout.toMillis() : null);
+        execution.setDeadline(deadline);
+        if (execution.getStatus() == null) {
+            execution.setStatus(WorkflowExecutionEntity.ExecutionStatus.RUNNING);
+        }
+        executionOutcomes.takeCompletion(caseId).ifPresent(completion -> {
+            execution.setStatus(WorkflowExecutionEntity.ExecutionStatus.COMPLETED);
+            execution.setOutputVariables(completion.outputVariables());
+            execution.setCompletedAt(completion.completedAt());
+        });
+
+        concurrencyLimits.excludeFromStart(System.nanoTime() - launchStart);
+        WorkflowExecutionEntity entity = persist(execution);
+        if (entity.getStatus() != WorkflowExecutionEntity.ExecutionStatus.RUNNING
+                && entity.getStatus() != WorkflowExecutionEntity.ExecutionStatus.PENDING) {
+            executionTimeouts.disarm(caseId);
+            activeExecutionRegistry.remove(caseId);
+        } else {
+            activeExecutionRegistry.register(caseId, entity.getId(), definition.getId());
+            // Cancelled by case id after the engine call returned, while the row was not visible yet
+            afterCommit(() -> {
+                if (activeExecutionRegistry.cancelReason(caseId).filter(CANCELLED_REASON::equals).isPresent()
+                        && executionOutcomes.cancelStarted(caseId)) {
+                    release(caseId);
+                    publishEvent(entity, WorkflowEventMessage.EventType.STATE_CHANGED, "Workflow cancelled");
+                    eventPublisher.executionFinished(entity.getId());
+                }
+            });
+        }
+        startEvent.persistNanos = System.nanoTime() - phaseStart;
+        startEvent.succeeded = true;
+        startEvent.commit();
         return mapToResponse(entity) ;
     }
 
     @Transactional(readOnly = true)
     public WorkflowExecutionResponse getExecution(String executionId) {
         log.debug("Fetching execution: {}", executionId);
-        WorkflowExecutionEntity execution = executionRepository.findById(executionId)
+        WorkflowExecutionEntity execution = readYourWrites
+                .read(executionId, () -> executionRepository.findById(executionId))
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow Execution", executionId));
         return mapToResponse(execution);
     }
@@ -97,7 +238,8 @@ public class WorkflowExecutionService {
     @Transactional(readOnly = true)
     public List<WorkflowExecutionResponse> getExecutionsByDefinition(String definitionId) {
         log.debug("Fetching executions for definition: {}", definitionId);
-        return executionRepository.findByWorkflowDefinitionId(definitionId).stream()
+        return readYourWrites.read(definitionId, () -> executionRepository.findByWorkflowDefinitionId(definitionId))
+                .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -116,7 +258,33 @@ public class WorkflowExecutionService {
 
         WorkflowExecutionEntity execution = executionRepository.findById(executionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow Execution", executionId));
+        return cancel(execution);
+    }
 
+    /**
+     * Cancels by case id, which is known before the start that runs the case has committed its row. Such a
+     * start is failed with an {@link ExecutionCancelledException} if it has not returned from the engine yet,
+     * and its row is cancelled right after commit otherwise.
+     */
+    @Transactional
+    public WorkflowExecutionResponse cancelCase(String caseId) {
+        log.info("Cancelling case: {}", caseId);
+
+        Optional<WorkflowExecutionEntity> execution = executionRepository.findByCaseId(caseId);
+        if (execution.isPresent()) {
+            return cancel(execution.get());
+        }
+        ActiveExecution starting = activeExecutionRegistry.findByCaseId(caseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Execution for case", caseId));
+        activeExecutionRegistry.cancel(caseId, CANCELLED_REASON);
+        return WorkflowExecutionResponse.builder()
+                .caseId(caseId)
+                .workflowDefinitionId(starting.workflowDefinitionId())
+                .status(WorkflowExecutionEntity.ExecutionStatus.CANCELLED)
+                .build();
+    }
+
+    private WorkflowExecutionResponse cancel(WorkflowExecutionEntity execution) {
         if (execution.getStatus() == WorkflowExecutionEntity.ExecutionStatus.COMPLETED ||
                 execution.getStatus() == WorkflowExecutionEntity.ExecutionStatus.FAILED) {
             throw new IllegalStateException("Cannot cancel execution in " + execution.getStatus() + " state");
@@ -124,13 +292,58 @@ public class WorkflowExecutionService {
 
         execution.setStatus(WorkflowExecutionEntity.ExecutionStatus.CANCELLED);
         execution.setCompletedAt(LocalDateTime.now());
-        execution = executionRepository.save(execution);
+        execution = persist(execution);
+        String caseId = execution.getCaseId();
+        // After commit, so that the engine failing the interrupted case finds it cancelled rather than running
+        afterCommit(() -> {
+            activeExecutionRegistry.cancel(caseId, CANCELLED_REASON);
+            release(caseId);
+            executionOutcomes.cancelled(caseId);
+        });
 
         publishEvent(execution, WorkflowEventMessage.EventType.STATE_CHANGED, "Workflow cancelled");
+        eventPublisher.executionFinished(execution.getId());
 
         return mapToResponse(execution);
     }
 
+    private void release(String caseId) {
+        executionTimeouts.disarm(caseId);
+        activeExecutionRegistry.remove(caseId);
+        stepLatencyProfiler.caseFinished(caseId);
+    }
+
+    private WorkflowExecutionEntity persist(WorkflowExecutionEntity execution) {
+        ExecutionPersistEvent event = new ExecutionPersistEvent();
+        event.begin();
+        WorkflowExecutionEntity saved = observe("unite.execution.persist", () -> executionRepository.save(execution));
+        event.end();
+        readYourWrites.written(saved.getId(), saved.getWorkflowDefinitionId());
+        if (event.shouldCommit()) {
+            event.executionId = saved.getId();
+            event.status = String.valueOf(saved.getStatus());
+            event.commit();
+        }
+        return saved;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private <T> T observe(String name, Supplier<T> work) {
+        return Observation.createNotStarted(name, observationRegistry).observe(work);
+    }
+
     private void publishEvent(WorkflowExecutionEntity execution, WorkflowEventMessage.EventType eventType, String message) {
         publishEvent(execution.getId(), execution.getWorkflowDefinitionId(), eventType, message, null);
     }
@@ -158,13 +371,17 @@ public class WorkflowExecutionService {
                 .id(entity.getId())
                 .workflowDefinitionId(entity.getWorkflowDefinitionId())
                 .caseId(entity.getCaseId())
+                .tenantId(entity.getTenantId())
                 .status(entity.getStatus())
                 .inputVariables(parseJsonString(entity.getInputVariables()))
                 .outputVariables(parseJsonString(entity.getOutputVariables()))
                 .errorMessage(entity.getErrorMessage())
+                .attempt(entity.getAttempt())
+                .retryOf(entity.getRetryOf())
                 .startedAt(entity.getStartedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .completedAt(entity.getCompletedAt())
+                .deadline(entity.getDeadline())
                 .build();
     }
 
@@ -183,15 +400,18 @@ public class WorkflowExecutionService {
         }
     }
 
-    private Map<String, Object> parseJsonString(String json) {
+    private JsonNode parseJsonString(String json) {
         try {
             if (json == null || json.isEmpty()) {
-                return new HashMap<>();
+                return JsonNodeFactory.instance.objectNode();
+            }
+            if (jsonProperties.isRawPassthrough()) {
+                return JsonNodeFactory.instance.rawValueNode(new RawValue(json));
             }
-            return objectMapper.readValue(json, Map.class);
+            return objectMapper.readTree(json);
         } catch (Exception e) {
             log.error("Error parsing JSON: {}", e.getMessage());
-            return new HashMap<>();
+            return JsonNodeFactory.instance.objectNode();
         }
     }
 
@@ -0,0 +1,88 @@
+package com.unite.service.bulkhead;
+
+import com.unite.config.BulkheadProperties.Limits;
+import com.unite.config.BulkheadProperties.OverflowPolicy;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A fixed number of concurrent starts for one key. Callers run on their own (virtual) threads and only hold
+ * a permit, so a bulkhead costs a semaphore rather than a thread pool. Overflow is either rejected outright or
+ * waits up to {@code maxWait} for a permit.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final Limits limits;
+    private final Duration retryAfter;
+    private final Semaphore permits;
+    private final Counter rejected;
+    private final Timer waitTimer;
+
+    Bulkhead(String name, Limits limits, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.limits = limits;
+        this.retryAfter = retryAfter;
+        this.permits = new Semaphore(limits.getMaxConcurrent(), true);
+        this.rejected = meterRegistry.counter("unite.bulkhead.rejected", "bulkhead", name);
+        this.waitTimer = Timer.builder("unite.bulkhead.wait")
+                .tag("bulkhead", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("unite.bulkhead.active", this, Bulkhead::getActive)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("unite.bulkhead.saturation", this,
+                        bulkhead -> (double) bulkhead.getActive() / limits.getMaxConcurrent())
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("unite.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActive() {
+        return limits.getMaxConcurrent() - permits.availablePermits();
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            waitTimer.record(Duration.ZERO);
+            return;
+        }
+        if (limits.getOverflow() == OverflowPolicy.WAIT) {
+            long started = System.nanoTime();
+            try {
+                if (permits.tryAcquire(limits.getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                    waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        rejected.increment();
+        throw new ConcurrencyLimitExceededException("bulkhead '" + name + "'", limits.getMaxConcurrent(), retryAfter);
+    }
+}
@@ -0,0 +1,77 @@
+package com.unite.service.bulkhead;
+
+import com.unite.config.BulkheadProperties;
+import com.unite.config.BulkheadProperties.Limits;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.service.search.DefinitionTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the bulkhead a start runs in. Depending on {@code unite.bulkhead.key-by} the key is the tenant id
+ * of the request, the definition name (shared by all its versions), or the definition's first tag that has a
+ * configured bulkhead, falling back to its first tag. Bulkheads are created on first use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkheadRegistry {
+
+    static final String DEFAULT_KEY = "default";
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public <T> T execute(String tenantId, WorkflowDefinitionEntity definition, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        return get(key(tenantId, definition)).execute(call);
+    }
+
+    Bulkhead get(String key) {
+        Bulkhead bulkhead = bulkheads.get(key);
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        if (bulkheads.size() >= properties.getMaxBulkheads() && !properties.getBulkheads().containsKey(key)) {
+            key = DEFAULT_KEY;
+        }
+        return bulkheads.computeIfAbsent(key, this::create);
+    }
+
+    String key(String tenantId, WorkflowDefinitionEntity definition) {
+        String key = switch (properties.getKeyBy()) {
+            case TENANT -> tenantId;
+            case DEFINITION -> definition.getName();
+            case TAG -> tagKey(definition.getTags());
+        };
+        return key == null || key.isBlank() ? DEFAULT_KEY : key;
+    }
+
+    private String tagKey(String tags) {
+        List<String> parsed = DefinitionTags.parse(tags);
+        for (String tag : parsed) {
+            if (properties.getBulkheads().containsKey(tag)) {
+                return tag;
+            }
+        }
+        return parsed.isEmpty() ? null : parsed.getFirst();
+    }
+
+    private Bulkhead create(String key) {
+        Limits limits = properties.getBulkheads().getOrDefault(key, properties.getDefaults());
+        log.info("Creating bulkhead '{}' (max concurrent: {}, overflow: {})", key, limits.getMaxConcurrent(),
+                limits.getOverflow());
+        return new Bulkhead(key, limits, properties.getRetryAfter(), meterRegistry);
+    }
+}
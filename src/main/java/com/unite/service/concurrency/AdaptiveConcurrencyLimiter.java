@@ -0,0 +1,187 @@
+package com.unite.service.concurrency;
+
+import com.unite.config.ConcurrencyLimitProperties;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Gradient concurrency limit. Every successful call contributes a latency sample; the limit is scaled by
+ * {@code tolerance * longRtt / rtt} (clamped to [0.5, 1]) plus a {@code sqrt(limit)} allowance for queueing, so
+ * it grows while latency stays near its long-term average and shrinks as soon as calls get slower. Overload
+ * failures cut the limit multiplicatively. Samples taken while less than half the limit was in use do not grow
+ * it, since they say nothing about how much more load the downstream can take.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final ConcurrencyLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties properties, LongSupplier nanoClock) {
+        this.name = name;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = properties.getInitialLimit();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<Permit> tryAcquire() {
+        lock.lock();
+        try {
+            return inFlight < (int) limit ? Optional.of(newPermit()) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits up to {@code maxWait} for a permit to be released.
+     */
+    public Optional<Permit> acquire(Duration maxWait) throws InterruptedException {
+        long remaining = maxWait.toNanos();
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return Optional.empty();
+                }
+                remaining = permitReleased.awaitNanos(remaining);
+            }
+            return Optional.of(newPermit());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit newPermit() {
+        inFlight++;
+        return new Permit(nanoClock.getAsLong(), inFlight);
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        long rtt = Math.max(1, nanoClock.getAsLong() - permit.startNanos + permit.adjustmentNanos);
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> onSample(rtt, permit.inFlightAtStart);
+                case DROPPED -> limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+                case IGNORED -> {
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSample(long rtt, int inFlightAtStart) {
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / properties.getLongWindow();
+        if (longRtt / rtt > 2) {
+            // Latency recovered after an overload: pull the baseline down instead of waiting for it to decay
+            longRtt *= 0.95;
+        }
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+        double gradient = Math.clamp(properties.getRttTolerance() * longRtt / rtt, 0.5, 1.0);
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        double smoothing = properties.getSmoothing();
+        limit = Math.clamp(limit * (1 - smoothing) + newLimit * smoothing,
+                properties.getMinLimit(), properties.getMaxLimit());
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    /**
+     * Must be released exactly once; later calls are ignored.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private long adjustmentNanos;
+        private boolean released;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Adds time spent outside the permit to the latency sample, or, when negative, leaves time spent under
+         * the permit on something other than the limited resource out of it.
+         */
+        public synchronized void adjust(long nanos) {
+            adjustmentNanos += nanos;
+        }
+
+        /**
+         * The call completed; its latency is a sample.
+         */
+        public void success() {
+            releaseOnce(Outcome.SUCCESS);
+        }
+
+        /**
+         * The call failed in a way that indicates overload.
+         */
+        public void dropped() {
+            releaseOnce(Outcome.DROPPED);
+        }
+
+        /**
+         * The call failed for reasons unrelated to load; its latency is not a sample.
+         */
+        public void ignore() {
+            releaseOnce(Outcome.IGNORED);
+        }
+
+        private synchronized void releaseOnce(Outcome outcome) {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(this, outcome);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.unite.service.concurrency;
+
+import com.unite.config.ConcurrencyLimitProperties;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import com.unite.service.concurrency.AdaptiveConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The adaptive limits in front of workflow starts and engine callbacks. Starts over the limit are rejected
+ * so callers can back off; engine callbacks cannot be refused without losing events, so they wait for a permit
+ * for a bounded time and then run anyway.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimits {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveConcurrencyLimiter starts;
+    private final AdaptiveConcurrencyLimiter callbacks;
+    private final Counter rejectedStarts;
+    private final Counter unthrottledCallbacks;
+    private final ThreadLocal<Permit> currentStart = new ThreadLocal<>();
+
+    public ConcurrencyLimits(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.starts = register(new AdaptiveConcurrencyLimiter("starts", properties), meterRegistry);
+        this.callbacks = register(new AdaptiveConcurrencyLimiter("callbacks", properties), meterRegistry);
+        this.rejectedStarts = meterRegistry.counter("unite.concurrency.rejected", "limiter", starts.getName());
+        this.unthrottledCallbacks = meterRegistry.counter("unite.concurrency.unthrottled", "limiter",
+                callbacks.getName());
+    }
+
+    /**
+     * Runs a start under the start limit. The latency sample is meant to measure the database, so it includes
+     * {@code priorNanos} of database work done before the permit was taken, and leaves out what the start
+     * reports through {@link #excludeFromStart}.
+     */
+    public <T> T start(long priorNanos, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        Permit permit = starts.tryAcquire().orElseThrow(() -> {
+            rejectedStarts.increment();
+            return new ConcurrencyLimitExceededException("workflow starts", starts.getLimit(),
+                    properties.getRetryAfter());
+        });
+        permit.adjust(priorNanos);
+        Permit outer = currentStart.get();
+        currentStart.set(permit);
+        try {
+            return run(permit, call);
+        } finally {
+            if (outer == null) {
+                currentStart.remove();
+            } else {
+                currentStart.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Leaves time the start running on this thread spent outside the database, such as in the engine, out of
+     * its latency sample.
+     */
+    public void excludeFromStart(long nanos) {
+        Permit permit = currentStart.get();
+        if (permit != null) {
+            permit.adjust(-nanos);
+        }
+    }
+
+    public void callback(Runnable call) {
+        if (!properties.isEnabled()) {
+            call.run();
+            return;
+        }
+        Optional<Permit> permit;
+        try {
+            permit = callbacks.acquire(properties.getCallbackMaxWait());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permit = Optional.empty();
+        }
+        if (permit.isEmpty()) {
+            unthrottledCallbacks.increment();
+            call.run();
+            return;
+        }
+        run(permit.get(), () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static <T> T run(Permit permit, Supplier<T> call) {
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException e) {
+            if (isOverload(e)) {
+                permit.dropped();
+            } else {
+                permit.ignore();
+            }
+            throw e;
+        } catch (Error e) {
+            permit.ignore();
+            throw e;
+        }
+    }
+
+    /**
+     * Failures that mean the database (or pool in front of it) is saturated, as opposed to bad input.
+     */
+    static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QueryTimeoutException
+                    || cause instanceof PessimisticLockingFailureException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof CannotGetJdbcConnectionException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AdaptiveConcurrencyLimiter register(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("unite.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("limiter", limiter.getName())
+                .register(registry);
+        Gauge.builder("unite.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("limiter", limiter.getName())
+                .register(registry);
+        return limiter;
+    }
+}
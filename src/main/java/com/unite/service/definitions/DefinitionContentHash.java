@@ -0,0 +1,46 @@
+package com.unite.service.definitions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 of a definition body in canonical form (object keys sorted, no insignificant whitespace), so that
+ * bodies differing only in formatting or key order hash the same.
+ */
+public final class DefinitionContentHash {
+
+    private static final ObjectMapper CANONICAL = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private DefinitionContentHash() {
+    }
+
+    public static String of(String definitionJson) {
+        return of(definitionJson, null);
+    }
+
+    /**
+     * The input schema is part of the version; without one the hash is the same as for the body alone.
+     */
+    public static String of(String definitionJson, String inputSchema) {
+        try {
+            String canonical = CANONICAL.writeValueAsString(CANONICAL.readValue(definitionJson, Object.class));
+            if (inputSchema != null) {
+                canonical += "\n" + CANONICAL.writeValueAsString(CANONICAL.readValue(inputSchema, Object.class));
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid JSON format", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.unite.service.definitions;
+
+import com.unite.config.DefinitionIndexProperties;
+import com.unite.exception.ResourceNotFoundException;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.repository.WorkflowDefinitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory name → version index over the immutable definition versions, so starts by name resolve to a
+ * definition id without a query. Versions are ordered by their per-name revision; the latest active one wins.
+ * The index is maintained by the node that writes a version, so a miss (a version written on another node) falls
+ * back to the repository and indexes what it finds. Versions activated, deactivated or added on other nodes are
+ * picked up by reloading a name's versions once they are older than {@code unite.definitions.index.ttl}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DefinitionVersionIndex {
+
+    private final WorkflowDefinitionRepository repository;
+    private final DefinitionIndexProperties properties;
+
+    private final Map<String, NavigableMap<Integer, IndexedVersion>> versionsByName = new ConcurrentHashMap<>();
+    private final Map<String, IndexedVersion> versionsById = new ConcurrentHashMap<>();
+    private final Map<String, Long> loadedAtByName = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        versionsByName.clear();
+        versionsById.clear();
+        loadedAtByName.clear();
+        long now = System.nanoTime();
+        repository.findAll().forEach(this::index);
+        versionsByName.keySet().forEach(name -> loadedAtByName.put(name, now));
+        log.info("Workflow definition version index built with {} versions of {} definitions",
+                versionsById.size(), versionsByName.size());
+    }
+
+    public synchronized void index(WorkflowDefinitionEntity definition) {
+        remove(definition.getId());
+        IndexedVersion version = new IndexedVersion(
+                definition.getId(),
+                definition.getName(),
+                definition.getVersion(),
+                definition.getRevision() != null ? definition.getRevision() : 0,
+                Boolean.TRUE.equals(definition.getActive()));
+        versionsById.put(version.id(), version);
+        versionsByName.computeIfAbsent(version.name(), name -> new ConcurrentSkipListMap<>())
+                .put(version.revision(), version);
+    }
+
+    public synchronized void remove(String definitionId) {
+        IndexedVersion version = versionsById.remove(definitionId);
+        if (version == null) {
+            return;
+        }
+        NavigableMap<Integer, IndexedVersion> versions = versionsByName.get(version.name());
+        if (versions != null) {
+            versions.remove(version.revision(), version);
+            if (versions.isEmpty()) {
+                versionsByName.remove(version.name());
+                loadedAtByName.remove(version.name());
+            }
+        }
+    }
+
+    public Optional<String> latestActive(String name) {
+        NavigableMap<Integer, IndexedVersion> versions = versionsByName.get(name);
+        if (versions == null) {
+            return Optional.empty();
+        }
+        return versions.descendingMap().values().stream()
+                .filter(IndexedVersion::active)
+                .map(IndexedVersion::id)
+                .findFirst();
+    }
+
+    public Optional<String> find(String name, String version) {
+        NavigableMap<Integer, IndexedVersion> versions = versionsByName.get(name);
+        if (versions == null) {
+            return Optional.empty();
+        }
+        return versions.values().stream()
+                .filter(candidate -> candidate.version().equals(version))
+                .map(IndexedVersion::id)
+                .findFirst();
+    }
+
+    /**
+     * Resolves the definition a start request refers to: an explicit id as is, otherwise the given version of
+     * the named definition, or its latest active version.
+     */
+    public String resolve(String definitionId, String name, String version) {
+        if (definitionId != null && !definitionId.isBlank()) {
+            return definitionId;
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("Either a workflow definition id or name is required");
+        }
+        boolean reloaded = reloadIfExpired(name);
+        Optional<String> resolved = version != null ? find(name, version) : latestActive(name);
+        if (resolved.isEmpty() && !reloaded) {
+            resolved = version != null
+                    ? load(repository.findByNameAndVersion(name, version))
+                    : load(repository.findTopByNameAndActiveTrueOrderByRevisionDesc(name));
+        }
+        return resolved.orElseThrow(() -> new ResourceNotFoundException(
+                version != null
+                        ? String.format("Workflow Definition '%s' has no version %s", name, version)
+                        : String.format("Workflow Definition '%s' has no active version", name)));
+    }
+
+    private boolean reloadIfExpired(String name) {
+        Long loadedAt = loadedAtByName.get(name);
+        if (loadedAt != null && System.nanoTime() - loadedAt < properties.getTtl().toNanos()) {
+            return false;
+        }
+        reload(name);
+        return true;
+    }
+
+    private synchronized void reload(String name) {
+        long now = System.nanoTime();
+        NavigableMap<Integer, IndexedVersion> indexed = versionsByName.remove(name);
+        if (indexed != null) {
+            indexed.values().forEach(version -> versionsById.remove(version.id(), version));
+        }
+        repository.findByName(name).forEach(this::index);
+        if (versionsByName.containsKey(name)) {
+            loadedAtByName.put(name, now);
+        } else {
+            loadedAtByName.remove(name);
+        }
+    }
+
+    private Optional<String> load(Optional<WorkflowDefinitionEntity> definition) {
+        definition.ifPresent(this::index);
+        return definition.map(WorkflowDefinitionEntity::getId);
+    }
+
+    private record IndexedVersion(String id, String name, String version, int revision, boolean active) {
+    }
+}
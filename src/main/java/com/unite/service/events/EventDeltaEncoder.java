@@ -0,0 +1,169 @@
+package com.unite.service.events;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.EventDeltaProperties;
+import com.unite.dto.JsonPatchOperation;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.dto.WorkflowEventMessage.EventType;
+import com.unite.dto.WorkflowEventMessage.PayloadEncoding;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Rewrites outgoing events so that {@code data} is sent as a JSON-Patch against the previous payload of the
+ * same execution. Every event of a tracked execution gets the next sequence number; a full snapshot is sent
+ * first, every {@code snapshotInterval} payloads, and whenever the patch would not be smaller than the data.
+ * Clients that see a gap in the sequence resubscribe to the execution topic to receive a fresh snapshot.
+ * <p>
+ * Tracking ends with a terminal event or {@link #evict}; executions that went quiet without either (lost
+ * callbacks, crashed nodes) are dropped after {@code idleTimeout} once the tracking limit is reached.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventDeltaEncoder {
+
+    private static final TypeReference<Map<String, Object>> DATA = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final EventDeltaProperties properties;
+
+    private final Map<String, ExecutionState> executions = new ConcurrentHashMap<>();
+
+    /**
+     * Encodes {@code event} and hands the result to {@code sender} while holding the execution's lock, so
+     * concurrent publishers cannot deliver sequence numbers out of order.
+     */
+    public void publish(WorkflowEventMessage event, Consumer<WorkflowEventMessage> sender) {
+        String executionId = event.getExecutionId();
+        if (!properties.isEnabled() || executionId == null) {
+            sender.accept(event);
+            return;
+        }
+        ExecutionState state = executions.get(executionId);
+        if (state == null) {
+            if (executions.size() >= properties.getMaxTrackedExecutions() && evictIdle() == 0) {
+                sender.accept(event);
+                return;
+            }
+            state = executions.computeIfAbsent(executionId, id -> new ExecutionState());
+        }
+        synchronized (state) {
+            state.lastPublishedNanos = System.nanoTime();
+            sender.accept(state.encode(event));
+            if (isTerminal(event.getEventType())) {
+                executions.remove(executionId, state);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking an execution that finished without a terminal event, such as a cancelled one.
+     */
+    public void evict(String executionId) {
+        executions.remove(executionId);
+    }
+
+    private synchronized int evictIdle() {
+        long idleBefore = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        int evicted = 0;
+        for (Map.Entry<String, ExecutionState> entry : executions.entrySet()) {
+            boolean idle = entry.getValue().lastPublishedNanos - idleBefore <= 0;
+            if (idle && executions.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Dropped {} idle executions from delta encoding", evicted);
+        }
+        return evicted;
+    }
+
+    public Optional<WorkflowEventMessage> snapshot(String executionId) {
+        ExecutionState state = executions.get(executionId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        synchronized (state) {
+            return Optional.of(WorkflowEventMessage.builder()
+                    .executionId(executionId)
+                    .eventType(EventType.STATE_CHANGED)
+                    .message("Execution snapshot")
+                    .data(state.last == null ? null : objectMapper.convertValue(state.last, DATA))
+                    .sequence(state.sequence)
+                    .encoding(PayloadEncoding.SNAPSHOT)
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private static boolean isTerminal(EventType eventType) {
+        return eventType == EventType.WORKFLOW_COMPLETED || eventType == EventType.WORKFLOW_FAILED;
+    }
+
+    private final class ExecutionState {
+
+        private long sequence;
+        private int sinceSnapshot;
+        private JsonNode last;
+        private volatile long lastPublishedNanos = System.nanoTime();
+
+        WorkflowEventMessage encode(WorkflowEventMessage event) {
+            WorkflowEventMessage encoded = copyWithoutData(event, ++sequence);
+            if (event.getData() == null) {
+                return encoded;
+            }
+            JsonNode current = objectMapper.valueToTree(event.getData());
+            List<JsonPatchOperation> patch = last == null || sinceSnapshot >= properties.getSnapshotInterval()
+                    ? null
+                    : JsonPatchDiff.diff(last, current);
+            if (patch == null || encodedSize(patch) >= current.toString().length()) {
+                encoded.setData(event.getData());
+                encoded.setEncoding(PayloadEncoding.SNAPSHOT);
+                sinceSnapshot = 0;
+            } else {
+                encoded.setPatch(patch);
+                encoded.setEncoding(PayloadEncoding.DELTA);
+                sinceSnapshot++;
+            }
+            last = current;
+            return encoded;
+        }
+    }
+
+    private static int encodedSize(List<JsonPatchOperation> patch) {
+        int size = 0;
+        for (JsonPatchOperation operation : patch) {
+            size += 32 + operation.getPath().length()
+                    + (operation.getValue() == null ? 0 : operation.getValue().toString().length());
+        }
+        return size;
+    }
+
+    private static WorkflowEventMessage copyWithoutData(WorkflowEventMessage event, long sequence) {
+        return WorkflowEventMessage.builder()
+                .eventId(event.getEventId())
+                .executionId(event.getExecutionId())
+                .caseId(event.getCaseId())
+                .workflowDefinitionId(event.getWorkflowDefinitionId())
+                .stepName(event.getStepName())
+                .eventType(event.getEventType())
+                .message(event.getMessage())
+                .sequence(sequence)
+                .traceId(event.getTraceId())
+                .spanId(event.getSpanId())
+                .timestamp(event.getTimestamp())
+                .build();
+    }
+}
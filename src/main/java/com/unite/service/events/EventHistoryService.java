@@ -0,0 +1,149 @@
+package com.unite.service.events;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.EventHistoryProperties;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.dto.WorkflowEventPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Time-ordered reads over the event history. Pages are keyset paginated on {@code (occurred_at, event_id)};
+ * the cursor is the id of the last event returned, from which the timestamp half of the key is recovered.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventHistoryService {
+
+    private static final TypeReference<Map<String, Object>> DATA = new TypeReference<>() {
+    };
+    private static final String COLUMNS = """
+            SELECT event_id, occurred_at, execution_id, case_id, workflow_definition_id, step_name, event_type,
+                   message, data, trace_id
+            FROM workflow_events
+            """;
+    private static final String AFTER_CURSOR =
+            " AND (occurred_at > :cursorAt OR (occurred_at = :cursorAt AND event_id > :cursorId))";
+    private static final String ORDER_AND_LIMIT = " ORDER BY occurred_at, event_id LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventHistoryProperties properties;
+
+    /**
+     * Engine events published while a synchronous start is still running carry the case id in place of the
+     * execution id, which does not exist yet, so the events of an execution are matched on either.
+     */
+    public WorkflowEventPage forExecution(String executionId, String cursor, Integer limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("executionId", executionId);
+        List<String> caseIds = jdbcTemplate.queryForList(
+                "SELECT case_id FROM workflow_executions WHERE id = :executionId", params, String.class);
+        StringBuilder sql = new StringBuilder(COLUMNS);
+        if (caseIds.isEmpty() || caseIds.getFirst() == null) {
+            sql.append(" WHERE execution_id = :executionId");
+        } else {
+            sql.append(" WHERE (execution_id = :executionId OR case_id = :caseId)");
+            params.addValue("caseId", caseIds.getFirst());
+        }
+        return query(sql, params, cursor, limit);
+    }
+
+    public WorkflowEventPage range(LocalDateTime from, LocalDateTime to, String definitionId,
+                                  WorkflowEventMessage.EventType eventType, String cursor, Integer limit) {
+        StringBuilder sql = new StringBuilder(COLUMNS).append(" WHERE 1 = 1");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (from != null) {
+            sql.append(" AND occurred_at >= :from");
+            params.addValue("from", toUtc(from));
+        }
+        if (to != null) {
+            sql.append(" AND occurred_at < :to");
+            params.addValue("to", toUtc(to));
+        }
+        if (definitionId != null) {
+            sql.append(" AND workflow_definition_id = :definitionId");
+            params.addValue("definitionId", definitionId);
+        }
+        if (eventType != null) {
+            sql.append(" AND event_type = :eventType");
+            params.addValue("eventType", eventType.name());
+        }
+        return query(sql, params, cursor, limit);
+    }
+
+    private WorkflowEventPage query(StringBuilder sql, MapSqlParameterSource params, String cursor, Integer limit) {
+        int pageSize = properties.resolvePageSize(limit);
+        if (cursor != null) {
+            UUID cursorId = parseCursor(cursor);
+            sql.append(AFTER_CURSOR);
+            params.addValue("cursorAt", Timestamp.valueOf(
+                    LocalDateTime.ofInstant(UuidV7.timestamp(cursorId), ZoneOffset.UTC)));
+            params.addValue("cursorId", cursorId.toString());
+        }
+        sql.append(ORDER_AND_LIMIT);
+        params.addValue("limit", pageSize);
+
+        List<WorkflowEventMessage> events = jdbcTemplate.query(sql.toString(), params, this::mapRow);
+        String nextCursor = events.size() == pageSize ? events.getLast().getEventId() : null;
+        return WorkflowEventPage.builder()
+                .events(events)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private WorkflowEventMessage mapRow(ResultSet rs, int rowNum) throws SQLException {
+        LocalDateTime occurredAt = rs.getTimestamp("occurred_at").toLocalDateTime();
+        return WorkflowEventMessage.builder()
+                .eventId(rs.getString("event_id"))
+                .executionId(rs.getString("execution_id"))
+                .caseId(rs.getString("case_id"))
+                .workflowDefinitionId(rs.getString("workflow_definition_id"))
+                .stepName(rs.getString("step_name"))
+                .eventType(WorkflowEventMessage.EventType.valueOf(rs.getString("event_type")))
+                .message(rs.getString("message"))
+                .data(readData(rs.getString("data")))
+                .traceId(rs.getString("trace_id"))
+                .timestamp(LocalDateTime.ofInstant(occurredAt.toInstant(ZoneOffset.UTC), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private Map<String, Object> readData(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, DATA);
+        } catch (Exception e) {
+            log.warn("Unreadable event data in history: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Timestamp toUtc(LocalDateTime local) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(local.atZone(ZoneId.systemDefault()).toInstant(),
+                ZoneOffset.UTC));
+    }
+
+    private static UUID parseCursor(String cursor) {
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
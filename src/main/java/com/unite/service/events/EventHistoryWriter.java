@@ -0,0 +1,131 @@
+package com.unite.service.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.EventHistoryProperties;
+import com.unite.dto.WorkflowEventMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends published events to {@code workflow_events}. Publishers only offer to a bounded queue; a single
+ * writer thread drains it into JDBC batch inserts, so event publishing never waits on the database. When the
+ * queue is full the event is still delivered to subscribers but is counted as dropped from history.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventHistoryWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO workflow_events (event_id, occurred_at, execution_id, case_id, workflow_definition_id,
+                                         step_name, event_type, message, data, trace_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventHistoryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<WorkflowEventMessage> queue;
+    private Thread writer;
+    private Counter written;
+    private Counter dropped;
+    private Timer batchTimer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        written = meterRegistry.counter("unite.events.history.written");
+        dropped = meterRegistry.counter("unite.events.history.dropped");
+        batchTimer = meterRegistry.timer("unite.events.history.batch");
+        Gauge.builder("unite.events.history.queue", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        writer = Thread.ofPlatform().name("event-history-writer").daemon().start(this::drainLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public void append(WorkflowEventMessage event) {
+        if (queue == null || event.getEventType() == null) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<WorkflowEventMessage> batch = new ArrayList<>(properties.getBatchSize());
+        long flushNanos = properties.getFlushInterval().toNanos();
+        while (running || !queue.isEmpty()) {
+            try {
+                WorkflowEventMessage first = queue.poll(flushNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to write {} events to history: {}", batch.size(), e.getMessage(), e);
+                dropped.increment(batch.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<WorkflowEventMessage> batch) {
+        batchTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+            String eventId = event.getEventId();
+            ps.setString(1, eventId);
+            ps.setTimestamp(2, Timestamp.valueOf(occurredAt(eventId)));
+            ps.setString(3, event.getExecutionId());
+            ps.setString(4, event.getCaseId());
+            ps.setString(5, event.getWorkflowDefinitionId());
+            ps.setString(6, event.getStepName());
+            ps.setString(7, event.getEventType().name());
+            ps.setString(8, event.getMessage());
+            ps.setString(9, event.getData() == null ? null : objectMapper.writeValueAsString(event.getData()));
+            ps.setString(10, event.getTraceId());
+        }));
+        written.increment(batch.size());
+    }
+
+    static LocalDateTime occurredAt(String eventId) {
+        return LocalDateTime.ofInstant(UuidV7.timestamp(UUID.fromString(eventId)), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,128 @@
+package com.unite.service.events;
+
+import com.unite.config.EventHistoryProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps daily partitions of {@code workflow_events} created ahead of time and detaches and drops partitions
+ * older than the retention period, so expiring history never needs a bulk {@code DELETE}.
+ * <p>
+ * Events of a day without a partition go to the default partition, and PostgreSQL refuses to add a partition
+ * for a range the default partition has rows in. A partition is therefore created detached, the day's rows are
+ * moved into it from the default partition, and it is attached, all while inserts into the default partition
+ * are blocked.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventPartitionMaintainer {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String PREFIX = "workflow_events_";
+    private static final String DEFAULT_PARTITION = "workflow_events_default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventHistoryProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactions;
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || !properties.isPartitioned()) {
+            return;
+        }
+        transactions = new TransactionTemplate(transactionManager);
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("event-partition-maintainer").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::maintain, 0, 1, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void maintain() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i <= properties.getPartitionsAhead(); i++) {
+            LocalDate day = today.plusDays(i);
+            try {
+                createPartition(day);
+            } catch (Exception e) {
+                log.error("Failed to create event history partition for {}: {}", day, e.getMessage(), e);
+            }
+        }
+        dropExpired(today.minusDays(properties.getRetention().toDays()));
+    }
+
+    private void createPartition(LocalDate day) {
+        String partition = PREFIX + day.format(SUFFIX);
+        if (attachedPartitions().contains(partition)) {
+            return;
+        }
+        transactions.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+            if (attachedPartitions().contains(partition)) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition
+                    + " (LIKE workflow_events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                            + " WHERE occurred_at >= ? AND occurred_at < ? RETURNING *) INSERT INTO " + partition
+                            + " SELECT * FROM moved",
+                    Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+            jdbcTemplate.execute("ALTER TABLE workflow_events ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+            if (moved > 0) {
+                log.info("Moved {} events from the default partition into {}", moved, partition);
+            }
+        });
+    }
+
+    private void dropExpired(LocalDate cutoff) {
+        String cutoffName = PREFIX + cutoff.format(SUFFIX);
+        for (String partition : attachedPartitions()) {
+            if (partition.compareTo(cutoffName) >= 0) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("ALTER TABLE workflow_events DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped expired event history partition {}", partition);
+            } catch (Exception e) {
+                log.error("Failed to drop event history partition {}: {}", partition, e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'workflow_events' AND c.relname ~ '^workflow_events_[0-9]{8}$'
+                """, String.class);
+    }
+}
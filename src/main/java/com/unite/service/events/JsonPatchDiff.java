@@ -0,0 +1,65 @@
+package com.unite.service.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.unite.dto.JsonPatchOperation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal RFC 6902 diff. Objects are compared member by member; arrays and scalars that differ are replaced
+ * whole, which keeps patches order-independent and cheap to apply on the client.
+ */
+public final class JsonPatchDiff {
+
+    private JsonPatchDiff() {
+    }
+
+    public static List<JsonPatchOperation> diff(JsonNode source, JsonNode target) {
+        List<JsonPatchOperation> operations = new ArrayList<>();
+        diff(source, target, "", operations);
+        return operations;
+    }
+
+    private static void diff(JsonNode source, JsonNode target, String path, List<JsonPatchOperation> operations) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (!source.isObject() || !target.isObject()) {
+            operations.add(operation("replace", path, target));
+            return;
+        }
+        Iterator<String> sourceFields = source.fieldNames();
+        while (sourceFields.hasNext()) {
+            String field = sourceFields.next();
+            if (!target.has(field)) {
+                operations.add(operation("remove", path + "/" + escape(field), null));
+            }
+        }
+        Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+        while (targetFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = targetFields.next();
+            String fieldPath = path + "/" + escape(field.getKey());
+            JsonNode previous = source.get(field.getKey());
+            if (previous == null) {
+                operations.add(operation("add", fieldPath, field.getValue()));
+            } else {
+                diff(previous, field.getValue(), fieldPath, operations);
+            }
+        }
+    }
+
+    private static JsonPatchOperation operation(String op, String path, JsonNode value) {
+        return JsonPatchOperation.builder()
+                .op(op)
+                .path(path)
+                .value(value)
+                .build();
+    }
+
+    private static String escape(String field) {
+        return field.replace("~", "~0").replace("/", "~1");
+    }
+}
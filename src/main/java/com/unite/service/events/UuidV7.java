@@ -0,0 +1,38 @@
+package com.unite.service.events;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit millisecond timestamp followed by random bits. Ids from this JVM are
+ * strictly increasing; within one millisecond the 12-bit {@code rand_a} field is used as a counter.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis();
+        long state;
+        long next;
+        do {
+            state = LAST.get();
+            long lastMillis = state >>> 12;
+            next = now > lastMillis ? now << 12 : state + 1;
+        } while (!LAST.compareAndSet(state, next));
+
+        long mostSignificant = (next >>> 12) << 16 | 0x7000L | (next & 0xFFFL);
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    public static Instant timestamp(UUID uuid) {
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+}
@@ -0,0 +1,8 @@
+package com.unite.service.export;
+
+/**
+ * A column of the export: the SQL column it is read from, the name it is written under, and whether the
+ * value is JSON text that is copied through as is.
+ */
+record ExportColumn(String column, String name, boolean json) {
+}
@@ -0,0 +1,22 @@
+package com.unite.service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows one at a time; nothing is retained between calls.
+ */
+interface ExportRowWriter {
+
+    void header() throws IOException;
+
+    void row(String[] values) throws IOException;
+
+    static ExportRowWriter create(ExportFormat format, List<ExportColumn> columns, Writer out) {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(columns, out);
+            case NDJSON -> new NdjsonRowWriter(columns, out);
+        };
+    }
+}
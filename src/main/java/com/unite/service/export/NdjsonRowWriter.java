@@ -0,0 +1,70 @@
+package com.unite.service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * One JSON object per line. Variable columns already hold JSON and are written without being parsed.
+ */
+final class NdjsonRowWriter implements ExportRowWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final List<ExportColumn> columns;
+    private final Writer out;
+
+    NdjsonRowWriter(List<ExportColumn> columns, Writer out) {
+        this.columns = columns;
+        this.out = out;
+    }
+
+    @Override
+    public void header() {
+    }
+
+    @Override
+    public void row(String[] values) throws IOException {
+        out.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            ExportColumn column = columns.get(i);
+            writeString(column.name());
+            out.write(':');
+            if (values[i] == null || (column.json() && values[i].isEmpty())) {
+                out.write("null");
+            } else if (column.json()) {
+                out.write(values[i]);
+            } else {
+                writeString(values[i]);
+            }
+        }
+        out.write("}\n");
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write("\\u00");
+                        out.write(HEX[c >> 4]);
+                        out.write(HEX[c & 0xF]);
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
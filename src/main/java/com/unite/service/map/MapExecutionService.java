@@ -0,0 +1,257 @@
+package com.unite.service.map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.MapExecutionProperties;
+import com.unite.dto.MapExecutionSummary;
+import com.unite.dto.MapItemResult;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.dto.WorkflowExecutionResponse;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import com.unite.exception.ResourceNotFoundException;
+import com.unite.exception.WorkflowExecutionException;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.service.WorkflowExecutionService;
+import com.unite.service.validation.InputSchemaValidator;
+import com.unite.service.workflows.ExecutionOutcomes;
+import com.unite.service.workflows.ExecutionOutcomes.Outcome;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Starts one execution of a definition per input item and waits for it to finish. Items are pulled from the
+ * iterator only when a permit is free, so a streamed request body is consumed at the pace executions complete
+ * rather than buffered.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MapExecutionService {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+    private static final long MIN_BACKOFF_MILLIS = 10;
+
+    private final WorkflowExecutionService executionService;
+    private final WorkflowDefinitionRepository definitionRepository;
+    private final InputSchemaValidator inputSchemaValidator;
+    private final MapExecutionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ExecutionOutcomes executionOutcomes;
+
+    public void validate(String definitionId) {
+        WorkflowDefinitionEntity definition = definitionRepository.findById(definitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", definitionId));
+        if (!definition.getActive()) {
+            throw new WorkflowExecutionException("Workflow definition is not active: " + definition.getName());
+        }
+    }
+
+    /**
+     * Reads either a JSON array of variable maps or newline-delimited JSON objects.
+     */
+    public MappingIterator<Map<String, Object>> readInputs(InputStream body) throws IOException {
+        return objectMapper.readerFor(VARIABLES).readValues(body);
+    }
+
+    /**
+     * Runs every input with at most {@code parallelism} executions in flight. {@code onResult} is called once
+     * per item as it completes, never concurrently.
+     */
+    public MapExecutionSummary run(String definitionId, Iterator<Map<String, Object>> inputs, Integer parallelism,
+                                   boolean failFast, boolean collectResults, Consumer<MapItemResult> onResult) {
+        long started = System.currentTimeMillis();
+        int permits = properties.resolveParallelism(parallelism);
+        Semaphore inFlight = new Semaphore(permits);
+        AtomicBoolean abort = new AtomicBoolean();
+        Aggregate aggregate = new Aggregate(collectResults ? properties.getMaxCollectedResults() : 0, onResult);
+        long submitted = 0;
+
+        try (ExecutorService executor = ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(),
+                () -> SNAPSHOTS.captureAll())) {
+            while (!abort.get() && inputs.hasNext()) {
+                Map<String, Object> variables = inputs.next();
+                inFlight.acquireUninterruptibly();
+                if (abort.get()) {
+                    inFlight.release();
+                    break;
+                }
+                long index = submitted++;
+                executor.execute(() -> {
+                    try {
+                        MapItemResult result = execute(definitionId, index, variables);
+                        if (aggregate.accept(result) && failFast) {
+                            abort.set(true);
+                        }
+                    } catch (RuntimeException e) {
+                        log.warn("Map over workflow {} stopped: {}", definitionId, e.getMessage());
+                        abort.set(true);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        log.info("Map over workflow {} finished: {} submitted, {} failed{}", definitionId, submitted,
+                aggregate.failed, abort.get() ? " (aborted)" : "");
+        return aggregate.summary(definitionId, submitted, abort.get(), System.currentTimeMillis() - started);
+    }
+
+    private MapItemResult execute(String definitionId, long index, Map<String, Object> variables) {
+        long started = System.currentTimeMillis();
+        String caseId = UUID.randomUUID().toString();
+        // Watched before the start: the engine may finish the case before the start returns
+        CompletableFuture<Outcome> outcome = executionOutcomes.watch(caseId);
+        try {
+            inputSchemaValidator.validate(definitionId, variables);
+            WorkflowExecutionResponse response = startThrottled(WorkflowExecutionRequest.builder()
+                    .workflowDefinitionId(definitionId)
+                    .caseId(caseId)
+                    .inputVariables(variables)
+                    .build());
+            MapItemResult.MapItemResultBuilder result = MapItemResult.builder()
+                    .index(index)
+                    .executionId(response.getId())
+                    .caseId(caseId);
+            if (isTerminal(response.getStatus())) {
+                result.status(response.getStatus())
+                        .outputVariables(response.getOutputVariables())
+                        .errorMessage(response.getErrorMessage());
+            } else {
+                awaitOutcome(outcome, response, result);
+            }
+            return result.durationMillis(System.currentTimeMillis() - started).build();
+        } catch (Exception e) {
+            return MapItemResult.builder()
+                    .index(index)
+                    .status(ExecutionStatus.FAILED)
+                    .errorMessage(e.getMessage())
+                    .durationMillis(System.currentTimeMillis() - started)
+                    .build();
+        } finally {
+            executionOutcomes.unwatch(caseId);
+        }
+    }
+
+    private void awaitOutcome(CompletableFuture<Outcome> outcome, WorkflowExecutionResponse response,
+                              MapItemResult.MapItemResultBuilder result) throws Exception {
+        try {
+            Outcome finished = outcome.get(properties.getCompletionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            result.status(finished.status())
+                    .outputVariables(readOutputs(finished.outputVariables()))
+                    .errorMessage(finished.errorMessage());
+        } catch (TimeoutException e) {
+            result.status(response.getStatus())
+                    .errorMessage("Not finished within " + properties.getCompletionTimeout());
+        }
+    }
+
+    private JsonNode readOutputs(String json) throws IOException {
+        return json == null ? null : objectMapper.readTree(json);
+    }
+
+    private static boolean isTerminal(ExecutionStatus status) {
+        return status == ExecutionStatus.COMPLETED || status == ExecutionStatus.FAILED
+                || status == ExecutionStatus.CANCELLED;
+    }
+
+    /**
+     * A map is one caller with its own parallelism bound, so starts shed by the adaptive limit are retried
+     * here rather than reported as failed items.
+     */
+    private WorkflowExecutionResponse startThrottled(WorkflowExecutionRequest request) throws InterruptedException {
+        long backoffMillis = MIN_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                return executionService.executeWorkflow(request);
+            } catch (ConcurrencyLimitExceededException e) {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1));
+                backoffMillis = Math.min(backoffMillis * 2, e.getRetryAfter().toMillis());
+            }
+        }
+    }
+
+    private static final class Aggregate {
+
+        private final int maxCollected;
+        private final Consumer<MapItemResult> onResult;
+        private final List<MapItemResult> results = new ArrayList<>();
+        private long succeeded;
+        private long failed;
+        private long unfinished;
+        private MapItemResult firstFailure;
+
+        Aggregate(int maxCollected, Consumer<MapItemResult> onResult) {
+            this.maxCollected = maxCollected;
+            this.onResult = onResult;
+        }
+
+        /**
+         * Returns whether the result is a failure.
+         */
+        synchronized boolean accept(MapItemResult result) {
+            boolean failure = result.getStatus() == ExecutionStatus.FAILED
+                    || result.getStatus() == ExecutionStatus.CANCELLED;
+            if (failure) {
+                failed++;
+                if (firstFailure == null) {
+                    firstFailure = result;
+                }
+            } else if (result.getStatus() == ExecutionStatus.COMPLETED) {
+                succeeded++;
+            } else {
+                unfinished++;
+            }
+            if (results.size() < maxCollected) {
+                results.add(result);
+            }
+            if (onResult != null) {
+                onResult.accept(result);
+            }
+            return failure;
+        }
+
+        synchronized MapExecutionSummary summary(String definitionId, long submitted, boolean aborted,
+                                                 long durationMillis) {
+            results.sort(Comparator.comparingLong(MapItemResult::getIndex));
+            return MapExecutionSummary.builder()
+                    .workflowDefinitionId(definitionId)
+                    .submitted(submitted)
+                    .succeeded(succeeded)
+                    .failed(failed)
+                    .unfinished(unfinished)
+                    .aborted(aborted)
+                    .durationMillis(durationMillis)
+                    .firstFailure(firstFailure)
+                    .results(maxCollected > 0 ? results : null)
+                    .build();
+        }
+    }
+}
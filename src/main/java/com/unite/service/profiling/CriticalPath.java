@@ -0,0 +1,96 @@
+package com.unite.service.profiling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.unite.dto.StepLatencyStats;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Longest path through a definition's {@code steps}/{@code next} graph, weighted by each step's mean
+ * duration. Steps are matched to profiled names by {@code id} or {@code name}; edges that close a
+ * cycle are ignored so retries and loops do not make the path unbounded.
+ */
+public record CriticalPath(List<String> steps, double durationMicros) {
+
+    private static final CriticalPath EMPTY = new CriticalPath(List.of(), 0);
+
+    public static CriticalPath of(JsonNode definitionJson, List<StepLatencyStats> stats) {
+        JsonNode steps = definitionJson == null ? null : definitionJson.path("steps");
+        if (steps == null || !steps.isArray() || steps.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, StepLatencyStats> statsByStep = new HashMap<>();
+        stats.forEach(stat -> statsByStep.put(stat.getStep(), stat));
+
+        Map<String, List<String>> edges = new LinkedHashMap<>();
+        Map<String, Double> weights = new HashMap<>();
+        Set<String> targets = new HashSet<>();
+        for (JsonNode step : steps) {
+            String id = step.hasNonNull("id") ? step.get("id").asText() : step.path("name").asText(null);
+            if (id == null) {
+                continue;
+            }
+            StepLatencyStats stat = statsByStep.getOrDefault(id, statsByStep.get(step.path("name").asText(null)));
+            weights.put(id, stat == null ? 0 : stat.getMeanMicros());
+
+            List<String> next = new ArrayList<>();
+            JsonNode nextNode = step.path("next");
+            if (nextNode.isArray()) {
+                nextNode.forEach(target -> next.add(target.asText()));
+            } else if (nextNode.isTextual()) {
+                next.add(nextNode.asText());
+            }
+            edges.put(id, next);
+            targets.addAll(next);
+        }
+
+        Map<String, CriticalPath> memo = new HashMap<>();
+        CriticalPath longest = EMPTY;
+        for (String id : edges.keySet()) {
+            if (!targets.contains(id)) {
+                CriticalPath path = longestFrom(id, edges, weights, memo, new HashSet<>());
+                if (path.durationMicros() > longest.durationMicros() || longest.steps().isEmpty()) {
+                    longest = path;
+                }
+            }
+        }
+        if (longest.steps().isEmpty()) {
+            longest = longestFrom(edges.keySet().iterator().next(), edges, weights, memo, new HashSet<>());
+        }
+        return longest;
+    }
+
+    private static CriticalPath longestFrom(String id, Map<String, List<String>> edges, Map<String, Double> weights,
+                                            Map<String, CriticalPath> memo, Set<String> visiting) {
+        CriticalPath cached = memo.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        visiting.add(id);
+        CriticalPath best = EMPTY;
+        for (String next : edges.getOrDefault(id, List.of())) {
+            if (!edges.containsKey(next) || visiting.contains(next)) {
+                continue;
+            }
+            CriticalPath candidate = longestFrom(next, edges, weights, memo, visiting);
+            if (best.steps().isEmpty() || candidate.durationMicros() > best.durationMicros()) {
+                best = candidate;
+            }
+        }
+        visiting.remove(id);
+
+        List<String> path = new ArrayList<>(best.steps().size() + 1);
+        path.add(id);
+        path.addAll(best.steps());
+        CriticalPath result = new CriticalPath(List.copyOf(path), weights.getOrDefault(id, 0.0) + best.durationMicros());
+        memo.put(id, result);
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package com.unite.service.profiling;
+
+import com.unite.config.ProfilingProperties;
+import com.unite.dto.StepLatencyStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-definition, per-step duration histograms fed from engine step events. Writers record into
+ * HdrHistogram {@link Recorder}s, which are wait-free; readers fold the interval histograms into a
+ * cumulative one under the step's own monitor, so recording never blocks on a snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StepLatencyProfiler {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ProfilingProperties properties;
+
+    private final Map<String, Map<String, StepHistogram>> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> startedSteps = new ConcurrentHashMap<>();
+
+    public void stepStarted(String caseId, String step, long nanoTime) {
+        if (!properties.isEnabled() || step == null) {
+            return;
+        }
+        Map<String, Long> steps = startedSteps.get(caseId);
+        if (steps == null) {
+            if (startedSteps.size() >= properties.getMaxTrackedCases()) {
+                log.debug("Step profiling skipped for case {}: {} cases already tracked", caseId, startedSteps.size());
+                return;
+            }
+            steps = startedSteps.computeIfAbsent(caseId, key -> new ConcurrentHashMap<>());
+        }
+        steps.put(step, nanoTime);
+    }
+
+    public void stepFinished(String caseId, String definitionId, String step, long nanoTime, boolean failed) {
+        Map<String, Long> steps = startedSteps.get(caseId);
+        Long startedAt = steps == null || step == null ? null : steps.remove(step);
+        if (startedAt == null || definitionId == null) {
+            return;
+        }
+        histograms.computeIfAbsent(definitionId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(step, key -> new StepHistogram())
+                .record(TimeUnit.NANOSECONDS.toMicros(nanoTime - startedAt), failed);
+    }
+
+    public void caseFinished(String caseId) {
+        startedSteps.remove(caseId);
+    }
+
+    public List<StepLatencyStats> snapshot(String definitionId) {
+        Map<String, StepHistogram> steps = histograms.getOrDefault(definitionId, Map.of());
+        return steps.entrySet().stream()
+                .map(entry -> entry.getValue().stats(entry.getKey()))
+                .sorted(Comparator.comparingLong(StepLatencyStats::getP99Micros).reversed())
+                .toList();
+    }
+
+    public void reset(String definitionId) {
+        histograms.remove(definitionId);
+    }
+
+    private static final class StepHistogram {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram cumulative = new Histogram(SIGNIFICANT_DIGITS);
+        private final LongAdder failures = new LongAdder();
+        private Histogram interval;
+
+        void record(long micros, boolean failed) {
+            recorder.recordValue(Math.max(micros, 0));
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        synchronized StepLatencyStats stats(String step) {
+            interval = recorder.getIntervalHistogram(interval);
+            cumulative.add(interval);
+            long count = cumulative.getTotalCount();
+            return StepLatencyStats.builder()
+                    .step(step)
+                    .count(count)
+                    .failures(failures.sum())
+                    .meanMicros(count == 0 ? 0 : cumulative.getMean())
+                    .p50Micros(cumulative.getValueAtPercentile(50))
+                    .p99Micros(cumulative.getValueAtPercentile(99))
+                    .maxMicros(cumulative.getMaxValue())
+                    .build();
+        }
+    }
+}
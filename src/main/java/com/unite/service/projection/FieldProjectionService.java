@@ -0,0 +1,171 @@
+package com.unite.service.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.unite.config.JsonProperties;
+import com.unite.datasource.ReadYourWrites;
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.exception.ResourceNotFoundException;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.service.search.SearchHit;
+import com.unite.service.search.WorkflowDefinitionSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves sparse fieldsets. Only the selected attributes are put into the SELECT list of a tuple query, so
+ * large TEXT columns that were not asked for are never read from the database, parsed or serialized.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FieldProjectionService {
+
+    private final EntityManager entityManager;
+    private final WorkflowDefinitionSearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
+    private final JsonProperties jsonProperties;
+    private final ReadYourWrites readYourWrites;
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> execution(String id, FieldSelection selection) {
+        return readYourWrites.read(id, () -> select(WorkflowExecutionEntity.class, selection, Map.of("id", id)))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Execution", id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> executions(String definitionId, ExecutionStatus status, FieldSelection selection) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        if (definitionId != null) {
+            filters.put("workflowDefinitionId", definitionId);
+        } else if (status != null) {
+            filters.put("status", status);
+        }
+        return select(WorkflowExecutionEntity.class, selection, filters);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> definition(String id, FieldSelection selection) {
+        return readYourWrites.read(id, () -> select(WorkflowDefinitionEntity.class, selection, Map.of("id", id)))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> definitions(Boolean active, String search, FieldSelection selection) {
+        if (search != null && !search.isEmpty()) {
+            return searchDefinitions(search, selection);
+        }
+        Map<String, Object> filters = active != null && active ? Map.of("active", true) : Map.of();
+        return select(WorkflowDefinitionEntity.class, selection, filters);
+    }
+
+    /**
+     * Keeps the search ranking: rows are fetched by id and put back into hit order. The id is always selected
+     * for that and dropped again if it was not requested.
+     */
+    private List<Map<String, Object>> searchDefinitions(String search, FieldSelection selection) {
+        List<SearchHit> hits = searchIndex.search(WorkflowDefinitionSearchCriteria.builder().query(search).build());
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = hits.stream().map(SearchHit::definitionId).collect(Collectors.toList());
+        List<String> fields = new ArrayList<>(selection.fields());
+        boolean idRequested = fields.contains("id");
+        if (!idRequested) {
+            fields.addFirst("id");
+        }
+        FieldSelection withId = new FieldSelection(new LinkedHashSet<>(fields), selection.jsonFields());
+        Map<Object, Map<String, Object>> rows = select(WorkflowDefinitionEntity.class, withId, Map.of("id", ids))
+                .stream()
+                .collect(Collectors.toMap(row -> row.get("id"), Function.identity()));
+
+        List<Map<String, Object>> ranked = new ArrayList<>(rows.size());
+        for (String id : ids) {
+            Map<String, Object> row = rows.get(id);
+            if (row != null) {
+                if (!idRequested) {
+                    row.remove("id");
+                }
+                ranked.add(row);
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * Equality filters; a collection value becomes an {@code IN} predicate.
+     */
+    private List<Map<String, Object>> select(Class<?> entityType, FieldSelection selection,
+                                             Map<String, Object> filters) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(selection.fields().size());
+        for (String field : selection.fields()) {
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>(filters.size());
+        filters.forEach((attribute, value) -> predicates.add(value instanceof Collection<?> values
+                ? root.get(attribute).in(values)
+                : cb.equal(root.get(attribute), value)));
+        query.where(predicates.toArray(new Predicate[0]));
+
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        log.debug("Projected {} {} rows onto {}", tuples.size(), entityType.getSimpleName(), selection.fields());
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selection.fields()) {
+                Object value = tuple.get(field);
+                row.put(field, selection.jsonFields().contains(field) ? toJson((String) value) : value);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private JsonNode toJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        if (jsonProperties.isRawPassthrough()) {
+            return JsonNodeFactory.instance.rawValueNode(new RawValue(json));
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            log.error("Error parsing JSON: {}", e.getMessage());
+            return JsonNodeFactory.instance.objectNode();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.unite.service.projection;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A validated {@code fields=} parameter: the requested entity attributes in request order, plus which of them
+ * hold JSON text that has to be turned into a {@code JsonNode} on the way out.
+ */
+public record FieldSelection(Set<String> fields, Set<String> jsonFields) {
+
+    public static final List<String> EXECUTION_FIELDS = List.of(
+            "id", "workflowDefinitionId", "caseId", "tenantId", "status", "inputVariables", "outputVariables",
+            "errorMessage", "attempt", "retryOf", "startedAt", "updatedAt", "completedAt", "deadline");
+    public static final Set<String> EXECUTION_JSON_FIELDS = Set.of("inputVariables", "outputVariables");
+
+    public static final List<String> DEFINITION_FIELDS = List.of(
+            "id", "name", "description", "version", "revision", "contentHash", "definitionJson", "inputSchema",
+            "active", "createdAt", "updatedAt", "createdBy", "tags", "cronExpression");
+    public static final Set<String> DEFINITION_JSON_FIELDS = Set.of("definitionJson", "inputSchema");
+
+    public static FieldSelection executions(String fields) {
+        return parse(fields, EXECUTION_FIELDS, EXECUTION_JSON_FIELDS);
+    }
+
+    public static FieldSelection definitions(String fields) {
+        return parse(fields, DEFINITION_FIELDS, DEFINITION_JSON_FIELDS);
+    }
+
+    static FieldSelection parse(String fields, List<String> allowed, Set<String> json) {
+        Set<String> selected = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!allowed.contains(name)) {
+                    throw new IllegalArgumentException(
+                            String.format("Unknown field '%s'; supported fields are %s", name, allowed));
+                }
+                selected.add(name);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        Set<String> selectedJson = new LinkedHashSet<>(selected);
+        selectedJson.retainAll(json);
+        return new FieldSelection(Collections.unmodifiableSet(selected), Collections.unmodifiableSet(selectedJson));
+    }
+}
@@ -0,0 +1,177 @@
+package com.unite.service.queue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.StartQueueProperties;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.exception.ResourceNotFoundException;
+import com.unite.model.WorkflowStartQueueEntity;
+import com.unite.model.WorkflowStartQueueEntity.QueueStatus;
+import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.repository.WorkflowStartQueueRepository;
+import com.unite.service.ExecutionRecoveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StartQueueService {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final WorkflowStartQueueRepository repository;
+    private final WorkflowDefinitionRepository definitionRepository;
+    private final WorkflowExecutionRepository executionRepository;
+    private final StartQueueProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public WorkflowStartQueueEntity enqueue(WorkflowExecutionRequest request) {
+        if (!definitionRepository.existsById(request.getWorkflowDefinitionId())) {
+            throw new ResourceNotFoundException("Workflow Definition", request.getWorkflowDefinitionId());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        WorkflowStartQueueEntity entry = repository.save(WorkflowStartQueueEntity.builder()
+                .workflowDefinitionId(request.getWorkflowDefinitionId())
+                .caseId(request.getCaseId() != null ? request.getCaseId() : UUID.randomUUID().toString())
+                .tenantId(request.getTenantId())
+                .inputVariables(writeVariables(request.getInputVariables()))
+                .timeoutMillis(request.getTimeout() != null ? request.getTimeout().toMillis() : null)
+                .status(QueueStatus.READY)
+                .enqueuedAt(now)
+                .visibleAt(now)
+                .build());
+        log.debug("Enqueued start of workflow {} (case {})", entry.getWorkflowDefinitionId(), entry.getCaseId());
+        return entry;
+    }
+
+    /**
+     * Claims up to {@code batchSize} visible entries and hides them for the visibility timeout. The row locks
+     * are only held for this short transaction; an entry whose worker dies becomes visible again afterwards.
+     */
+    @Transactional
+    public List<WorkflowStartQueueEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkflowStartQueueEntity> batch = repository.findVisibleForUpdate(QueueStatus.READY, now,
+                PageRequest.of(0, properties.getBatchSize()));
+        for (WorkflowStartQueueEntity entry : batch) {
+            entry.setVisibleAt(now.plus(properties.getVisibilityTimeout()));
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setClaimToken(UUID.randomUUID().toString());
+            entry.setClaimedBy(ExecutionRecoveryService.NODE_ID);
+        }
+        return repository.saveAll(batch);
+    }
+
+    /**
+     * Keeps entries hidden while their starts are still running, so that a start outlasting the visibility
+     * timeout is not claimed and started a second time.
+     */
+    @Transactional
+    public int extendClaims(Collection<String> claimTokens) {
+        if (claimTokens.isEmpty()) {
+            return 0;
+        }
+        return repository.extendClaims(claimTokens, LocalDateTime.now().plus(properties.getVisibilityTimeout()));
+    }
+
+    /**
+     * Whether the entry's case already has an execution, i.e. an earlier claim started it but did not complete
+     * the entry.
+     */
+    @Transactional(readOnly = true)
+    public boolean isStarted(WorkflowStartQueueEntity entry) {
+        return executionRepository.existsByCaseId(entry.getCaseId());
+    }
+
+    @Transactional
+    public void complete(WorkflowStartQueueEntity entry) {
+        if (repository.deleteClaimed(entry.getId(), entry.getClaimToken()) == 0) {
+            log.warn("Queue entry {} was reclaimed before completion (case {})", entry.getId(), entry.getCaseId());
+        }
+    }
+
+    @Transactional
+    public void fail(WorkflowStartQueueEntity entry, Exception error) {
+        repository.findById(entry.getId())
+                .filter(current -> entry.getClaimToken().equals(current.getClaimToken()))
+                .ifPresent(current -> {
+                    current.setLastError(error.getMessage());
+                    current.setClaimToken(null);
+                    if (current.getAttempts() >= properties.getMaxAttempts()) {
+                        current.setStatus(QueueStatus.FAILED);
+                        log.error("Giving up on start of workflow {} (case {}) after {} attempts: {}",
+                                current.getWorkflowDefinitionId(), current.getCaseId(), current.getAttempts(),
+                                error.getMessage());
+                    } else {
+                        current.setVisibleAt(LocalDateTime.now()
+                                .plus(properties.getRetryBackoff().multipliedBy(current.getAttempts())));
+                    }
+                    repository.save(current);
+                });
+    }
+
+    /**
+     * Hands a claimed entry back without counting the attempt, for starts that were shed under load.
+     */
+    @Transactional
+    public void release(WorkflowStartQueueEntity entry, Duration delay) {
+        repository.findById(entry.getId())
+                .filter(current -> entry.getClaimToken().equals(current.getClaimToken()))
+                .ifPresent(current -> {
+                    current.setClaimToken(null);
+                    current.setAttempts(Math.max(0, current.getAttempts() - 1));
+                    current.setVisibleAt(LocalDateTime.now().plus(delay));
+                    repository.save(current);
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public long depth() {
+        return repository.countByStatus(QueueStatus.READY);
+    }
+
+    @Transactional(readOnly = true)
+    public LocalDateTime oldestEnqueuedAt() {
+        return repository.findOldestEnqueuedAt(QueueStatus.READY);
+    }
+
+    public WorkflowExecutionRequest toRequest(WorkflowStartQueueEntity entry) {
+        return WorkflowExecutionRequest.builder()
+                .workflowDefinitionId(entry.getWorkflowDefinitionId())
+                .caseId(entry.getCaseId())
+                .tenantId(entry.getTenantId())
+                .inputVariables(readVariables(entry.getInputVariables()))
+                .timeout(entry.getTimeoutMillis() != null ? Duration.ofMillis(entry.getTimeoutMillis()) : null)
+                .build();
+    }
+
+    private String writeVariables(Map<String, Object> variables) {
+        try {
+            return variables == null ? null : objectMapper.writeValueAsString(variables);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid input variables", e);
+        }
+    }
+
+    private Map<String, Object> readVariables(String json) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, VARIABLES);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to read queued input variables: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.unite.service.queue;
+
+import com.unite.config.StartQueueProperties;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import com.unite.model.WorkflowStartQueueEntity;
+import com.unite.service.WorkflowExecutionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartQueueWorkers {
+
+    private final StartQueueService queueService;
+    private final WorkflowExecutionService executionService;
+    private final StartQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Set<String> inFlightClaims = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService housekeeping;
+    private Counter started;
+    private Counter failed;
+    private Timer waitTimer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("unite.start-queue.depth", depth, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("unite.start-queue.oldest-age", oldestAgeMillis, age -> age.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        started = meterRegistry.counter("unite.start-queue.started");
+        failed = meterRegistry.counter("unite.start-queue.failed");
+        waitTimer = Timer.builder("unite.start-queue.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.add(Thread.ofVirtual().name("start-queue-worker-" + i).start(this::pollLoop));
+        }
+        housekeeping = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("start-queue-housekeeping").daemon().factory());
+        housekeeping.scheduleWithFixedDelay(this::refreshMetrics, 0,
+                properties.getMetricsInterval().toMillis(), TimeUnit.MILLISECONDS);
+        long extendMillis = Math.max(1, properties.getVisibilityTimeout().toMillis() / 3);
+        housekeeping.scheduleWithFixedDelay(this::extendClaims, extendMillis, extendMillis, TimeUnit.MILLISECONDS);
+        log.info("Started {} start-queue workers (batch size: {}, visibility timeout: {})",
+                properties.getWorkers(), properties.getBatchSize(), properties.getVisibilityTimeout());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        if (housekeeping != null) {
+            housekeeping.shutdownNow();
+        }
+    }
+
+    private void pollLoop() {
+        long idleMillis = properties.getPollInterval().toMillis();
+        while (running) {
+            try {
+                List<WorkflowStartQueueEntity> batch = queueService.claimBatch();
+                if (batch.isEmpty()) {
+                    Thread.sleep(idleMillis);
+                    idleMillis = Math.min(idleMillis * 2, properties.getMaxPollInterval().toMillis());
+                    continue;
+                }
+                idleMillis = properties.getPollInterval().toMillis();
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Start queue worker error: {}", e.getMessage(), e);
+                sleepQuietly(properties.getMaxPollInterval());
+            }
+        }
+    }
+
+    private void process(List<WorkflowStartQueueEntity> batch) {
+        try (ExecutorService starts = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (WorkflowStartQueueEntity entry : batch) {
+                starts.execute(() -> start(entry));
+            }
+        }
+    }
+
+    private void start(WorkflowStartQueueEntity entry) {
+        if (entry.getAttempts() == 1) {
+            waitTimer.record(Duration.between(entry.getEnqueuedAt(), LocalDateTime.now()));
+        }
+        inFlightClaims.add(entry.getClaimToken());
+        try {
+            if (queueService.isStarted(entry)) {
+                log.debug("Queued start of workflow {} (case {}) already has an execution",
+                        entry.getWorkflowDefinitionId(), entry.getCaseId());
+                queueService.complete(entry);
+                return;
+            }
+            executionService.executeWorkflow(queueService.toRequest(entry));
+            queueService.complete(entry);
+            started.increment();
+        } catch (ConcurrencyLimitExceededException e) {
+            log.debug("Queued start of workflow {} (case {}) deferred: {}",
+                    entry.getWorkflowDefinitionId(), entry.getCaseId(), e.getMessage());
+            queueService.release(entry, e.getRetryAfter());
+        } catch (Exception e) {
+            log.error("Queued start of workflow {} (case {}) failed: {}",
+                    entry.getWorkflowDefinitionId(), entry.getCaseId(), e.getMessage());
+            failed.increment();
+            queueService.fail(entry, e);
+        } finally {
+            inFlightClaims.remove(entry.getClaimToken());
+        }
+    }
+
+    private void extendClaims() {
+        try {
+            queueService.extendClaims(Set.copyOf(inFlightClaims));
+        } catch (Exception e) {
+            log.warn("Failed to extend start queue claims: {}", e.getMessage());
+        }
+    }
+
+    private void refreshMetrics() {
+        try {
+            depth.set(queueService.depth());
+            LocalDateTime oldest = queueService.oldestEnqueuedAt();
+            oldestAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+        } catch (Exception e) {
+            log.warn("Failed to refresh start queue metrics: {}", e.getMessage());
+        }
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.unite.service.reactive;
+
+import com.unite.config.ReactiveProperties;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs blocking service calls for the reactive endpoints on a bounded elastic scheduler. The request thread is
+ * released while the call waits for a worker, so open connections are bounded by the connector rather than by
+ * threads, while the work itself stays bounded by {@code bridgeThreads}.
+ */
+@Component
+@Slf4j
+public class BlockingBridge {
+
+    private final ReactiveProperties properties;
+    private final Scheduler scheduler;
+    private final Counter rejected;
+
+    public BlockingBridge(ReactiveProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.scheduler = Schedulers.newBoundedElastic(properties.getBridgeThreads(),
+                properties.getBridgeQueueCapacity(), "reactive-bridge");
+        this.scheduler.init();
+        this.rejected = meterRegistry.counter("unite.reactive.bridge.rejected");
+        log.info("Reactive bridge: {} threads, queue of {}", properties.getBridgeThreads(),
+                properties.getBridgeQueueCapacity());
+    }
+
+    public <T> Mono<T> call(Callable<T> call) {
+        return Mono.fromCallable(call)
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejected.increment();
+                    return new ConcurrencyLimitExceededException("the reactive bridge",
+                            properties.getBridgeThreads(), properties.getRetryAfter());
+                });
+    }
+
+    public Mono<Void> run(Runnable call) {
+        return call(() -> {
+            call.run();
+            return null;
+        }).then();
+    }
+
+    @PreDestroy
+    void dispose() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,59 @@
+package com.unite.service.reactive;
+
+import com.unite.config.ReactiveProperties;
+import com.unite.dto.WorkflowEventMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Hot stream of workflow events for the server-sent event endpoint. Every subscriber gets its own bounded
+ * buffer; a subscriber that cannot keep up loses its oldest events instead of holding up the publisher or
+ * the other subscribers.
+ */
+@Component
+@Slf4j
+public class ReactiveEventStream {
+
+    private final ReactiveProperties properties;
+    private final Sinks.Many<WorkflowEventMessage> sink = Sinks.many().multicast().directBestEffort();
+    private final Counter dropped;
+
+    public ReactiveEventStream(ReactiveProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dropped = meterRegistry.counter("unite.reactive.events.dropped");
+    }
+
+    public void publish(WorkflowEventMessage event) {
+        if (sink.currentSubscriberCount() == 0) {
+            return;
+        }
+        Sinks.EmitResult result;
+        // The sink rejects concurrent emissions instead of serializing them
+        synchronized (sink) {
+            result = sink.tryEmitNext(event);
+        }
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.debug("Event {} not emitted to reactive subscribers: {}", event.getEventId(), result);
+        }
+    }
+
+    /**
+     * Events for one execution, one definition, or all of them when both are null.
+     */
+    public Flux<WorkflowEventMessage> events(String executionId, String definitionId) {
+        return sink.asFlux()
+                .filter(event -> executionId == null || executionId.equals(event.getExecutionId()))
+                .filter(event -> definitionId == null || definitionId.equals(event.getWorkflowDefinitionId()))
+                .onBackpressureBuffer(properties.getEventBuffer(), event -> dropped.increment(),
+                        BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    public int subscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+}
@@ -0,0 +1,135 @@
+package com.unite.service.retry;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.unite.config.RetryProperties;
+import com.unite.dto.DeadLetterReplayResult;
+import com.unite.dto.DeadLetterResponse;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.exception.WorkflowExecutionException;
+import com.unite.model.DeadLetterEntity;
+import com.unite.model.DeadLetterEntity.DeadLetterStatus;
+import com.unite.model.WorkflowStartQueueEntity;
+import com.unite.repository.DeadLetterRepository;
+import com.unite.service.queue.StartQueueService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Dead letters are replayed through the start queue rather than started directly, so a bulk replay is drained
+ * at the pace of the queue workers instead of hitting the engine all at once.
+ */
+@Service
+@Slf4j
+public class DeadLetterService {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final DeadLetterRepository repository;
+    private final StartQueueService startQueueService;
+    private final RetryProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter replayed;
+
+    public DeadLetterService(DeadLetterRepository repository, StartQueueService startQueueService,
+                             RetryProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.startQueueService = startQueueService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.replayed = meterRegistry.counter("unite.retry.replayed");
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeadLetterResponse> list(String definitionId, int limit) {
+        return find(definitionId, limit).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Moves up to {@code limit} dead letters, oldest first, back to the start queue as new cases with a fresh
+     * retry budget.
+     */
+    @Transactional
+    public DeadLetterReplayResult replay(String definitionId, int limit) {
+        List<DeadLetterEntity> batch = find(definitionId, limit);
+        LocalDateTime now = LocalDateTime.now();
+        for (DeadLetterEntity deadLetter : batch) {
+            WorkflowStartQueueEntity queued = startQueueService.enqueue(WorkflowExecutionRequest.builder()
+                    .workflowDefinitionId(deadLetter.getWorkflowDefinitionId())
+                    .caseId(UUID.randomUUID().toString())
+                    .tenantId(deadLetter.getTenantId())
+                    .inputVariables(readVariables(deadLetter.getInputVariables()))
+                    .build());
+            deadLetter.setStatus(DeadLetterStatus.REPLAYED);
+            deadLetter.setReplayedAt(now);
+            deadLetter.setReplayCaseId(queued.getCaseId());
+        }
+        repository.saveAll(batch);
+        replayed.increment(batch.size());
+        log.info("Replayed {} dead letters{}", batch.size(),
+                definitionId != null ? " of workflow " + definitionId : "");
+
+        return DeadLetterReplayResult.builder()
+                .replayed(batch.size())
+                .remaining(repository.countByStatus(DeadLetterStatus.DEAD))
+                .build();
+    }
+
+    private List<DeadLetterEntity> find(String definitionId, int limit) {
+        PageRequest page = PageRequest.of(0, Math.clamp(limit, 1, properties.getMaxReplayBatch()));
+        if (definitionId != null) {
+            return repository.findByWorkflowDefinitionIdAndStatusOrderByFailedAt(definitionId,
+                    DeadLetterStatus.DEAD, page);
+        }
+        return repository.findByStatusOrderByFailedAt(DeadLetterStatus.DEAD, page);
+    }
+
+    private DeadLetterResponse mapToResponse(DeadLetterEntity entity) {
+        return DeadLetterResponse.builder()
+                .id(entity.getId())
+                .executionId(entity.getExecutionId())
+                .workflowDefinitionId(entity.getWorkflowDefinitionId())
+                .caseId(entity.getCaseId())
+                .tenantId(entity.getTenantId())
+                .inputVariables(parseJson(entity.getInputVariables()))
+                .attempts(entity.getAttempts())
+                .errorMessage(entity.getErrorMessage())
+                .failedAt(entity.getFailedAt())
+                .status(entity.getStatus())
+                .replayedAt(entity.getReplayedAt())
+                .replayCaseId(entity.getReplayCaseId())
+                .build();
+    }
+
+    private Map<String, Object> readVariables(String json) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, VARIABLES);
+        } catch (Exception e) {
+            throw new WorkflowExecutionException("Failed to read dead-lettered input variables: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode parseJson(String json) {
+        try {
+            return json == null ? JsonNodeFactory.instance.objectNode() : objectMapper.readTree(json);
+        } catch (Exception e) {
+            log.error("Error parsing JSON: {}", e.getMessage());
+            return JsonNodeFactory.instance.objectNode();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.unite.service.retry;
+
+public record ExecutionFailed(String caseId, String errorMessage) {
+}
@@ -0,0 +1,149 @@
+package com.unite.service.retry;
+
+import com.unite.config.RetryProperties;
+import com.unite.config.RetryProperties.Policy;
+import com.unite.model.DeadLetterEntity;
+import com.unite.model.DeadLetterEntity.DeadLetterStatus;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.DeadLetterRepository;
+import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.scheduling.ScheduledStartService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Server-side retries of executions that fail in the engine. A failed execution is retried as a new case with
+ * the same inputs through a scheduled start, delayed by {@link RetryBackoff}, until the definition's policy is
+ * exhausted; then it is moved to the dead-letter table.
+ * <p>
+ * The engine can report a failure before the start transaction has committed the execution row. Failures are
+ * therefore parked by case id first, and whoever removes the parked entry handles it: the failure handler if
+ * the row is already visible, otherwise the commit of the start transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionRetryService {
+
+    private final WorkflowExecutionRepository executionRepository;
+    private final WorkflowDefinitionRepository definitionRepository;
+    private final DeadLetterRepository deadLetterRepository;
+    private final ScheduledStartService scheduledStartService;
+    private final RetryProperties properties;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("virtualExecutor")
+    private final Executor virtualExecutor;
+
+    private final Map<String, String> parkedFailures = new ConcurrentHashMap<>();
+    private TransactionTemplate transactions;
+    private Counter retried;
+    private Counter exhausted;
+
+    @PostConstruct
+    void init() {
+        transactions = new TransactionTemplate(transactionManager);
+        transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        retried = meterRegistry.counter("unite.retry.scheduled");
+        exhausted = meterRegistry.counter("unite.retry.exhausted");
+        Gauge.builder("unite.retry.parked", parkedFailures, Map::size).register(meterRegistry);
+    }
+
+    @EventListener
+    public void onFailed(ExecutionFailed failure) {
+        // The first reported cause wins: a timeout is not overwritten by the failure of the step it interrupted
+        parkedFailures.putIfAbsent(failure.caseId(), String.valueOf(failure.errorMessage()));
+        // Off the engine callback thread: handling the failure takes a transaction of its own
+        virtualExecutor.execute(() -> {
+            if (executionRepository.findByCaseId(failure.caseId()).isPresent()) {
+                handleParked(failure.caseId());
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStartCommitted(ExecutionStarting starting) {
+        if (parkedFailures.containsKey(starting.caseId())) {
+            virtualExecutor.execute(() -> handleParked(starting.caseId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onStartRolledBack(ExecutionStarting starting) {
+        // The caller got the error; there is no execution to retry
+        parkedFailures.remove(starting.caseId());
+    }
+
+    private void handleParked(String caseId) {
+        String errorMessage = parkedFailures.remove(caseId);
+        if (errorMessage == null) {
+            return;
+        }
+        try {
+            transactions.executeWithoutResult(status -> failed(caseId, errorMessage));
+        } catch (Exception e) {
+            log.error("Failed to handle failure of case {}: {}", caseId, e.getMessage(), e);
+        }
+    }
+
+    private void failed(String caseId, String errorMessage) {
+        WorkflowExecutionEntity execution = executionRepository.findByCaseId(caseId).orElse(null);
+        if (execution == null || (execution.getStatus() != ExecutionStatus.RUNNING
+                && execution.getStatus() != ExecutionStatus.PENDING)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        execution.setStatus(ExecutionStatus.FAILED);
+        execution.setErrorMessage(errorMessage);
+        execution.setCompletedAt(now);
+        executionRepository.save(execution);
+
+        int attempt = execution.getAttempt() != null ? execution.getAttempt() : 1;
+        Policy policy = properties.policyFor(definitionRepository.findById(execution.getWorkflowDefinitionId())
+                .map(WorkflowDefinitionEntity::getName)
+                .orElse(null));
+
+        if (properties.isEnabled() && attempt < policy.getMaxAttempts()) {
+            Duration delay = RetryBackoff.delay(policy, attempt);
+            scheduledStartService.scheduleRetry(execution, attempt + 1, now.plus(delay));
+            retried.increment();
+            return;
+        }
+
+        deadLetterRepository.save(DeadLetterEntity.builder()
+                .executionId(execution.getId())
+                .workflowDefinitionId(execution.getWorkflowDefinitionId())
+                .caseId(execution.getCaseId())
+                .tenantId(execution.getTenantId())
+                .inputVariables(execution.getInputVariables())
+                .attempts(attempt)
+                .errorMessage(errorMessage)
+                .failedAt(now)
+                .status(DeadLetterStatus.DEAD)
+                .build());
+        exhausted.increment();
+        log.warn("Execution {} of workflow {} dead-lettered after {} attempts: {}", execution.getId(),
+                execution.getWorkflowDefinitionId(), attempt, errorMessage);
+    }
+}
@@ -0,0 +1,8 @@
+package com.unite.service.retry;
+
+/**
+ * Published inside the start transaction, before the engine runs, so that a failure reported by the engine
+ * before the execution row is committed can be handled once it is.
+ */
+public record ExecutionStarting(String caseId) {
+}
@@ -0,0 +1,32 @@
+package com.unite.service.retry;
+
+import com.unite.config.RetryProperties.Policy;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Exponential backoff with jitter. The delay after failed attempt {@code n} is drawn uniformly from the upper
+ * half of {@code min(maxBackoff, initialBackoff * multiplier^(n - 1))}, so executions that failed together are
+ * retried spread over a window instead of all at once.
+ */
+public final class RetryBackoff {
+
+    private RetryBackoff() {
+    }
+
+    public static Duration delay(Policy policy, int failedAttempt) {
+        return delay(policy, failedAttempt, ThreadLocalRandom.current());
+    }
+
+    static Duration delay(Policy policy, int failedAttempt, RandomGenerator random) {
+        double exponential = policy.getInitialBackoff().toMillis()
+                * Math.pow(policy.getMultiplier(), Math.max(0, failedAttempt - 1));
+        long cap = (long) Math.min(policy.getMaxBackoff().toMillis(), exponential);
+        if (cap <= 1) {
+            return Duration.ofMillis(Math.max(0, cap));
+        }
+        return Duration.ofMillis(random.nextLong(cap / 2, cap + 1));
+    }
+}
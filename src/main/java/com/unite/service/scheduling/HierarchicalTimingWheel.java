@@ -0,0 +1,225 @@
+package com.unite.service.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hierarchical timing wheel in the style of Kafka's purgatory timer. Insert and cancel are O(1); each
+ * level has {@code wheelSize} buckets, and the next level's tick is this level's whole span, so timers
+ * far in the future sit in coarse buckets and cascade down as the clock approaches them. Only non-empty
+ * buckets are tracked in a {@link DelayQueue}, so an idle wheel costs nothing however many timers it holds.
+ * <p>
+ * Expired payloads are returned from {@link #poll(long)} rather than run on the timer thread.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final DelayQueue<Bucket<T>> queue = new DelayQueue<>();
+    private final Level<T> root;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize greater than one");
+        }
+        this.root = new Level<>(tickMillis, wheelSize, startMillis, queue);
+    }
+
+    /**
+     * Schedules {@code payload} at {@code deadlineMillis}. Returns {@code null} when the deadline has
+     * already passed; the caller should then run it immediately.
+     */
+    public synchronized Timeout schedule(T payload, long deadlineMillis) {
+        Entry<T> entry = new Entry<>(this, payload, deadlineMillis);
+        if (!root.add(entry)) {
+            return null;
+        }
+        size++;
+        return entry;
+    }
+
+    /**
+     * Waits up to {@code timeoutMillis} for the next bucket to expire and returns every payload whose
+     * deadline has been reached.
+     */
+    public List<T> poll(long timeoutMillis) throws InterruptedException {
+        Bucket<T> bucket = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return List.of();
+        }
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            while (bucket != null) {
+                root.advanceClock(bucket.expiration());
+                for (Entry<T> entry : bucket.drain()) {
+                    if (root.add(entry)) {
+                        continue;
+                    }
+                    size--;
+                    expired.add(entry.payload);
+                }
+                bucket = queue.poll();
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public interface Timeout {
+
+        long deadlineMillis();
+
+        boolean cancel();
+    }
+
+    private static final class Entry<T> implements Timeout {
+
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadlineMillis;
+        private Bucket<T> bucket;
+        private Entry<T> previous;
+        private Entry<T> next;
+
+        private Entry(HierarchicalTimingWheel<T> wheel, T payload, long deadlineMillis) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        @Override
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        @Override
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (bucket == null) {
+                    return false;
+                }
+                bucket.remove(this);
+                wheel.size--;
+                return true;
+            }
+        }
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long spanMillis;
+        private final Bucket<T>[] buckets;
+        private final DelayQueue<Bucket<T>> queue;
+        private long currentTime;
+        private Level<T> overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMillis, int wheelSize, long startMillis, DelayQueue<Bucket<T>> queue) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.spanMillis = tickMillis * wheelSize;
+            this.queue = queue;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        private boolean add(Entry<T> entry) {
+            long deadline = entry.deadlineMillis;
+            if (deadline < currentTime + tickMillis) {
+                return false;
+            }
+            if (deadline < currentTime + spanMillis) {
+                long virtualId = deadline / tickMillis;
+                Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(spanMillis, wheelSize, currentTime, queue);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<T> implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1);
+        private Entry<T> head;
+
+        private void add(Entry<T> entry) {
+            entry.bucket = this;
+            entry.previous = null;
+            entry.next = head;
+            if (head != null) {
+                head.previous = entry;
+            }
+            head = entry;
+        }
+
+        private void remove(Entry<T> entry) {
+            if (entry.previous != null) {
+                entry.previous.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.previous = entry.previous;
+            }
+            entry.bucket = null;
+            entry.previous = null;
+            entry.next = null;
+        }
+
+        private List<Entry<T>> drain() {
+            List<Entry<T>> entries = new ArrayList<>();
+            while (head != null) {
+                Entry<T> entry = head;
+                remove(entry);
+                entries.add(entry);
+            }
+            expiration.set(-1);
+            return entries;
+        }
+
+        private boolean setExpiration(long expirationMillis) {
+            return expiration.getAndSet(expirationMillis) != expirationMillis;
+        }
+
+        private long expiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(expiration.get() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration.get(), ((Bucket<?>) other).expiration.get());
+        }
+    }
+}
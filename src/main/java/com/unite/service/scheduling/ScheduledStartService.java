@@ -0,0 +1,528 @@
+package com.unite.service.scheduling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.SchedulingProperties;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.dto.WorkflowExecutionResponse;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import com.unite.exception.ResourceNotFoundException;
+import com.unite.exception.WorkflowExecutionException;
+import com.unite.model.ScheduledStartEntity;
+import com.unite.model.ScheduledStartEntity.ScheduleSource;
+import com.unite.model.ScheduledStartEntity.ScheduleStatus;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.ScheduledStartRepository;
+import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.ActiveExecutionRegistry;
+import com.unite.service.WorkflowExecutionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Durable delayed and cron-triggered workflow starts. Rows in {@code scheduled_starts} that fall within
+ * {@code unite.scheduling.horizon} are armed in a {@link HierarchicalTimingWheel}; rows further out stay in
+ * the database until a later horizon load, so memory is bounded by the horizon rather than the backlog.
+ * Each start is offset by a jitter derived from its id, and claimed with a conditional update before it
+ * runs, so several nodes can load the same rows safely. A claim is extended while its start runs, and the
+ * outcome is written only if the claim is still the one taken, so a start that outlives
+ * {@code claim-timeout} is neither fired twice nor overwritten by the node that took it over.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledStartService {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final ScheduledStartRepository repository;
+    private final WorkflowDefinitionRepository definitionRepository;
+    private final WorkflowExecutionRepository executionRepository;
+    private final ActiveExecutionRegistry activeExecutionRegistry;
+    private final WorkflowExecutionService executionService;
+    private final SchedulingProperties properties;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("virtualExecutor")
+    private final Executor virtualExecutor;
+
+    private final Map<String, HierarchicalTimingWheel.Timeout> armed = new ConcurrentHashMap<>();
+    private final Map<String, Claim> inFlightClaims = new ConcurrentHashMap<>();
+    private TransactionTemplate transactions;
+    private HierarchicalTimingWheel<String> wheel;
+    private Semaphore permits;
+    private ScheduledExecutorService loader;
+    private Thread timer;
+    private Counter fired;
+    private Counter failed;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        transactions = new TransactionTemplate(transactionManager);
+        transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        fired = meterRegistry.counter("unite.scheduling.fired");
+        failed = meterRegistry.counter("unite.scheduling.failed");
+        Gauge.builder("unite.scheduling.armed", armed, Map::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        wheel = new HierarchicalTimingWheel<>(properties.getTick().toMillis(), properties.getWheelSize(),
+                System.currentTimeMillis());
+        permits = new Semaphore(properties.getMaxConcurrentStarts());
+        running = true;
+
+        definitionRepository.findByCronExpressionIsNotNullAndActiveTrue().forEach(this::syncCronTrigger);
+
+        timer = Thread.ofPlatform().name("scheduled-start-timer").daemon().start(this::runTimer);
+        loader = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("scheduled-start-loader").daemon().factory());
+        loader.scheduleWithFixedDelay(this::loadHorizon, 0, properties.getLoadInterval().toMillis(), TimeUnit.MILLISECONDS);
+        long extendMillis = Math.max(1, properties.getClaimTimeout().toMillis() / 3);
+        loader.scheduleWithFixedDelay(this::extendClaims, extendMillis, extendMillis, TimeUnit.MILLISECONDS);
+        log.info("Scheduled starts enabled (tick: {}, horizon: {}, jitter: {})",
+                properties.getTick(), properties.getHorizon(), properties.getJitter());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+        if (timer != null) {
+            timer.interrupt();
+        }
+    }
+
+    @Transactional
+    public WorkflowExecutionResponse schedule(WorkflowExecutionRequest request) {
+        WorkflowDefinitionEntity definition = definitionRepository.findById(request.getWorkflowDefinitionId())
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", request.getWorkflowDefinitionId()));
+        if (!definition.getActive()) {
+            throw new WorkflowExecutionException("Workflow definition is not active: " + definition.getName());
+        }
+
+        LocalDateTime fireAt = request.getStartAt() != null
+                ? request.getStartAt()
+                : LocalDateTime.now().plus(request.getDelay());
+        ScheduledStartEntity start = repository.save(ScheduledStartEntity.builder()
+                .workflowDefinitionId(definition.getId())
+                .caseId(request.getCaseId() != null ? request.getCaseId() : UUID.randomUUID().toString())
+                .tenantId(request.getTenantId())
+                .inputVariables(writeVariables(request.getInputVariables()))
+                .fireAt(fireAt)
+                .status(ScheduleStatus.SCHEDULED)
+                .source(ScheduleSource.REQUEST)
+                .timeoutMillis(request.getTimeout() != null ? request.getTimeout().toMillis() : null)
+                .build());
+        log.info("Scheduled workflow {} (case {}) at {}", definition.getId(), start.getCaseId(), fireAt);
+        afterCommit(() -> armIfWithinHorizon(start));
+
+        return WorkflowExecutionResponse.builder()
+                .workflowDefinitionId(start.getWorkflowDefinitionId())
+                .caseId(start.getCaseId())
+                .status(ExecutionStatus.PENDING)
+                .scheduledAt(fireAt)
+                .build();
+    }
+
+    /**
+     * Schedules the next attempt of a failed execution as a new case with the same inputs. The dedupe key makes
+     * this idempotent per failed execution when more than one node handles the failure.
+     */
+    @Transactional
+    public void scheduleRetry(WorkflowExecutionEntity failed, int attempt, LocalDateTime fireAt) {
+        String key = "retry:" + failed.getId();
+        if (repository.existsByDedupeKey(key)) {
+            return;
+        }
+        ScheduledStartEntity start = repository.save(ScheduledStartEntity.builder()
+                .workflowDefinitionId(failed.getWorkflowDefinitionId())
+                .caseId(UUID.randomUUID().toString())
+                .tenantId(failed.getTenantId())
+                .inputVariables(failed.getInputVariables())
+                .fireAt(fireAt)
+                .status(ScheduleStatus.SCHEDULED)
+                .source(ScheduleSource.RETRY)
+                .dedupeKey(key)
+                .attempt(attempt)
+                .retryOf(failed.getId())
+                .timeoutMillis(failed.getTimeoutMillis())
+                .build());
+        log.info("Retrying failed execution {} as attempt {} at {}", failed.getId(), attempt, fireAt);
+        afterCommit(() -> armIfWithinHorizon(start));
+    }
+
+    @Transactional
+    public void cancel(String caseId) {
+        ScheduledStartEntity start = repository.findByCaseIdAndStatus(caseId, ScheduleStatus.SCHEDULED)
+                .orElseThrow(() -> new ResourceNotFoundException("Scheduled Start", caseId));
+        start.setStatus(ScheduleStatus.CANCELLED);
+        repository.save(start);
+        afterCommit(() -> disarm(start.getId()));
+    }
+
+    public void syncCronTrigger(WorkflowDefinitionEntity definition) {
+        String cron = definition.getCronExpression();
+        LocalDateTime next = cron == null || !Boolean.TRUE.equals(definition.getActive())
+                ? null
+                : parseCron(cron).next(LocalDateTime.now());
+        String key = next == null ? null : cronKey(definition.getId(), next);
+
+        transactions.executeWithoutResult(status -> repository.deletePending(
+                definition.getId(), ScheduleSource.CRON, ScheduleStatus.SCHEDULED, key));
+        if (next != null) {
+            createCronStart(definition.getId(), next, key);
+        }
+    }
+
+    public void removeCronTrigger(String definitionId) {
+        transactions.executeWithoutResult(status -> repository.deletePending(
+                definitionId, ScheduleSource.CRON, ScheduleStatus.SCHEDULED, null));
+    }
+
+    public static CronExpression parseCron(String expression) {
+        String trimmed = expression.trim();
+        return CronExpression.parse(trimmed.split("\\s+").length == 5 ? "0 " + trimmed : trimmed);
+    }
+
+    private void runTimer() {
+        while (running) {
+            try {
+                for (String id : wheel.poll(properties.getTick().toMillis() * 10)) {
+                    dispatch(id);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Scheduled start timer error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void loadHorizon() {
+        try {
+            // Claims of a node that stopped while firing are released here, on any live node
+            releaseStaleClaims();
+            LocalDateTime until = LocalDateTime.now().plus(properties.getHorizon());
+            LocalDateTime afterFireAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+            String afterId = "";
+            List<ScheduledStartEntity> page;
+            int loaded = 0;
+            do {
+                page = repository.findDueBefore(ScheduleStatus.SCHEDULED, until, afterFireAt, afterId,
+                        PageRequest.of(0, properties.getLoadBatchSize()));
+                for (ScheduledStartEntity start : page) {
+                    if (arm(start.getId(), start.getFireAt())) {
+                        loaded++;
+                    }
+                }
+                if (!page.isEmpty()) {
+                    ScheduledStartEntity last = page.get(page.size() - 1);
+                    afterFireAt = last.getFireAt();
+                    afterId = last.getId();
+                }
+            } while (page.size() == properties.getLoadBatchSize());
+            if (loaded > 0) {
+                log.debug("Armed {} scheduled starts due before {}", loaded, until);
+            }
+        } catch (Exception e) {
+            log.error("Failed to load scheduled starts: {}", e.getMessage(), e);
+        }
+    }
+
+    private void releaseStaleClaims() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(properties.getClaimTimeout());
+        Integer released = transactions.execute(status -> repository.releaseStaleClaims(claimedBefore,
+                ScheduleStatus.CLAIMED, ScheduleStatus.SCHEDULED));
+        if (released != null && released > 0) {
+            log.warn("Released {} scheduled starts left claimed for over {}", released, properties.getClaimTimeout());
+        }
+    }
+
+    private void extendClaims() {
+        for (Claim claim : inFlightClaims.values()) {
+            try {
+                claim.extend();
+            } catch (Exception e) {
+                log.warn("Failed to extend claim of scheduled start {}: {}", claim.id, e.getMessage());
+            }
+        }
+    }
+
+    private void armIfWithinHorizon(ScheduledStartEntity start) {
+        if (running && start.getFireAt().isBefore(LocalDateTime.now().plus(properties.getHorizon()))) {
+            arm(start.getId(), start.getFireAt());
+        }
+    }
+
+    private boolean arm(String id, LocalDateTime fireAt) {
+        if (armed.containsKey(id)) {
+            return false;
+        }
+        long deadline = fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + jitterMillis(id);
+        HierarchicalTimingWheel.Timeout timeout = wheel.schedule(id, deadline);
+        if (timeout == null) {
+            dispatch(id);
+        } else if (armed.putIfAbsent(id, timeout) != null) {
+            timeout.cancel();
+            return false;
+        }
+        return true;
+    }
+
+    private void disarm(String id) {
+        HierarchicalTimingWheel.Timeout timeout = armed.remove(id);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void dispatch(String id) {
+        armed.remove(id);
+        virtualExecutor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                fire(id);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void fire(String id) {
+        LocalDateTime claimedAt = claimTime();
+        Integer claimed = transactions.execute(status -> repository.claim(
+                id, claimedAt, ScheduleStatus.SCHEDULED, ScheduleStatus.CLAIMED));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        Claim claim = new Claim(id, claimedAt);
+        inFlightClaims.put(id, claim);
+        try {
+            fireClaimed(claim);
+        } finally {
+            inFlightClaims.remove(id);
+        }
+    }
+
+    private void fireClaimed(Claim claim) {
+        ScheduledStartEntity start = repository.findById(claim.id).orElse(null);
+        if (start == null) {
+            return;
+        }
+        if (start.getSource() == ScheduleSource.CRON) {
+            scheduleNextCronStart(start);
+        }
+        // A node that stopped after starting the case, or a start of it still running here; the row of the
+        // latter is not visible yet
+        String executionId = executionRepository.findByCaseId(start.getCaseId())
+                .map(WorkflowExecutionEntity::getId)
+                .orElse(null);
+        if (executionId != null || activeExecutionRegistry.findByCaseId(start.getCaseId()).isPresent()) {
+            log.debug("Scheduled start {} (case {}) already has an execution", claim.id, start.getCaseId());
+            finish(claim, ScheduleStatus.FIRED, executionId, null);
+            return;
+        }
+
+        try {
+            WorkflowExecutionResponse response = executionService.executeWorkflow(WorkflowExecutionRequest.builder()
+                    .workflowDefinitionId(start.getWorkflowDefinitionId())
+                    .caseId(start.getCaseId())
+                    .tenantId(start.getTenantId())
+                    .inputVariables(readVariables(start.getInputVariables()))
+                    .attempt(start.getAttempt())
+                    .retryOf(start.getRetryOf())
+                    .timeout(start.getTimeoutMillis() != null ? Duration.ofMillis(start.getTimeoutMillis()) : null)
+                    .build());
+            fired.increment();
+            finish(claim, ScheduleStatus.FIRED, response.getId(), null);
+        } catch (ConcurrencyLimitExceededException e) {
+            log.debug("Scheduled start {} deferred: {}", claim.id, e.getMessage());
+            LocalDateTime fireAt = LocalDateTime.now().plus(e.getRetryAfter());
+            if (claim.complete(claimedAt -> transactions.execute(status -> repository.deferClaimed(
+                    claim.id, claimedAt, fireAt, ScheduleStatus.CLAIMED, ScheduleStatus.SCHEDULED))) > 0) {
+                start.setFireAt(fireAt);
+                armIfWithinHorizon(start);
+            }
+        } catch (Exception e) {
+            log.error("Scheduled start {} for workflow {} failed: {}", claim.id, start.getWorkflowDefinitionId(),
+                    e.getMessage());
+            failed.increment();
+            finish(claim, ScheduleStatus.FAILED, null, e.getMessage());
+        }
+    }
+
+    private void finish(Claim claim, ScheduleStatus outcome, String executionId, String errorMessage) {
+        int finished = claim.complete(claimedAt -> transactions.execute(status -> repository.finishClaimed(
+                claim.id, claimedAt, outcome, executionId, errorMessage, LocalDateTime.now(), ScheduleStatus.CLAIMED)));
+        if (finished == 0) {
+            log.warn("Scheduled start {} lost its claim while firing; outcome {} not recorded", claim.id, outcome);
+        }
+    }
+
+    /**
+     * Claim times are compared for equality once written, so they are kept at a precision every database stores.
+     */
+    private static LocalDateTime claimTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private void scheduleNextCronStart(ScheduledStartEntity previous) {
+        definitionRepository.findById(previous.getWorkflowDefinitionId())
+                .filter(definition -> definition.getCronExpression() != null && Boolean.TRUE.equals(definition.getActive()))
+                .ifPresent(definition -> {
+                    LocalDateTime from = previous.getFireAt().isAfter(LocalDateTime.now())
+                            ? previous.getFireAt()
+                            : LocalDateTime.now();
+                    LocalDateTime next = parseCron(definition.getCronExpression()).next(from);
+                    if (next != null) {
+                        createCronStart(definition.getId(), next, cronKey(definition.getId(), next));
+                    }
+                });
+    }
+
+    private void createCronStart(String definitionId, LocalDateTime fireAt, String key) {
+        try {
+            ScheduledStartEntity start = transactions.execute(status -> repository.existsByDedupeKey(key)
+                    ? null
+                    : repository.saveAndFlush(ScheduledStartEntity.builder()
+                            .workflowDefinitionId(definitionId)
+                            .caseId(UUID.randomUUID().toString())
+                            .fireAt(fireAt)
+                            .status(ScheduleStatus.SCHEDULED)
+                            .source(ScheduleSource.CRON)
+                            .dedupeKey(key)
+                            .build()));
+            if (start != null) {
+                armIfWithinHorizon(start);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Cron start {} already created by another node", key);
+        }
+    }
+
+    private long jitterMillis(String id) {
+        long window = properties.getJitter().toMillis();
+        if (window <= 0) {
+            return 0;
+        }
+        return Math.floorMod(id.hashCode() * 0x9E3779B9L, window);
+    }
+
+    private static String cronKey(String definitionId, LocalDateTime fireAt) {
+        return "cron:" + definitionId + ":" + fireAt;
+    }
+
+    private String writeVariables(Map<String, Object> variables) {
+        try {
+            return variables == null ? null : objectMapper.writeValueAsString(variables);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid input variables", e);
+        }
+    }
+
+    private Map<String, Object> readVariables(String json) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, VARIABLES);
+        } catch (Exception e) {
+            throw new WorkflowExecutionException("Failed to read scheduled input variables: " + e.getMessage(), e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * A claim held by a start running on this node. Extending it and writing the start's outcome both check the
+     * claim time last written, so they are serialized per claim.
+     */
+    private final class Claim {
+
+        private final String id;
+        private LocalDateTime claimedAt;
+        private boolean completed;
+
+        private Claim(String id, LocalDateTime claimedAt) {
+            this.id = id;
+            this.claimedAt = claimedAt;
+        }
+
+        synchronized void extend() {
+            if (completed) {
+                return;
+            }
+            LocalDateTime now = claimTime();
+            Integer extended = transactions.execute(status -> repository.extendClaim(
+                    id, claimedAt, now, ScheduleStatus.CLAIMED));
+            if (extended != null && extended > 0) {
+                claimedAt = now;
+            }
+        }
+
+        synchronized int complete(Function<LocalDateTime, Integer> update) {
+            completed = true;
+            Integer updated = update.apply(claimedAt);
+            return updated != null ? updated : 0;
+        }
+    }
+}
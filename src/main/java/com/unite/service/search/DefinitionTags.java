@@ -0,0 +1,40 @@
+package com.unite.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class DefinitionTags {
+
+    private static final int MAX_TAG_LENGTH = 100;
+
+    private DefinitionTags() {
+    }
+
+    public static List<String> parse(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags.split(",")) {
+            String value = normalize(tag);
+            if (value != null) {
+                normalized.add(value);
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String value = tag.trim().toLowerCase(Locale.ROOT);
+        if (value.isEmpty() || value.length() > MAX_TAG_LENGTH) {
+            return null;
+        }
+        return value;
+    }
+}
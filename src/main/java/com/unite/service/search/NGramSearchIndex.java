@@ -0,0 +1,167 @@
+package com.unite.service.search;
+
+import com.unite.config.SearchProperties;
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.repository.WorkflowDefinitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-JVM trigram index used when the database has no pg_trgm support (H2 in development).
+ * Scores approximate pg_trgm {@code word_similarity}: the share of query trigrams found in the field.
+ * As with {@code <%} in {@link PostgresTrigramSearchIndex}, the threshold applies to the unweighted similarity
+ * of either field; the description weight only affects ranking.
+ */
+@Component
+@ConditionalOnProperty(prefix = "unite.search", name = "engine", havingValue = "ngram", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class NGramSearchIndex implements WorkflowDefinitionSearchIndex {
+
+    private static final double DESCRIPTION_WEIGHT = 0.5;
+
+    private final WorkflowDefinitionRepository repository;
+    private final SearchProperties properties;
+
+    private final Map<String, IndexedDefinition> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> namePostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> descriptionPostings = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        documents.clear();
+        namePostings.clear();
+        descriptionPostings.clear();
+        repository.findAll().forEach(this::index);
+        log.info("Workflow definition n-gram index built with {} definitions", documents.size());
+    }
+
+    @Override
+    public synchronized void index(WorkflowDefinitionEntity definition) {
+        remove(definition.getId());
+
+        IndexedDefinition document = new IndexedDefinition(
+                definition.getId(),
+                definition.getName(),
+                definition.getVersion(),
+                Boolean.TRUE.equals(definition.getActive()),
+                Set.copyOf(DefinitionTags.parse(definition.getTags())),
+                Trigrams.of(definition.getName()),
+                Trigrams.of(definition.getDescription()));
+
+        documents.put(document.id(), document);
+        addPostings(namePostings, document.nameGrams(), document.id());
+        addPostings(descriptionPostings, document.descriptionGrams(), document.id());
+    }
+
+    @Override
+    public synchronized void remove(String definitionId) {
+        IndexedDefinition document = documents.remove(definitionId);
+        if (document == null) {
+            return;
+        }
+        removePostings(namePostings, document.nameGrams(), definitionId);
+        removePostings(descriptionPostings, document.descriptionGrams(), definitionId);
+    }
+
+    @Override
+    public List<SearchHit> search(WorkflowDefinitionSearchCriteria criteria) {
+        int limit = properties.resolveLimit(criteria.getLimit());
+        String tag = DefinitionTags.normalize(criteria.getTag());
+        Set<String> queryGrams = Trigrams.of(criteria.getQuery());
+
+        if (queryGrams.isEmpty()) {
+            return documents.values().stream()
+                    .filter(document -> document.matches(tag, criteria.getActive(), criteria.getVersion()))
+                    .sorted(Comparator.comparing(IndexedDefinition::name))
+                    .limit(limit)
+                    .map(document -> new SearchHit(document.id(), 0.0))
+                    .collect(Collectors.toList());
+        }
+
+        Map<String, Integer> nameMatches = countMatches(namePostings, queryGrams);
+        Map<String, Integer> descriptionMatches = countMatches(descriptionPostings, queryGrams);
+
+        Map<String, Double> similarities = new HashMap<>();
+        Map<String, Double> scores = new HashMap<>();
+        nameMatches.forEach((id, shared) -> {
+            double similarity = (double) shared / queryGrams.size();
+            similarities.merge(id, similarity, Math::max);
+            scores.merge(id, similarity, Math::max);
+        });
+        descriptionMatches.forEach((id, shared) -> {
+            double similarity = (double) shared / queryGrams.size();
+            similarities.merge(id, similarity, Math::max);
+            scores.merge(id, DESCRIPTION_WEIGHT * similarity, Math::max);
+        });
+
+        List<RankedDefinition> ranked = new ArrayList<>();
+        scores.forEach((id, score) -> {
+            IndexedDefinition document = documents.get(id);
+            if (document != null && similarities.get(id) >= properties.getSimilarityThreshold()
+                    && document.matches(tag, criteria.getActive(), criteria.getVersion())) {
+                ranked.add(new RankedDefinition(document, score));
+            }
+        });
+        ranked.sort(Comparator.comparingDouble(RankedDefinition::score).reversed()
+                .thenComparing(candidate -> candidate.document().name()));
+
+        return ranked.stream()
+                .limit(limit)
+                .map(candidate -> new SearchHit(candidate.document().id(), candidate.score()))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Integer> countMatches(Map<String, Set<String>> postings, Set<String> queryGrams) {
+        Map<String, Integer> matches = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<String> ids = postings.get(gram);
+            if (ids != null) {
+                ids.forEach(id -> matches.merge(id, 1, Integer::sum));
+            }
+        }
+        return matches;
+    }
+
+    private void addPostings(Map<String, Set<String>> postings, Set<String> grams, String id) {
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void removePostings(Map<String, Set<String>> postings, Set<String> grams, String id) {
+        for (String gram : grams) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private record RankedDefinition(IndexedDefinition document, double score) {
+    }
+
+    private record IndexedDefinition(String id, String name, String version, boolean active, Set<String> tags,
+                                     Set<String> nameGrams, Set<String> descriptionGrams) {
+
+        boolean matches(String tag, Boolean activeFilter, String versionFilter) {
+            return (tag == null || tags.contains(tag))
+                    && (activeFilter == null || activeFilter == active)
+                    && (versionFilter == null || versionFilter.equals(version));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.unite.service.search;
+
+import com.unite.config.SearchProperties;
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.model.WorkflowDefinitionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search backed by the pg_trgm GIN indexes created in {@code db/postgresql/search.sql}.
+ * The database keeps the indexes current, so {@link #index} and {@link #remove} are no-ops.
+ */
+@Component
+@ConditionalOnProperty(prefix = "unite.search", name = "engine", havingValue = "pg-trgm")
+@RequiredArgsConstructor
+public class PostgresTrigramSearchIndex implements WorkflowDefinitionSearchIndex {
+
+    private static final String SET_THRESHOLD_SQL =
+            "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)";
+
+    private static final String SEARCH_SQL = """
+            SELECT d.id,
+                   GREATEST(word_similarity(:query, lower(d.name)),
+                            0.5 * word_similarity(:query, lower(coalesce(d.description, '')))) AS score
+            FROM workflow_definitions d
+            WHERE (:query = ''
+                   OR :query <% lower(d.name)
+                   OR :query <% lower(coalesce(d.description, '')))
+              AND (CAST(:tag AS text) IS NULL OR EXISTS (
+                      SELECT 1 FROM workflow_definition_tags t
+                      WHERE t.definition_id = d.id AND t.tag = CAST(:tag AS text)))
+              AND (CAST(:active AS boolean) IS NULL OR d.active = CAST(:active AS boolean))
+              AND (CAST(:version AS text) IS NULL OR d.version = CAST(:version AS text))
+            ORDER BY score DESC, d.name
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SearchProperties properties;
+
+    @Override
+    public void index(WorkflowDefinitionEntity definition) {
+    }
+
+    @Override
+    public void remove(String definitionId) {
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHit> search(WorkflowDefinitionSearchCriteria criteria) {
+        jdbcTemplate.queryForObject(SET_THRESHOLD_SQL,
+                new MapSqlParameterSource("threshold", String.valueOf(properties.getSimilarityThreshold())),
+                String.class);
+
+        String query = criteria.getQuery() == null ? "" : criteria.getQuery().trim().toLowerCase(Locale.ROOT);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("tag", DefinitionTags.normalize(criteria.getTag()))
+                .addValue("active", criteria.getActive())
+                .addValue("version", criteria.getVersion())
+                .addValue("limit", properties.resolveLimit(criteria.getLimit()));
+
+        return jdbcTemplate.query(SEARCH_SQL, parameters,
+                (rs, rowNum) -> new SearchHit(rs.getString("id"), rs.getDouble("score")));
+    }
+}
@@ -0,0 +1,4 @@
+package com.unite.service.search;
+
+public record SearchHit(String definitionId, double score) {
+}
@@ -0,0 +1,32 @@
+package com.unite.service.search;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Trigram extraction following the pg_trgm rules: lower-cased alphanumeric words,
+ * each padded with two leading blanks and one trailing blank.
+ */
+public final class Trigrams {
+
+    private Trigrams() {
+    }
+
+    public static Set<String> of(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,15 @@
+package com.unite.service.search;
+
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.model.WorkflowDefinitionEntity;
+
+import java.util.List;
+
+public interface WorkflowDefinitionSearchIndex {
+
+    void index(WorkflowDefinitionEntity definition);
+
+    void remove(String definitionId);
+
+    List<SearchHit> search(WorkflowDefinitionSearchCriteria criteria);
+}
@@ -0,0 +1,183 @@
+package com.unite.service.timeout;
+
+import com.unite.config.TimeoutProperties;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.service.ActiveExecutionRegistry;
+import com.unite.service.ActiveExecutionRegistry.ActiveExecution;
+import com.unite.service.WorkflowEventPublisher;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.retry.ExecutionFailed;
+import com.unite.service.retry.ExecutionStarting;
+import com.unite.service.scheduling.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Enforces execution timeouts. Deadlines of running executions are armed in a {@link HierarchicalTimingWheel}
+ * polled by a single timer thread, so arming and disarming are O(1) and no thread waits per execution. When a
+ * deadline passes, the timeout is reported as the execution's failure (so the retry policy applies) and the
+ * engine thread still running the case is interrupted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionTimeouts {
+
+    private final TimeoutProperties properties;
+    private final ActiveExecutionRegistry activeExecutionRegistry;
+    private final WorkflowEventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final StepLatencyProfiler stepLatencyProfiler;
+    @Qualifier("virtualExecutor")
+    private final Executor virtualExecutor;
+
+    private final Map<String, Deadline> armed = new ConcurrentHashMap<>();
+    private HierarchicalTimingWheel<String> wheel;
+    private Thread timer;
+    private Counter expired;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        expired = meterRegistry.counter("unite.timeouts.expired");
+        Gauge.builder("unite.timeouts.armed", armed, Map::size).register(meterRegistry);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        wheel = new HierarchicalTimingWheel<>(properties.getTick().toMillis(), properties.getWheelSize(),
+                System.currentTimeMillis());
+        running = true;
+        timer = Thread.ofPlatform().name("execution-timeout-timer").daemon().start(this::runTimer);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (timer != null) {
+            timer.interrupt();
+        }
+    }
+
+    /**
+     * The timeout of a new execution: the request's, else the definition's, else the configured default, capped
+     * at {@code unite.timeouts.max-timeout}. Null when the execution has no time limit.
+     */
+    public Duration resolve(Duration requested, Long definitionTimeoutMillis) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        Duration timeout = requested != null ? requested
+                : definitionTimeoutMillis != null ? Duration.ofMillis(definitionTimeoutMillis)
+                : properties.getDefaultTimeout();
+        if (timeout == null) {
+            return null;
+        }
+        Duration max = properties.getMaxTimeout();
+        return max != null && timeout.compareTo(max) > 0 ? max : timeout;
+    }
+
+    /**
+     * Arms the deadline of a case, replacing any earlier one. A deadline that has already passed expires at once.
+     */
+    public void arm(String caseId, Duration timeout, LocalDateTime deadline) {
+        if (!running) {
+            return;
+        }
+        HierarchicalTimingWheel.Timeout handle = wheel.schedule(caseId,
+                deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (handle == null) {
+            disarm(caseId);
+            dispatch(caseId, timeout);
+            return;
+        }
+        Deadline previous = armed.put(caseId, new Deadline(timeout, handle));
+        if (previous != null) {
+            previous.handle().cancel();
+        }
+    }
+
+    public void disarm(String caseId) {
+        Deadline deadline = armed.remove(caseId);
+        if (deadline != null) {
+            deadline.handle().cancel();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onStartRolledBack(ExecutionStarting starting) {
+        disarm(starting.caseId());
+    }
+
+    private void runTimer() {
+        while (running) {
+            try {
+                for (String caseId : wheel.poll(properties.getTick().toMillis() * 10)) {
+                    Deadline deadline = armed.remove(caseId);
+                    if (deadline != null) {
+                        dispatch(caseId, deadline.timeout());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Execution timeout timer error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void dispatch(String caseId, Duration timeout) {
+        virtualExecutor.execute(() -> {
+            try {
+                expire(caseId, timeout);
+            } catch (Exception e) {
+                log.error("Failed to time out case {}: {}", caseId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void expire(String caseId, Duration timeout) {
+        String reason = "Timed out after " + timeout;
+        expired.increment();
+        // Reported before the interrupt, so that the timeout rather than the interrupted step is recorded as
+        // the cause of the failure
+        applicationEventPublisher.publishEvent(new ExecutionFailed(caseId, reason));
+        boolean interrupted = activeExecutionRegistry.cancel(caseId, reason);
+        log.warn("Execution of case {} timed out after {}{}", caseId, timeout,
+                interrupted ? "; engine thread interrupted" : "");
+
+        ActiveExecution execution = activeExecutionRegistry.findByCaseId(caseId).orElse(null);
+        eventPublisher.publishEvent(WorkflowEventMessage.builder()
+                .executionId(execution != null && execution.executionId() != null ? execution.executionId() : caseId)
+                .caseId(caseId)
+                .workflowDefinitionId(execution != null ? execution.workflowDefinitionId() : null)
+                .eventType(WorkflowEventMessage.EventType.WORKFLOW_FAILED)
+                .message(reason)
+                .data(Map.of("reason", "TIMEOUT", "timeout", timeout.toString(), "interrupted", interrupted))
+                .timestamp(LocalDateTime.now())
+                .build());
+        activeExecutionRegistry.remove(caseId);
+        stepLatencyProfiler.caseFinished(caseId);
+    }
+
+    private record Deadline(Duration timeout, HierarchicalTimingWheel.Timeout handle) {
+    }
+}
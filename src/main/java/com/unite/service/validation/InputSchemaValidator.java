@@ -0,0 +1,150 @@
+package com.unite.service.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.exception.InputValidationException;
+import com.unite.exception.ResourceNotFoundException;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.repository.WorkflowDefinitionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Checks start inputs against the JSON Schema of their definition version before anything is persisted. The
+ * schema is part of the immutable version, so it is compiled once per node and cached by definition id; a
+ * definition without a schema is cached as such and costs a map lookup per start.
+ */
+@Component
+@Slf4j
+public class InputSchemaValidator {
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+
+    private final WorkflowDefinitionRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    private final Map<String, Optional<JsonSchema>> schemas = new ConcurrentHashMap<>();
+
+    public InputSchemaValidator(WorkflowDefinitionRepository repository, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.rejected = meterRegistry.counter("unite.validation.rejected");
+    }
+
+    /**
+     * Compiles a schema, resolving its keywords and local references up front so that a broken schema is
+     * rejected when the definition is stored rather than on its first start.
+     */
+    public JsonSchema compile(String schemaJson) {
+        try {
+            JsonSchema schema = FACTORY.getSchema(objectMapper.readTree(schemaJson));
+            schema.initializeValidators();
+            return schema;
+        } catch (Exception e) {
+            throw new InputValidationException("Invalid input schema",
+                    Map.of("inputSchema", String.valueOf(e.getMessage())));
+        }
+    }
+
+    public void validate(String definitionId, Map<String, Object> inputVariables) {
+        Map<String, String> errors = errors(schema(definitionId), inputVariables);
+        if (!errors.isEmpty()) {
+            rejected.increment();
+            throw new InputValidationException("Input variables do not match the input schema of workflow definition "
+                    + definitionId, errors);
+        }
+    }
+
+    /**
+     * Validates every item of a batch in parallel; the batch is rejected as a whole if any item is invalid.
+     * Error keys are prefixed with the item's index. The schemas of the batch are loaded on the calling thread
+     * first, so the parallel part only validates and never waits on the database from a common pool thread.
+     */
+    public void validateAll(List<WorkflowExecutionRequest> requests) {
+        Map<String, Optional<JsonSchema>> batchSchemas = new HashMap<>();
+        for (WorkflowExecutionRequest request : requests) {
+            batchSchemas.computeIfAbsent(request.getWorkflowDefinitionId(), this::schema);
+        }
+        List<Map<String, String>> itemErrors = IntStream.range(0, requests.size())
+                .parallel()
+                .mapToObj(i -> errors(batchSchemas.get(requests.get(i).getWorkflowDefinitionId()),
+                        requests.get(i).getInputVariables()))
+                .collect(Collectors.toList());
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < itemErrors.size(); i++) {
+            String prefix = "[" + i + "] ";
+            itemErrors.get(i).forEach((path, message) -> errors.put(prefix + path, message));
+        }
+        if (!errors.isEmpty()) {
+            rejected.increment();
+            throw new InputValidationException(
+                    "Input variables of one or more batch items do not match their input schema", errors);
+        }
+    }
+
+    public void evict(String definitionId) {
+        schemas.remove(definitionId);
+    }
+
+    /**
+     * Returns the cached schema, loading it outside the map so that the repository call does not hold a
+     * {@link ConcurrentHashMap} bin lock; two threads may load the same schema once, and the first one is kept.
+     */
+    private Optional<JsonSchema> schema(String definitionId) {
+        Optional<JsonSchema> schema = schemas.get(definitionId);
+        if (schema != null) {
+            return schema;
+        }
+        Optional<JsonSchema> loaded = load(definitionId);
+        Optional<JsonSchema> existing = schemas.putIfAbsent(definitionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private Map<String, String> errors(Optional<JsonSchema> schema, Map<String, Object> inputVariables) {
+        if (schema.isEmpty()) {
+            return Map.of();
+        }
+        JsonNode input = inputVariables != null
+                ? objectMapper.valueToTree(inputVariables)
+                : objectMapper.createObjectNode();
+        Set<ValidationMessage> messages = schema.get().validate(input);
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+        return messages.stream().collect(Collectors.toMap(
+                message -> message.getInstanceLocation().toString(),
+                ValidationMessage::getMessage,
+                (first, second) -> first + "; " + second,
+                LinkedHashMap::new));
+    }
+
+    private Optional<JsonSchema> load(String definitionId) {
+        WorkflowDefinitionEntity definition = repository.findById(definitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow Definition", definitionId));
+        if (definition.getInputSchema() == null) {
+            return Optional.empty();
+        }
+        log.debug("Compiling input schema of workflow definition {}", definitionId);
+        return Optional.of(compile(definition.getInputSchema()));
+    }
+}
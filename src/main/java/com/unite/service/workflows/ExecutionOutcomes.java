@@ -0,0 +1,172 @@
+package com.unite.service.workflows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.retry.ExecutionFailed;
+import com.unite.service.retry.ExecutionStarting;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Writes the completion the engine reports for a case onto its execution row. As with failures in
+ * {@code ExecutionRetryService}, the engine can finish a case before the start transaction has committed the
+ * row, so completions are parked by case id and applied by whichever side removes the parked entry: the start
+ * itself, the engine callback if the row is already visible, or the commit of the start transaction.
+ * <p>
+ * Failures are recorded by the retry service alone, so that its retry decision still sees the execution running.
+ * <p>
+ * Callers that need to wait for a case can {@link #watch} it; the future completes with the first terminal state
+ * reported for the case on this node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionOutcomes {
+
+    private static final Set<ExecutionStatus> IN_FLIGHT = EnumSet.of(ExecutionStatus.PENDING, ExecutionStatus.RUNNING);
+
+    private final WorkflowExecutionRepository executionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    @Qualifier("virtualExecutor")
+    private final Executor virtualExecutor;
+
+    private final Map<String, Completion> parkedCompletions = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Outcome>> watchers = new ConcurrentHashMap<>();
+    private TransactionTemplate transactions;
+
+    @PostConstruct
+    void init() {
+        transactions = new TransactionTemplate(transactionManager);
+        transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Must be called before the case is started, and released with {@link #unwatch} once the caller is done.
+     */
+    public CompletableFuture<Outcome> watch(String caseId) {
+        return watchers.computeIfAbsent(caseId, id -> new CompletableFuture<>());
+    }
+
+    public void unwatch(String caseId) {
+        watchers.remove(caseId);
+    }
+
+    public void completed(String caseId, Object outputs) {
+        Completion completion = new Completion(toJson(outputs), LocalDateTime.now());
+        notifyWatcher(caseId, new Outcome(ExecutionStatus.COMPLETED, completion.outputVariables(), null));
+        parkedCompletions.put(caseId, completion);
+        // Off the engine callback thread: the update takes a transaction of its own
+        virtualExecutor.execute(() -> {
+            if (executionRepository.existsByCaseId(caseId)) {
+                applyParked(caseId);
+            }
+        });
+    }
+
+    public void cancelled(String caseId) {
+        notifyWatcher(caseId, new Outcome(ExecutionStatus.CANCELLED, null, "Cancelled"));
+    }
+
+    /**
+     * Cancels the row of a case that was cancelled while its start was still running. Returns whether the row
+     * was still in flight.
+     */
+    public boolean cancelStarted(String caseId) {
+        Integer updated = transactions.execute(status -> executionRepository.cancel(caseId, LocalDateTime.now(),
+                ExecutionStatus.CANCELLED, IN_FLIGHT));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+        cancelled(caseId);
+        return true;
+    }
+
+    /**
+     * Whether the row of the case has reached a terminal state. Cases without a row are not finished.
+     */
+    public boolean isFinished(String caseId) {
+        return executionRepository.findStatusByCaseId(caseId)
+                .map(status -> !IN_FLIGHT.contains(status))
+                .orElse(false);
+    }
+
+    @EventListener
+    public void onFailed(ExecutionFailed failure) {
+        notifyWatcher(failure.caseId(), new Outcome(ExecutionStatus.FAILED, null, failure.errorMessage()));
+    }
+
+    /**
+     * Removes the completion of a case that finished while it was being started, for the start to persist
+     * together with the new row.
+     */
+    public Optional<Completion> takeCompletion(String caseId) {
+        return Optional.ofNullable(parkedCompletions.remove(caseId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStartCommitted(ExecutionStarting starting) {
+        if (parkedCompletions.containsKey(starting.caseId())) {
+            virtualExecutor.execute(() -> applyParked(starting.caseId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onStartRolledBack(ExecutionStarting starting) {
+        parkedCompletions.remove(starting.caseId());
+    }
+
+    private void applyParked(String caseId) {
+        Completion completion = parkedCompletions.remove(caseId);
+        if (completion == null) {
+            return;
+        }
+        try {
+            transactions.executeWithoutResult(status -> executionRepository.complete(caseId,
+                    completion.outputVariables(), completion.completedAt(), ExecutionStatus.COMPLETED, IN_FLIGHT));
+        } catch (Exception e) {
+            log.error("Failed to record completion of case {}: {}", caseId, e.getMessage(), e);
+        }
+    }
+
+    private void notifyWatcher(String caseId, Outcome outcome) {
+        CompletableFuture<Outcome> watcher = watchers.get(caseId);
+        if (watcher != null) {
+            watcher.complete(outcome);
+        }
+    }
+
+    private String toJson(Object outputs) {
+        try {
+            return outputs == null ? null : objectMapper.writeValueAsString(outputs);
+        } catch (Exception e) {
+            log.error("Error converting output variables to JSON: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public record Completion(String outputVariables, LocalDateTime completedAt) {
+    }
+
+    public record Outcome(ExecutionStatus status, String outputVariables, String errorMessage) {
+    }
+}
@@ -7,27 +7,100 @@ import com.anode.workflow.entities.workflows.WorkflowContext;
 import com.anode.workflow.service.EventHandler;
 import com.anode.workflow.spring.autoconfigure.annotations.WorkflowEventHandler;
 import com.unite.dto.WorkflowEventMessage;
+import com.unite.exception.ExecutionCancelledException;
 import com.unite.mapper.WorkflowExecutionMapper;
-import com.unite.model.WorkflowExecutionEntity;
+import com.unite.service.ActiveExecutionRegistry;
+import com.unite.service.ActiveExecutionRegistry.ActiveExecution;
+import com.unite.service.WorkflowEventPublisher;
+import com.unite.service.concurrency.ConcurrencyLimits;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.retry.ExecutionFailed;
+import com.unite.service.timeout.ExecutionTimeouts;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 
 @WorkflowEventHandler
+@RequiredArgsConstructor
+@Slf4j
 public class UniteEventHandler implements EventHandler{
 
+    private final ActiveExecutionRegistry activeExecutionRegistry;
+    private final WorkflowEventPublisher eventPublisher;
+    private final StepLatencyProfiler stepLatencyProfiler;
+    private final ObservationRegistry observationRegistry;
+    private final ConcurrencyLimits concurrencyLimits;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExecutionTimeouts executionTimeouts;
+    private final ExecutionOutcomes executionOutcomes;
+
     @Override
     public void invoke(EventType event, WorkflowContext context) {
-        executionRepository.save(WorkflowExecutionMapper.map(context));
+        long now = System.nanoTime();
+        ActiveExecution execution = activeExecutionRegistry.findByCaseId(context.getCaseId()).orElse(null);
+        if (WorkflowExecutionMapper.mapEventType(event.name()) == WorkflowEventMessage.EventType.STEP_STARTED
+                && (activeExecutionRegistry.isCancelled(context.getCaseId())
+                        || execution == null && executionOutcomes.isFinished(context.getCaseId()))) {
+            // The engine has no cancel API and keeps cancelled and timed-out cases in its storage: refusing the
+            // next step is what stops a case whose thread swallowed the interrupt, or a parked case resumed later
+            throw new ExecutionCancelledException(context.getCaseId(), "step " + context.getStepName()
+                    + " not started", null);
+        }
+        if (execution != null && observationRegistry.getCurrentObservation() == null) {
+            // Engine callback on a thread of its own: continue the trace of the request that started the case
+            try (ContextSnapshot.Scope scope = execution.context().setThreadLocals()) {
+                concurrencyLimits.callback(() -> handle(event, context, execution, now));
+            }
+        } else {
+            concurrencyLimits.callback(() -> handle(event, context, execution, now));
+        }
+    }
+
+    private void handle(EventType event, WorkflowContext context, ActiveExecution execution, long now) {
+        String caseId = context.getCaseId();
+        String definitionId = execution != null ? execution.workflowDefinitionId() : null;
+        String stepName = context.getStepName();
+        WorkflowEventMessage.EventType eventType = WorkflowExecutionMapper.mapEventType(event.name());
 
-        WorkflowEventMessage event = WorkflowEventMessage.builder()
-                    .executionId(context.getCaseId())
+        switch (eventType) {
+            case STEP_STARTED -> stepLatencyProfiler.stepStarted(caseId, stepName, now);
+            case STEP_COMPLETED -> stepLatencyProfiler.stepFinished(caseId, definitionId, stepName, now, false);
+            case STEP_FAILED -> stepLatencyProfiler.stepFinished(caseId, definitionId, stepName, now, true);
+            case WORKFLOW_COMPLETED -> {
+                stepLatencyProfiler.caseFinished(caseId);
+                executionTimeouts.disarm(caseId);
+                executionOutcomes.completed(caseId, context.getWorkflowVariables());
+            }
+            case WORKFLOW_FAILED -> {
+                stepLatencyProfiler.caseFinished(caseId);
+                executionTimeouts.disarm(caseId);
+                applicationEventPublisher.publishEvent(new ExecutionFailed(caseId,
+                        stepName != null ? "Workflow failed in step " + stepName : "Workflow failed"));
+            }
+            default -> {
+            }
+        }
+
+        try {
+            WorkflowEventMessage message = WorkflowEventMessage.builder()
+                    .executionId(execution != null && execution.executionId() != null ? execution.executionId() : caseId)
+                    .caseId(caseId)
                     .workflowDefinitionId(definitionId)
-                    .eventType(event)
-                    .message(message)
-                    .data(data)
+                    .stepName(stepName)
+                    .eventType(eventType)
+                    .message(event.name())
                     .timestamp(LocalDateTime.now())
                     .build();
 
-            eventPublisher.publishEvent(event);
+            eventPublisher.publishEvent(message);
+        } catch (Exception e) {
+            log.error("Error publishing engine event {} for case {}: {}", event, caseId, e.getMessage());
+        }
+        if (eventType == WorkflowEventMessage.EventType.WORKFLOW_COMPLETED
+                || eventType == WorkflowEventMessage.EventType.WORKFLOW_FAILED) {
+            activeExecutionRegistry.remove(caseId);
+        }
     }
-
-    
 }
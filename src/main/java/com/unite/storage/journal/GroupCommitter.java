@@ -0,0 +1,131 @@
+package com.unite.storage.journal;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Batches fsyncs: writers register the segment they touched and wait for a sequence number,
+ * a single flusher thread forces every dirty segment once per commit window.
+ */
+final class GroupCommitter implements Runnable {
+
+    private final long windowNanos;
+    private final Set<JournalSegment> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread thread;
+
+    private long requested;
+    private long durable;
+    private long flushes;
+    private volatile boolean running = true;
+
+    GroupCommitter(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.thread = Thread.ofPlatform().daemon().name("journal-group-commit").unstarted(this);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    long markDirty(JournalSegment segment) {
+        dirty.add(segment);
+        lock.lock();
+        try {
+            requested++;
+            pending.signal();
+            return requested;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void awaitDurable(long sequence) throws InterruptedIOException {
+        lock.lock();
+        try {
+            while (durable < sequence && running) {
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for journal commit");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long flushCount() {
+        lock.lock();
+        try {
+            return flushes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            long target;
+            lock.lock();
+            try {
+                while (requested == durable && running) {
+                    pending.await();
+                }
+                if (windowNanos > 0) {
+                    pending.awaitNanos(windowNanos);
+                }
+                target = requested;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            flush(target);
+        }
+    }
+
+    void stop() {
+        running = false;
+        lock.lock();
+        try {
+            pending.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            flush(requested);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(long target) {
+        for (JournalSegment segment : dirty) {
+            dirty.remove(segment);
+            segment.force();
+        }
+        lock.lock();
+        try {
+            durable = Math.max(durable, target);
+            flushes++;
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
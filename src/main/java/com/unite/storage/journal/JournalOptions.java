@@ -0,0 +1,22 @@
+package com.unite.storage.journal;
+
+import java.time.Duration;
+
+public record JournalOptions(int segmentSize, Duration groupCommitInterval, boolean syncWrites,
+                             double compactionThreshold) {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    public static JournalOptions defaults() {
+        return new JournalOptions(DEFAULT_SEGMENT_SIZE, Duration.ofMillis(2), true, 0.5);
+    }
+
+    public JournalOptions {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        if (compactionThreshold < 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("Compaction threshold must be between 0 and 1");
+        }
+    }
+}
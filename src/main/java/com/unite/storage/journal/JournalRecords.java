@@ -0,0 +1,63 @@
+package com.unite.storage.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Record layout: {@code [int length][int crc32c][byte type][short keyLength][key][value]}, where
+ * {@code length} counts every byte after the length field and the checksum covers type, key and value.
+ */
+final class JournalRecords {
+
+    static final byte PUT = 1;
+    static final byte TOMBSTONE = 2;
+
+    static final int HEADER_SIZE = 8;
+    private static final int BODY_PREFIX = 3;
+
+    private JournalRecords() {
+    }
+
+    static byte[] encode(byte type, String key, byte[] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Journal key too long: " + keyBytes.length + " bytes");
+        }
+        int bodyLength = BODY_PREFIX + keyBytes.length + value.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodyLength);
+        buffer.putInt(4 + bodyLength);
+        buffer.putInt(0);
+        buffer.put(type);
+        buffer.putShort((short) keyBytes.length);
+        buffer.put(keyBytes);
+        buffer.put(value);
+        buffer.putInt(4, checksum(buffer.array(), HEADER_SIZE, bodyLength));
+        return buffer.array();
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    static byte type(byte[] record) {
+        return record[HEADER_SIZE];
+    }
+
+    static int keyLength(byte[] record) {
+        return ((record[HEADER_SIZE + 1] & 0xFF) << 8) | (record[HEADER_SIZE + 2] & 0xFF);
+    }
+
+    static String key(byte[] record) {
+        return new String(record, HEADER_SIZE + BODY_PREFIX, keyLength(record), StandardCharsets.UTF_8);
+    }
+
+    static byte[] value(byte[] record) {
+        int start = HEADER_SIZE + BODY_PREFIX + keyLength(record);
+        byte[] value = new byte[record.length - start];
+        System.arraycopy(record, start, value, 0, value.length);
+        return value;
+    }
+}
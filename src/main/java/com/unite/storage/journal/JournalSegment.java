@@ -0,0 +1,127 @@
+package com.unite.storage.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class JournalSegment implements Closeable {
+
+    static final String SUFFIX = ".journal";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong liveBytes = new AtomicLong();
+
+    private volatile int position;
+
+    private JournalSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    static JournalSegment open(Path directory, long id, int capacity) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", id, SUFFIX));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.max(capacity, channel.size());
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new JournalSegment(id, path, channel, buffer, size);
+    }
+
+    static long idOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    long id() {
+        return id;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int append(byte[] record) {
+        if (position + record.length > capacity) {
+            return -1;
+        }
+        int offset = position;
+        buffer.put(offset, record);
+        position = offset + record.length;
+        return offset;
+    }
+
+    byte[] read(int offset, int length) {
+        byte[] record = new byte[length];
+        buffer.get(offset, record);
+        return record;
+    }
+
+    void scan(RecordVisitor visitor) {
+        int offset = 0;
+        while (offset + JournalRecords.HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 7 || offset + 4 + length > capacity || !checksumMatches(offset, length)) {
+                truncate(offset);
+                break;
+            }
+            visitor.visit(read(offset, 4 + length), offset);
+            offset += 4 + length;
+        }
+        position = offset;
+    }
+
+    void addLive(long delta) {
+        liveBytes.addAndGet(delta);
+    }
+
+    double liveRatio() {
+        int written = position;
+        return written == 0 ? 1.0 : (double) liveBytes.get() / written;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean checksumMatches(int offset, int length) {
+        byte[] body = new byte[length - 4];
+        buffer.get(offset + JournalRecords.HEADER_SIZE, body);
+        return JournalRecords.checksum(body, 0, body.length) == buffer.getInt(offset + 4);
+    }
+
+    private void truncate(int offset) {
+        for (int i = offset; i < capacity; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(byte[] record, int offset);
+    }
+}
@@ -0,0 +1,228 @@
+package com.unite.storage.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Segmented, memory-mapped, append-only key/value journal.
+ * <p>
+ * Every write appends a record to the active segment and updates an in-memory index of the latest
+ * record per key; superseded records stay on disk until {@link #compact()} rewrites the live records
+ * of sparse segments and drops them. Durability is provided by a {@link GroupCommitter} that fsyncs
+ * dirty segments once per commit window for all writers waiting in it.
+ */
+public final class JournalStore implements Closeable {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Path directory;
+    private final JournalOptions options;
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final Map<String, RecordLocation> index = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final GroupCommitter committer;
+
+    private volatile JournalSegment active;
+
+    private JournalStore(Path directory, JournalOptions options) {
+        this.directory = directory;
+        this.options = options;
+        this.committer = new GroupCommitter(options.groupCommitInterval());
+    }
+
+    public static JournalStore open(Path directory, JournalOptions options) throws IOException {
+        Files.createDirectories(directory);
+        JournalStore store = new JournalStore(directory, options);
+        store.recover();
+        store.committer.start();
+        return store;
+    }
+
+    public void put(String key, byte[] value) throws IOException {
+        append(JournalRecords.encode(JournalRecords.PUT, key, value), key, false);
+    }
+
+    public void delete(String key) throws IOException {
+        RecordLocation current = index.get(key);
+        if (current == null || current.tombstone()) {
+            return;
+        }
+        append(JournalRecords.encode(JournalRecords.TOMBSTONE, key, EMPTY), key, true);
+    }
+
+    public byte[] get(String key) {
+        while (true) {
+            RecordLocation location = index.get(key);
+            if (location == null || location.tombstone()) {
+                return null;
+            }
+            JournalSegment segment = segments.get(location.segmentId());
+            if (segment != null) {
+                return JournalRecords.value(segment.read(location.offset(), location.length()));
+            }
+            if (index.get(key) == location) {
+                return null;
+            }
+        }
+    }
+
+    public boolean contains(String key) {
+        RecordLocation location = index.get(key);
+        return location != null && !location.tombstone();
+    }
+
+    public Set<String> keys() {
+        return index.entrySet().stream()
+                .filter(entry -> !entry.getValue().tombstone())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long flushCount() {
+        return committer.flushCount();
+    }
+
+    /**
+     * Rewrites the live records of every sealed segment whose live ratio dropped below the
+     * configured threshold, then deletes it. Tombstones are only carried forward while an older
+     * segment could still hold a value they shadow.
+     *
+     * @return number of segments reclaimed
+     */
+    public synchronized int compact() throws IOException {
+        int reclaimed = 0;
+        for (JournalSegment segment : List.copyOf(segments.values())) {
+            if (segment == active || segment.liveRatio() >= options.compactionThreshold()) {
+                continue;
+            }
+            compactSegment(segment, segments.firstKey() == segment.id());
+            reclaimed++;
+        }
+        return reclaimed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        committer.stop();
+        for (JournalSegment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    private void append(byte[] record, String key, boolean tombstone) throws IOException {
+        if (record.length > options.segmentSize()) {
+            throw new IllegalArgumentException("Journal record of " + record.length
+                    + " bytes exceeds segment size " + options.segmentSize());
+        }
+        long sequence;
+        writeLock.lock();
+        try {
+            RecordLocation location = write(record, tombstone);
+            release(index.put(key, location));
+            sequence = committer.markDirty(active);
+        } finally {
+            writeLock.unlock();
+        }
+        if (options.syncWrites()) {
+            committer.awaitDurable(sequence);
+        }
+    }
+
+    private void compactSegment(JournalSegment segment, boolean oldest) throws IOException {
+        long sequence = 0;
+        for (Map.Entry<String, RecordLocation> entry : index.entrySet()) {
+            RecordLocation location = entry.getValue();
+            if (location.segmentId() != segment.id()) {
+                continue;
+            }
+            if (location.tombstone() && oldest) {
+                index.remove(entry.getKey(), location);
+                continue;
+            }
+            byte[] record = segment.read(location.offset(), location.length());
+            writeLock.lock();
+            try {
+                if (!location.equals(index.get(entry.getKey()))) {
+                    continue;
+                }
+                RecordLocation moved = write(record, location.tombstone());
+                index.put(entry.getKey(), moved);
+                sequence = committer.markDirty(active);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        if (sequence > 0) {
+            committer.awaitDurable(sequence);
+        }
+        segments.remove(segment.id());
+        segment.delete();
+    }
+
+    private RecordLocation write(byte[] record, boolean tombstone) throws IOException {
+        int offset = active.append(record);
+        if (offset < 0) {
+            roll();
+            offset = active.append(record);
+        }
+        active.addLive(record.length);
+        return new RecordLocation(active.id(), offset, record.length, tombstone);
+    }
+
+    private void roll() throws IOException {
+        committer.markDirty(active);
+        JournalSegment next = JournalSegment.open(directory, active.id() + 1, options.segmentSize());
+        segments.put(next.id(), next);
+        active = next;
+    }
+
+    private void release(RecordLocation previous) {
+        if (previous == null) {
+            return;
+        }
+        JournalSegment segment = segments.get(previous.segmentId());
+        if (segment != null) {
+            segment.addLive(-previous.length());
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            JournalSegment segment = JournalSegment.open(directory, JournalSegment.idOf(file), options.segmentSize());
+            segments.put(segment.id(), segment);
+            segment.scan((record, offset) -> {
+                boolean tombstone = JournalRecords.type(record) == JournalRecords.TOMBSTONE;
+                segment.addLive(record.length);
+                release(index.put(JournalRecords.key(record),
+                        new RecordLocation(segment.id(), offset, record.length, tombstone)));
+            });
+        }
+
+        if (segments.isEmpty()) {
+            JournalSegment first = JournalSegment.open(directory, 1, options.segmentSize());
+            segments.put(first.id(), first);
+        }
+        active = segments.lastEntry().getValue();
+    }
+}
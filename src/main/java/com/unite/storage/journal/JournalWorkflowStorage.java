@@ -0,0 +1,188 @@
+package com.unite.storage.journal;
+
+import com.anode.workflow.service.CommonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Workflow engine storage on top of a {@link JournalStore}. Objects are stored as Jackson JSON prefixed
+ * with their class name so {@link #getAll(Class)} can filter by type without deserializing everything.
+ */
+@Slf4j
+public class JournalWorkflowStorage implements CommonService, Closeable {
+
+    private static final String COUNTER_PREFIX = "counter:";
+
+    private final String engineName;
+    private final Path directory;
+    private final JournalOptions options;
+    private final Duration compactionInterval;
+    private final ObjectMapper objectMapper;
+    private final AtomicBoolean written = new AtomicBoolean();
+
+    private JournalStore store;
+    private ScheduledExecutorService compactor;
+
+    public JournalWorkflowStorage(String engineName, Path directory, JournalOptions options,
+                                  Duration compactionInterval, ObjectMapper objectMapper) {
+        this.engineName = engineName;
+        this.directory = directory;
+        this.options = options;
+        this.compactionInterval = compactionInterval;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Whether the engine has written through this storage since startup.
+     */
+    public boolean hasWrites() {
+        return written.get();
+    }
+
+    public void open() throws IOException {
+        store = JournalStore.open(directory, options);
+        compactor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("journal-compactor-" + engineName).factory());
+        compactor.scheduleWithFixedDelay(this::compact,
+                compactionInterval.toMillis(), compactionInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Journal storage for engine '{}' opened at {} with {} cases",
+                engineName, directory, store.keys().size());
+    }
+
+    @Override
+    public void save(Serializable id, Object object) {
+        write(key(id), object);
+    }
+
+    @Override
+    public void update(Serializable id, Object object) {
+        write(key(id), object);
+    }
+
+    @Override
+    public void saveOrUpdate(Serializable id, Object object) {
+        write(key(id), object);
+    }
+
+    @Override
+    public void delete(Serializable id) {
+        try {
+            store.delete(key(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete journal entry " + id, e);
+        }
+    }
+
+    @Override
+    public <T> T get(Class<T> objectClass, Serializable id) {
+        byte[] stored = store.get(key(id));
+        return stored == null ? null : decode(stored, objectClass);
+    }
+
+    @Override
+    public <T> List<T> getAll(Class<T> objectClass) {
+        List<T> results = new ArrayList<>();
+        for (String key : store.keys()) {
+            if (key.startsWith(COUNTER_PREFIX)) {
+                continue;
+            }
+            byte[] stored = store.get(key);
+            if (stored != null && objectClass.getName().equals(typeOf(stored))) {
+                results.add(decode(stored, objectClass));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public synchronized long incrCounter(String key) {
+        String counterKey = COUNTER_PREFIX + key;
+        byte[] stored = store.get(counterKey);
+        long next = (stored == null ? 0 : ByteBuffer.wrap(stored).getLong()) + 1;
+        try {
+            store.put(counterKey, ByteBuffer.allocate(Long.BYTES).putLong(next).array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to increment journal counter " + key, e);
+        }
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private void compact() {
+        try {
+            int reclaimed = store.compact();
+            if (reclaimed > 0) {
+                log.info("Journal compaction for engine '{}' reclaimed {} segments", engineName, reclaimed);
+            }
+        } catch (Exception e) {
+            log.error("Journal compaction failed for engine '{}': {}", engineName, e.getMessage(), e);
+        }
+    }
+
+    private void write(String key, Object object) {
+        if (written.compareAndSet(false, true)) {
+            log.info("Journal storage for engine '{}' received its first write", engineName);
+        }
+        try {
+            store.put(key, encode(object));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write journal entry " + key, e);
+        }
+    }
+
+    private byte[] encode(Object object) throws IOException {
+        byte[] type = object.getClass().getName().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(type.length >>> 8);
+        out.write(type.length);
+        out.write(type);
+        objectMapper.writeValue(out, object);
+        return out.toByteArray();
+    }
+
+    private <T> T decode(byte[] stored, Class<T> objectClass) {
+        int typeLength = typeLength(stored);
+        try {
+            return objectMapper.readValue(stored, 2 + typeLength, stored.length - 2 - typeLength, objectClass);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read journal entry as " + objectClass.getName(), e);
+        }
+    }
+
+    private static String typeOf(byte[] stored) {
+        return new String(stored, 2, typeLength(stored), StandardCharsets.UTF_8);
+    }
+
+    private static int typeLength(byte[] stored) {
+        return ((stored[0] & 0xFF) << 8) | (stored[1] & 0xFF);
+    }
+
+    private static String key(Serializable id) {
+        return String.valueOf(id);
+    }
+}
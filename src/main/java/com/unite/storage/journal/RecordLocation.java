@@ -0,0 +1,4 @@
+package com.unite.storage.journal;
+
+record RecordLocation(long segmentId, int offset, int length, boolean tombstone) {
+}
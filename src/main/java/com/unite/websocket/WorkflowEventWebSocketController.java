@@ -1,13 +1,22 @@
 package com.unite.websocket;
 
 import com.unite.dto.WorkflowEventMessage;
+import com.unite.service.events.EventDeltaEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +25,14 @@ import java.time.LocalDateTime;
 @Slf4j
 public class WorkflowEventWebSocketController {
 
+    private static final String EXECUTION_TOPIC = "/topic/workflow-events/";
+
+    private final EventDeltaEncoder deltaEncoder;
+    @Qualifier("clientOutboundChannel")
+    private final MessageChannel clientOutboundChannel;
+    @Qualifier("brokerMessageConverter")
+    private final MessageConverter brokerMessageConverter;
+
     @MessageMapping("/workflow-events/subscribe")
     @SendTo("/topic/workflow-events")
     public WorkflowEventMessage subscribeToAllEvents() {
@@ -37,14 +54,39 @@ public class WorkflowEventWebSocketController {
                 .build();
     }
 
-    @SubscribeMapping("/topic/workflow-events/{executionId}")
-    public WorkflowEventMessage onSubscribeToExecution(@DestinationVariable String executionId) {
+    /**
+     * Sends the current snapshot of the execution to the session that subscribed to its topic, and to no one
+     * else. {@code @SubscribeMapping} would only see subscriptions to {@code /app} destinations, while clients
+     * subscribe to the broker topic itself.
+     */
+    @EventListener
+    public void onSubscribeToExecution(SessionSubscribeEvent event) {
+        StompHeaderAccessor subscription = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = subscription.getDestination();
+        if (destination == null || !destination.startsWith(EXECUTION_TOPIC)) {
+            return;
+        }
+        String executionId = destination.substring(EXECUTION_TOPIC.length());
+        if (executionId.isEmpty() || executionId.contains("/")) {
+            return;
+        }
         log.info("Client subscribed to execution: {}", executionId);
-        return WorkflowEventMessage.builder()
-                .executionId(executionId)
-                .eventType(WorkflowEventMessage.EventType.STATE_CHANGED)
-                .message("Connected to execution event stream")
-                .timestamp(LocalDateTime.now())
-                .build();
+        WorkflowEventMessage snapshot = deltaEncoder.snapshot(executionId)
+                .orElseGet(() -> WorkflowEventMessage.builder()
+                        .executionId(executionId)
+                        .eventType(WorkflowEventMessage.EventType.STATE_CHANGED)
+                        .message("Connected to execution event stream")
+                        .timestamp(LocalDateTime.now())
+                        .build());
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(subscription.getSessionId());
+        headers.setSubscriptionId(subscription.getSubscriptionId());
+        headers.setDestination(destination);
+        headers.setLeaveMutable(true);
+        Message<?> message = brokerMessageConverter.toMessage(snapshot, headers.getMessageHeaders());
+        if (message != null) {
+            clientOutboundChannel.send(message);
+        }
     }
 }
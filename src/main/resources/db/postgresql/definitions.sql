@@ -0,0 +1,41 @@
+-- Base table, for a database that did not have it before these scripts; later columns are added below.
+CREATE TABLE IF NOT EXISTS workflow_definitions (
+    id              VARCHAR(255) PRIMARY KEY,
+    name            VARCHAR(255) NOT NULL,
+    description     VARCHAR(1000),
+    version         VARCHAR(255) NOT NULL,
+    definition_json TEXT NOT NULL,
+    active          BOOLEAN NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    created_by      VARCHAR(255),
+    tags            VARCHAR(255)
+);
+
+ALTER TABLE workflow_definitions ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE workflow_definitions ADD COLUMN IF NOT EXISTS revision INTEGER;
+UPDATE workflow_definitions SET revision = 1 WHERE revision IS NULL;
+
+-- Names used to be unique. The generated constraint name depends on who created it (PostgreSQL, or Hibernate and
+-- its version), so every unique constraint on the name column alone is looked up and dropped.
+DO '
+DECLARE
+    unique_name TEXT;
+BEGIN
+    FOR unique_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = ''workflow_definitions''::regclass
+          AND c.contype = ''u''
+          AND cardinality(c.conkey) = 1
+          AND a.attname = ''name''
+    LOOP
+        EXECUTE format(''ALTER TABLE workflow_definitions DROP CONSTRAINT %I'', unique_name);
+    END LOOP;
+END';
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_wd_name_version ON workflow_definitions (name, version);
+CREATE INDEX IF NOT EXISTS idx_wd_name_content_hash ON workflow_definitions (name, content_hash);
+
+ALTER TABLE workflow_definitions ADD COLUMN IF NOT EXISTS input_schema TEXT;
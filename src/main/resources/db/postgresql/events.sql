@@ -0,0 +1,41 @@
+CREATE TABLE IF NOT EXISTS workflow_events (
+    event_id               VARCHAR(36) NOT NULL,
+    occurred_at            TIMESTAMP(6) NOT NULL,
+    execution_id           VARCHAR(255),
+    case_id                VARCHAR(255),
+    workflow_definition_id VARCHAR(255),
+    step_name              VARCHAR(255),
+    event_type             VARCHAR(32) NOT NULL,
+    message                TEXT,
+    data                   TEXT,
+    trace_id               VARCHAR(32),
+    PRIMARY KEY (event_id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+ALTER TABLE workflow_events ADD COLUMN IF NOT EXISTS trace_id VARCHAR(32);
+
+-- Daily partitions are created ahead of time by EventPartitionMaintainer; this catches anything outside them.
+CREATE TABLE IF NOT EXISTS workflow_events_default PARTITION OF workflow_events DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_wev_execution ON workflow_events (execution_id, occurred_at, event_id);
+CREATE INDEX IF NOT EXISTS idx_wev_case ON workflow_events (case_id, occurred_at, event_id);
+CREATE INDEX IF NOT EXISTS idx_wev_occurred_at ON workflow_events (occurred_at, event_id);
+
+-- Today's and tomorrow's partitions, so that events written before EventPartitionMaintainer first runs do not
+-- land in the default partition. A day that already has rows there is left to the maintainer, which moves them
+-- out as it attaches the day's partition.
+DO '
+DECLARE
+    day DATE;
+    partition_name TEXT;
+BEGIN
+    FOR i IN 0..1 LOOP
+        day := (now() AT TIME ZONE ''UTC'')::date + i;
+        partition_name := ''workflow_events_'' || to_char(day, ''YYYYMMDD'');
+        IF to_regclass(partition_name) IS NULL AND NOT EXISTS (
+                SELECT 1 FROM workflow_events_default WHERE occurred_at >= day AND occurred_at < day + 1) THEN
+            EXECUTE format(''CREATE TABLE %I PARTITION OF workflow_events FOR VALUES FROM (%L) TO (%L)'',
+                    partition_name, day, day + 1);
+        END IF;
+    END LOOP;
+END';
@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS workflow_executions (
+    id                     VARCHAR(255) PRIMARY KEY,
+    workflow_definition_id VARCHAR(255) NOT NULL,
+    case_id                VARCHAR(255) NOT NULL,
+    status                 VARCHAR(255) NOT NULL,
+    input_variables        TEXT,
+    output_variables       TEXT,
+    error_message          TEXT,
+    started_at             TIMESTAMP(6) NOT NULL,
+    updated_at             TIMESTAMP(6),
+    completed_at           TIMESTAMP(6)
+);
+
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(255);
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS owner_node VARCHAR(255);
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS owner_heartbeat TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_we_status_id ON workflow_executions (status, id);
+CREATE INDEX IF NOT EXISTS idx_we_started_at ON workflow_executions (started_at);
+CREATE INDEX IF NOT EXISTS idx_we_owner_node ON workflow_executions (owner_node);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_we_case_id ON workflow_executions (case_id);
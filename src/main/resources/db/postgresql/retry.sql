@@ -0,0 +1,22 @@
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS attempt INTEGER;
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS retry_of VARCHAR(255);
+ALTER TABLE scheduled_starts ADD COLUMN IF NOT EXISTS attempt INTEGER;
+ALTER TABLE scheduled_starts ADD COLUMN IF NOT EXISTS retry_of VARCHAR(255);
+
+CREATE TABLE IF NOT EXISTS dead_letters (
+    id                     VARCHAR(255) PRIMARY KEY,
+    execution_id           VARCHAR(255) NOT NULL,
+    workflow_definition_id VARCHAR(255) NOT NULL,
+    case_id                VARCHAR(255) NOT NULL,
+    tenant_id              VARCHAR(255),
+    input_variables        TEXT,
+    attempts               INTEGER NOT NULL,
+    error_message          TEXT,
+    failed_at              TIMESTAMP(6) NOT NULL,
+    status                 VARCHAR(255) NOT NULL,
+    replayed_at            TIMESTAMP(6),
+    replay_case_id         VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dl_status_failed_at ON dead_letters (status, failed_at);
+CREATE INDEX IF NOT EXISTS idx_dl_definition_status ON dead_letters (workflow_definition_id, status);
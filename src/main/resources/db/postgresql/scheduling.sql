@@ -0,0 +1,24 @@
+ALTER TABLE workflow_definitions ADD COLUMN IF NOT EXISTS cron_expression VARCHAR(255);
+
+CREATE TABLE IF NOT EXISTS scheduled_starts (
+    id                     VARCHAR(255) PRIMARY KEY,
+    workflow_definition_id VARCHAR(255) NOT NULL,
+    case_id                VARCHAR(255) NOT NULL,
+    tenant_id              VARCHAR(255),
+    input_variables        TEXT,
+    fire_at                TIMESTAMP(6) NOT NULL,
+    status                 VARCHAR(255) NOT NULL,
+    source                 VARCHAR(255) NOT NULL,
+    dedupe_key             VARCHAR(255),
+    execution_id           VARCHAR(255),
+    error_message          TEXT,
+    created_at             TIMESTAMP(6) NOT NULL,
+    claimed_at             TIMESTAMP(6),
+    fired_at               TIMESTAMP(6),
+    CONSTRAINT uk_ss_dedupe_key UNIQUE (dedupe_key)
+);
+
+ALTER TABLE scheduled_starts ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS idx_ss_status_fire_at ON scheduled_starts (status, fire_at);
+CREATE INDEX IF NOT EXISTS idx_ss_definition_id ON scheduled_starts (workflow_definition_id);
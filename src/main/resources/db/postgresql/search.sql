@@ -0,0 +1,18 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS workflow_definition_tags (
+    id            VARCHAR(255) PRIMARY KEY,
+    definition_id VARCHAR(255) NOT NULL,
+    tag           VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_wdt_definition_tag UNIQUE (definition_id, tag)
+);
+
+CREATE INDEX IF NOT EXISTS idx_wdt_tag ON workflow_definition_tags (tag);
+CREATE INDEX IF NOT EXISTS idx_wdt_definition_id ON workflow_definition_tags (definition_id);
+
+CREATE INDEX IF NOT EXISTS idx_wd_name_trgm
+    ON workflow_definitions USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_wd_description_trgm
+    ON workflow_definitions USING gin (lower(coalesce(description, '')) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_wd_active_version
+    ON workflow_definitions (active, version);
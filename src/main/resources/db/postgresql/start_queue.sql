@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS workflow_start_queue (
+    id                     VARCHAR(255) PRIMARY KEY,
+    workflow_definition_id VARCHAR(255) NOT NULL,
+    case_id                VARCHAR(255) NOT NULL,
+    tenant_id              VARCHAR(255),
+    input_variables        TEXT,
+    status                 VARCHAR(255) NOT NULL,
+    enqueued_at            TIMESTAMP(6) NOT NULL,
+    visible_at             TIMESTAMP(6) NOT NULL,
+    attempts               INTEGER NOT NULL DEFAULT 0,
+    claim_token            VARCHAR(255),
+    claimed_by             VARCHAR(255),
+    last_error             TEXT
+);
+
+ALTER TABLE workflow_start_queue ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS idx_wsq_status_visible_at ON workflow_start_queue (status, visible_at);
+CREATE INDEX IF NOT EXISTS idx_wsq_ready_visible_at ON workflow_start_queue (visible_at) WHERE status = 'READY';
+
+-- Rows are deleted as soon as they are consumed; vacuum aggressively to keep the hot index small.
+ALTER TABLE workflow_start_queue SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_cost_delay = 0);
@@ -0,0 +1,5 @@
+ALTER TABLE workflow_definitions ADD COLUMN IF NOT EXISTS timeout_ms BIGINT;
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS timeout_ms BIGINT;
+ALTER TABLE workflow_executions ADD COLUMN IF NOT EXISTS deadline TIMESTAMP(6);
+ALTER TABLE scheduled_starts ADD COLUMN IF NOT EXISTS timeout_ms BIGINT;
+ALTER TABLE workflow_start_queue ADD COLUMN IF NOT EXISTS timeout_ms BIGINT;
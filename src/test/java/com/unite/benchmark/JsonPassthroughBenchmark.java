@@ -0,0 +1,97 @@
+package com.unite.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.unite.dto.WorkflowExecutionResponse;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-path cost of returning stored execution variables: the former parse-into-Map path,
+ * a JsonNode tree parse, and the raw passthrough used when {@code unite.json.raw-passthrough} is on.
+ * Run with {@code mvn -Pbenchmark test -DskipTests -Dbenchmark.include=JsonPassthrough}
+ * and add {@code -prof gc} to the arguments to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonPassthroughBenchmark {
+
+    @Param({"102400"})
+    private int payloadBytes;
+
+    private ObjectMapper objectMapper;
+    private String storedJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        storedJson = objectMapper.writeValueAsString(variables(payloadBytes));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String parseToMap() throws Exception {
+        Map<String, Object> input = objectMapper.readValue(storedJson, Map.class);
+        Map<String, Object> output = objectMapper.readValue(storedJson, Map.class);
+        return objectMapper.writeValueAsString(Map.of(
+                "id", "execution-id",
+                "inputVariables", input,
+                "outputVariables", output));
+    }
+
+    @Benchmark
+    public String parseToTree() throws Exception {
+        return objectMapper.writeValueAsString(response(objectMapper.readTree(storedJson), objectMapper.readTree(storedJson)));
+    }
+
+    @Benchmark
+    public String rawPassthrough() throws Exception {
+        return objectMapper.writeValueAsString(response(
+                JsonNodeFactory.instance.rawValueNode(new RawValue(storedJson)),
+                JsonNodeFactory.instance.rawValueNode(new RawValue(storedJson))));
+    }
+
+    private WorkflowExecutionResponse response(JsonNode input, JsonNode output) {
+        return WorkflowExecutionResponse.builder()
+                .id("execution-id")
+                .workflowDefinitionId("definition-id")
+                .caseId("case-id")
+                .status(ExecutionStatus.COMPLETED)
+                .inputVariables(input)
+                .outputVariables(output)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static Map<String, Object> variables(int targetBytes) {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        int approximateSize = 0;
+        for (int i = 0; approximateSize < targetBytes; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", "SKU-" + i);
+            item.put("description", "Line item number " + i + " with a reasonably long description");
+            item.put("quantity", i % 7 + 1);
+            item.put("price", 19.99 + i);
+            item.put("tags", List.of("alpha", "beta", "gamma"));
+            variables.put("item-" + i, item);
+            approximateSize += 160;
+        }
+        return variables;
+    }
+}
@@ -0,0 +1,19 @@
+package com.unite.config;
+
+import com.unite.config.JournalStorageConfig.JournalStorageRegistrar;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalStorageConfigTest {
+
+    @Test
+    void segmentSizeBytes_RejectsSizesOutsideMappableRange() {
+        assertEquals(64 * 1024 * 1024, JournalStorageRegistrar.segmentSizeBytes("engine", DataSize.ofMegabytes(64)));
+        assertThrows(IllegalArgumentException.class,
+                () -> JournalStorageRegistrar.segmentSizeBytes("engine", DataSize.ofGigabytes(2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> JournalStorageRegistrar.segmentSizeBytes("engine", DataSize.ofKilobytes(4)));
+    }
+}
@@ -0,0 +1,53 @@
+package com.unite.datasource;
+
+import com.unite.config.ReplicaProperties;
+import com.unite.datasource.ReadReplicaRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReadYourWrites readYourWrites;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setEnabled(true);
+        readYourWrites = new ReadYourWrites(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void currentRoute_ReadOnlyTransactionsGoToReplica() {
+        assertEquals(Route.PRIMARY, ReadReplicaRoutingDataSource.currentRoute());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(Route.REPLICA, ReadReplicaRoutingDataSource.currentRoute());
+    }
+
+    @Test
+    void currentRoute_RecentWritesAreReadFromPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        readYourWrites.written("exec-1");
+
+        assertEquals(Route.PRIMARY, readYourWrites.read("exec-1", ReadReplicaRoutingDataSource::currentRoute));
+        assertEquals(Route.REPLICA, readYourWrites.read("exec-2", ReadReplicaRoutingDataSource::currentRoute));
+        assertEquals(Route.REPLICA, ReadReplicaRoutingDataSource.currentRoute());
+    }
+
+    @Test
+    void written_IsIgnoredWhenReplicaDisabled() {
+        ReadYourWrites disabled = new ReadYourWrites(new ReplicaProperties());
+        disabled.written("exec-1");
+
+        assertFalse(disabled.isRecent("exec-1"));
+    }
+}
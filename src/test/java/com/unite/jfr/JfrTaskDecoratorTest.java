@@ -0,0 +1,53 @@
+package com.unite.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrTaskDecoratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void decorate_RecordsQueueWaitWhileRecording() throws Exception {
+        JfrTaskDecorator decorator = new JfrTaskDecorator("testExecutor");
+        AtomicBoolean ran = new AtomicBoolean();
+        Path file = tempDir.resolve("wait.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(AsyncQueueWaitEvent.class);
+            recording.start();
+            Runnable task = decorator.decorate(() -> ran.set(true));
+            Thread.sleep(20);
+            task.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertTrue(ran.get());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.unite.AsyncQueueWait"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("testExecutor", events.getFirst().getString("executor"));
+        assertTrue(events.getFirst().getDuration("waitNanos").compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    void decorate_ReturnsTaskUnchangedWhenNotRecording() {
+        Runnable task = () -> {
+        };
+
+        assertSame(task, new JfrTaskDecorator("testExecutor").decorate(task));
+    }
+}
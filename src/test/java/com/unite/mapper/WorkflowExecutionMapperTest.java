@@ -0,0 +1,17 @@
+package com.unite.mapper;
+
+import com.unite.dto.WorkflowEventMessage.EventType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkflowExecutionMapperTest {
+
+    @Test
+    void mapEventType_MapsKnownEngineEventsAndNothingElse() {
+        assertEquals(EventType.WORKFLOW_COMPLETED, WorkflowExecutionMapper.mapEventType("ON_PROCESS_COMPLETE"));
+        assertEquals(EventType.STEP_FAILED, WorkflowExecutionMapper.mapEventType("ON_STEP_ERROR"));
+        assertEquals(EventType.STATE_CHANGED, WorkflowExecutionMapper.mapEventType("ON_PROCESS_PEND"));
+        assertEquals(EventType.STATE_CHANGED, WorkflowExecutionMapper.mapEventType("ON_STEP_COMPLETE_FAILED_RETRY"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.unite.service;
+
+import com.anode.workflow.service.runtime.RuntimeService;
+import com.unite.config.RecoveryProperties;
+import com.unite.model.WorkflowExecutionEntity;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.timeout.ExecutionTimeouts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExecutionRecoveryServiceTest {
+
+    private final WorkflowExecutionRepository executionRepository = mock(WorkflowExecutionRepository.class);
+    private final RuntimeService runtimeService = mock(RuntimeService.class);
+    private final ActiveExecutionRegistry registry = new ActiveExecutionRegistry();
+    private ExecutionRecoveryService recoveryService;
+
+    @BeforeEach
+    void setUp() {
+        recoveryService = new ExecutionRecoveryService(executionRepository, runtimeService,
+                registry, mock(ExecutionTimeouts.class), new RecoveryProperties(),
+                mock(ApplicationEventPublisher.class), new SimpleMeterRegistry(),
+                mock(PlatformTransactionManager.class), Runnable::run);
+        recoveryService.registerMetrics();
+    }
+
+    @Test
+    void recover_ResumesOnlyExecutionsItClaims() {
+        WorkflowExecutionEntity abandoned = execution("exec-1", "case-1");
+        WorkflowExecutionEntity renewed = execution("exec-2", "case-2");
+        when(executionRepository.findStaleAfterId(anyCollection(), any(), eq(""), any()))
+                .thenReturn(List.of(abandoned, renewed));
+        when(executionRepository.claimStale(eq("exec-1"), eq(ExecutionRecoveryService.NODE_ID), any(), any(),
+                anyCollection())).thenReturn(1);
+        when(executionRepository.claimStale(eq("exec-2"), any(), any(), any(), anyCollection())).thenReturn(0);
+
+        recoveryService.recover(false);
+
+        verify(runtimeService).resumeCase("case-1");
+        verify(runtimeService, never()).resumeCase("case-2");
+        assertEquals(1, recoveryService.getReport().getScanned());
+        assertEquals(1, recoveryService.getReport().getResumed());
+    }
+
+    @Test
+    void renewLeases_RenewsOnlyCasesRunningInThisProcess() {
+        registry.register("case-1", "exec-1", "def-1");
+        registry.register("case-2", null, "def-1");
+
+        recoveryService.renewLeases();
+
+        verify(executionRepository).renewLeases(eq(List.of("case-1")), eq(ExecutionRecoveryService.NODE_ID), any(),
+                anyCollection());
+        verifyNoMoreInteractions(executionRepository);
+    }
+
+    private static WorkflowExecutionEntity execution(String id, String caseId) {
+        return WorkflowExecutionEntity.builder()
+                .id(id)
+                .caseId(caseId)
+                .workflowDefinitionId("def-1")
+                .status(ExecutionStatus.RUNNING)
+                .build();
+    }
+}
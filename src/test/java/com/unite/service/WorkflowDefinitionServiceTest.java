@@ -2,16 +2,28 @@ package com.unite.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.JsonProperties;
+import com.unite.config.ReplicaProperties;
+import com.unite.datasource.ReadYourWrites;
 import com.unite.dto.WorkflowDefinitionRequest;
 import com.unite.dto.WorkflowDefinitionResponse;
+import com.unite.exception.DuplicateDefinitionException;
 import com.unite.exception.ResourceNotFoundException;
 import com.unite.model.WorkflowDefinitionEntity;
 import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowDefinitionTagRepository;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.definitions.DefinitionContentHash;
+import com.unite.service.definitions.DefinitionVersionIndex;
+import com.unite.service.scheduling.ScheduledStartService;
+import com.unite.service.search.WorkflowDefinitionSearchIndex;
+import com.unite.service.validation.InputSchemaValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
@@ -27,9 +39,33 @@ class WorkflowDefinitionServiceTest {
     @Mock
     private WorkflowDefinitionRepository repository;
 
+    @Mock
+    private WorkflowDefinitionTagRepository tagRepository;
+
+    @Mock
+    private WorkflowDefinitionSearchIndex searchIndex;
+
+    @Mock
+    private StepLatencyProfiler stepLatencyProfiler;
+
+    @Mock
+    private ScheduledStartService scheduledStartService;
+
+    @Mock
+    private DefinitionVersionIndex versionIndex;
+
+    @Mock
+    private InputSchemaValidator inputSchemaValidator;
+
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private JsonProperties jsonProperties;
+
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(new ReplicaProperties());
+
     @InjectMocks
     private WorkflowDefinitionService service;
 
@@ -81,7 +117,8 @@ class WorkflowDefinitionServiceTest {
     }
 
     @Test
-    void createWorkflowDefinition_DuplicateName() {
+    void createWorkflowDefinition_DuplicateName() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"steps\":[]}");
         when(repository.existsByNameAndVersion(anyString(), anyString())).thenReturn(true);
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -91,6 +128,81 @@ class WorkflowDefinitionServiceTest {
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void createWorkflowDefinition_IdenticalBodyIsRejectedWithExistingVersion() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"steps\":[]}");
+        when(repository.findFirstByNameAndContentHash("test-workflow", DefinitionContentHash.of("{\"steps\":[]}")))
+                .thenReturn(Optional.of(entity));
+
+        DuplicateDefinitionException e = assertThrows(DuplicateDefinitionException.class,
+                () -> service.createWorkflowDefinition(request));
+
+        assertEquals("test-id", e.getExistingId());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createWorkflowDefinition_AssignsNextRevision() throws Exception {
+        entity.setRevision(3);
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"steps\":[1]}");
+        when(repository.findTopByNameOrderByRevisionDesc("test-workflow")).thenReturn(Optional.of(entity));
+        when(repository.save(any(WorkflowDefinitionEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(objectMapper.readTree(anyString())).thenReturn(emptyJsonNode);
+
+        request.setVersion("2.0.0");
+
+        WorkflowDefinitionResponse response = service.createWorkflowDefinition(request);
+
+        assertEquals(4, response.getRevision());
+        assertEquals(DefinitionContentHash.of("{\"steps\":[1]}"), response.getContentHash());
+        verify(versionIndex).index(any(WorkflowDefinitionEntity.class));
+    }
+
+    @Test
+    void updateWorkflowDefinition_ChangedBodyUnderSameVersionIsRejected() throws Exception {
+        entity.setContentHash(DefinitionContentHash.of("{\"steps\":[]}"));
+        when(repository.findById("test-id")).thenReturn(Optional.of(entity));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"steps\":[1]}");
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateWorkflowDefinition("test-id", request));
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void updateWorkflowDefinition_ChangedBodyUnderNewVersionCreatesVersion() throws Exception {
+        entity.setContentHash(DefinitionContentHash.of("{\"steps\":[]}"));
+        entity.setRevision(1);
+        when(repository.findById("test-id")).thenReturn(Optional.of(entity));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"steps\":[1]}");
+        when(repository.findTopByNameOrderByRevisionDesc("test-workflow")).thenReturn(Optional.of(entity));
+        when(repository.save(any(WorkflowDefinitionEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(objectMapper.readTree(anyString())).thenReturn(emptyJsonNode);
+
+        request.setVersion("1.1.0");
+
+        WorkflowDefinitionResponse response = service.updateWorkflowDefinition("test-id", request);
+
+        assertEquals("1.1.0", response.getVersion());
+        assertEquals(2, response.getRevision());
+        assertEquals("1.0.0", entity.getVersion());
+    }
+
+    @Test
+    void updateWorkflowDefinition_MetadataOnlyOnVersionWithoutContentHash() throws Exception {
+        when(repository.findById("test-id")).thenReturn(Optional.of(entity));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"steps\":[]}");
+        when(repository.save(any(WorkflowDefinitionEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(objectMapper.readTree(anyString())).thenReturn(emptyJsonNode);
+
+        request.setDescription("Updated description");
+
+        WorkflowDefinitionResponse response = service.updateWorkflowDefinition("test-id", request);
+
+        assertEquals("Updated description", response.getDescription());
+        assertEquals(DefinitionContentHash.of("{\"steps\":[]}"), entity.getContentHash());
+    }
+
     @Test
     void getWorkflowDefinition_Success() throws Exception {
         when(repository.findById(anyString())).thenReturn(Optional.of(entity));
@@ -103,6 +215,17 @@ class WorkflowDefinitionServiceTest {
         verify(repository, times(1)).findById("test-id");
     }
 
+    @Test
+    void getWorkflowDefinition_RawPassthroughSkipsParsing() throws Exception {
+        when(jsonProperties.isRawPassthrough()).thenReturn(true);
+        when(repository.findById(anyString())).thenReturn(Optional.of(entity));
+
+        WorkflowDefinitionResponse response = service.getWorkflowDefinition("test-id");
+
+        assertEquals("{\"steps\":[]}", new ObjectMapper().writeValueAsString(response.getDefinitionJson()));
+        verify(objectMapper, never()).readTree(anyString());
+    }
+
     @Test
     void getWorkflowDefinition_NotFound() {
         when(repository.findById(anyString())).thenReturn(Optional.empty());
@@ -131,6 +254,8 @@ class WorkflowDefinitionServiceTest {
         service.deleteWorkflowDefinition("test-id");
 
         verify(repository, times(1)).deleteById("test-id");
+        verify(tagRepository, times(1)).deleteByDefinitionId("test-id");
+        verify(searchIndex, times(1)).remove("test-id");
     }
 
     @Test
@@ -0,0 +1,94 @@
+package com.unite.service.bulkhead;
+
+import com.unite.config.BulkheadProperties;
+import com.unite.config.BulkheadProperties.KeyType;
+import com.unite.config.BulkheadProperties.Limits;
+import com.unite.config.BulkheadProperties.OverflowPolicy;
+import com.unite.exception.ConcurrencyLimitExceededException;
+import com.unite.model.WorkflowDefinitionEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadRegistryTest {
+
+    private BulkheadProperties properties;
+    private BulkheadRegistry registry;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BulkheadProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new BulkheadRegistry(properties, meterRegistry);
+    }
+
+    @Test
+    void key_ResolvesTenantDefinitionOrConfiguredTag() {
+        WorkflowDefinitionEntity definition = WorkflowDefinitionEntity.builder()
+                .name("order-processing")
+                .tags("Orders, payments")
+                .build();
+        properties.getBulkheads().put("payments", new Limits());
+
+        assertEquals("order-processing", registry.key("acme", definition));
+
+        properties.setKeyBy(KeyType.TENANT);
+        assertEquals("acme", registry.key("acme", definition));
+        assertEquals(BulkheadRegistry.DEFAULT_KEY, registry.key(null, definition));
+
+        properties.setKeyBy(KeyType.TAG);
+        assertEquals("payments", registry.key(null, definition));
+    }
+
+    @Test
+    void execute_RejectsOverflowWhenPolicyIsReject() throws Exception {
+        Limits limits = new Limits();
+        limits.setMaxConcurrent(1);
+        limits.setOverflow(OverflowPolicy.REJECT);
+        properties.getBulkheads().put("slow", limits);
+        WorkflowDefinitionEntity slow = WorkflowDefinitionEntity.builder().name("slow").build();
+        WorkflowDefinitionEntity other = WorkflowDefinitionEntity.builder().name("other").build();
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> registry.execute(null, slow, () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            entered.await();
+
+            assertThrows(ConcurrencyLimitExceededException.class, () -> registry.execute(null, slow, () -> "late"));
+            assertEquals("isolated", registry.execute(null, other, () -> "isolated"));
+            assertEquals(1.0, meterRegistry.get("unite.bulkhead.saturation").tag("bulkhead", "slow").gauge().value());
+            release.countDown();
+        }
+        assertEquals(1.0, meterRegistry.get("unite.bulkhead.rejected").tag("bulkhead", "slow").counter().count());
+    }
+
+    @Test
+    void get_SharesDefaultBulkheadBeyondMaxBulkheads() {
+        properties.setMaxBulkheads(2);
+
+        registry.get("a");
+        registry.get("b");
+
+        assertEquals(BulkheadRegistry.DEFAULT_KEY, registry.get("c").getName());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.unite.service.concurrency;
+
+import com.unite.config.ConcurrencyLimitProperties;
+import com.unite.service.concurrency.AdaptiveConcurrencyLimiter.Permit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ConcurrencyLimitProperties properties;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(100);
+        limiter = new AdaptiveConcurrencyLimiter("test", properties, clock::get);
+    }
+
+    @Test
+    void tryAcquire_RejectsOnceLimitIsInFlight() {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        assertTrue(limiter.tryAcquire().isEmpty());
+        permits.getFirst().ignore();
+        permits.getFirst().ignore();
+        assertEquals(9, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    @Test
+    void limit_GrowsWhileLatencyIsSteadyAndShrinksWhenItRises() {
+        for (int i = 0; i < 20; i++) {
+            saturate(1_000_000);
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 10, "limit should grow at steady latency, was " + grown);
+
+        for (int i = 0; i < 20; i++) {
+            saturate(10_000_000);
+        }
+        assertTrue(limiter.getLimit() < grown, "limit should shrink when latency rises");
+    }
+
+    @Test
+    void adjust_LeavesExcludedTimeOutOfTheSample() {
+        for (int i = 0; i < 20; i++) {
+            saturate(1_000_000);
+        }
+        int grown = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            saturate(10_000_000, -9_000_000);
+        }
+        assertTrue(limiter.getLimit() >= grown, "time excluded from the sample should not shrink the limit");
+    }
+
+    @Test
+    void limit_DoesNotGrowWhenMostlyIdle() {
+        for (int i = 0; i < 50; i++) {
+            Permit permit = limiter.tryAcquire().orElseThrow();
+            clock.addAndGet(1_000_000);
+            permit.success();
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void dropped_BacksOffMultiplicatively() {
+        limiter.tryAcquire().orElseThrow().dropped();
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void acquire_TimesOutWhenNoPermitIsReleased() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire().orElseThrow();
+        }
+
+        assertTrue(limiter.acquire(Duration.ofMillis(20)).isEmpty());
+    }
+
+    private void saturate(long latencyNanos) {
+        saturate(latencyNanos, 0);
+    }
+
+    private void saturate(long latencyNanos, long adjustmentNanos) {
+        List<Permit> permits = new ArrayList<>();
+        int limit = limiter.getLimit();
+        for (int i = 0; i < limit; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+        clock.addAndGet(latencyNanos);
+        permits.forEach(permit -> {
+            permit.adjust(adjustmentNanos);
+            permit.success();
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.unite.service.definitions;
+
+import com.unite.config.DefinitionIndexProperties;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.repository.WorkflowDefinitionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DefinitionVersionIndexTest {
+
+    private final WorkflowDefinitionRepository repository = mock(WorkflowDefinitionRepository.class);
+    private final DefinitionIndexProperties properties = new DefinitionIndexProperties();
+    private final DefinitionVersionIndex index = new DefinitionVersionIndex(repository, properties);
+
+    @Test
+    void resolve_LoadsUnknownNameFromRepositoryAndCachesResult() {
+        when(repository.findByName("orders")).thenReturn(List.of(version("def-2", "2.0.0", 2, true)));
+
+        assertEquals("def-2", index.resolve(null, "orders", null));
+        assertEquals("def-2", index.resolve(null, "orders", "2.0.0"));
+
+        verify(repository, times(1)).findByName("orders");
+        verify(repository, never()).findByNameAndVersion(any(), any());
+        verify(repository, never()).findTopByNameAndActiveTrueOrderByRevisionDesc(any());
+    }
+
+    @Test
+    void resolve_PicksUpVersionsChangedElsewhereOnceExpired() {
+        properties.setTtl(Duration.ZERO);
+        index.index(version("def-1", "1.0.0", 1, true));
+        index.index(version("def-2", "2.0.0", 2, true));
+        // def-2 deactivated and def-3 created on another node
+        when(repository.findByName("orders")).thenReturn(List.of(
+                version("def-1", "1.0.0", 1, true),
+                version("def-2", "2.0.0", 2, false),
+                version("def-3", "3.0.0", 3, true)));
+
+        assertEquals("def-3", index.resolve(null, "orders", null));
+
+        when(repository.findByName("orders")).thenReturn(List.of(
+                version("def-1", "1.0.0", 1, true),
+                version("def-2", "2.0.0", 2, false),
+                version("def-3", "3.0.0", 3, false)));
+
+        assertEquals("def-1", index.resolve(null, "orders", null));
+    }
+
+    private static WorkflowDefinitionEntity version(String id, String version, int revision, boolean active) {
+        return WorkflowDefinitionEntity.builder()
+                .id(id)
+                .name("orders")
+                .version(version)
+                .revision(revision)
+                .active(active)
+                .build();
+    }
+}
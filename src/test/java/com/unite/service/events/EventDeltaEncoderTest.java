@@ -0,0 +1,97 @@
+package com.unite.service.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.EventDeltaProperties;
+import com.unite.dto.JsonPatchOperation;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.dto.WorkflowEventMessage.EventType;
+import com.unite.dto.WorkflowEventMessage.PayloadEncoding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDeltaEncoderTest {
+
+    private static final String LARGE = "x".repeat(500);
+
+    private EventDeltaProperties properties;
+    private EventDeltaEncoder encoder;
+    private List<WorkflowEventMessage> sent;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EventDeltaProperties();
+        properties.setEnabled(true);
+        properties.setSnapshotInterval(2);
+        encoder = new EventDeltaEncoder(new ObjectMapper(), properties);
+        sent = new ArrayList<>();
+    }
+
+    @Test
+    void publish_SendsSnapshotThenPatchesWithSequenceNumbers() {
+        publish(EventType.STEP_COMPLETED, Map.of("order", Map.of("status", "NEW", "notes", LARGE)));
+        publish(EventType.STEP_COMPLETED, Map.of("order", Map.of("status", "PAID", "notes", LARGE), "paid", true));
+
+        assertEquals(PayloadEncoding.SNAPSHOT, sent.get(0).getEncoding());
+        assertEquals(1L, sent.get(0).getSequence());
+
+        WorkflowEventMessage delta = sent.get(1);
+        assertEquals(PayloadEncoding.DELTA, delta.getEncoding());
+        assertEquals(2L, delta.getSequence());
+        assertNull(delta.getData());
+        assertEquals(List.of("/order/status", "/paid"),
+                delta.getPatch().stream().map(JsonPatchOperation::getPath).sorted().toList());
+    }
+
+    @Test
+    void publish_SendsPeriodicSnapshots() {
+        for (int i = 0; i < 4; i++) {
+            publish(EventType.STEP_COMPLETED, Map.of("counter", i, "notes", LARGE));
+        }
+
+        assertEquals(List.of(PayloadEncoding.SNAPSHOT, PayloadEncoding.DELTA, PayloadEncoding.DELTA,
+                PayloadEncoding.SNAPSHOT), sent.stream().map(WorkflowEventMessage::getEncoding).toList());
+    }
+
+    @Test
+    void snapshot_ReturnsLatestStateUntilExecutionFinishes() {
+        publish(EventType.STEP_COMPLETED, Map.of("counter", 1, "notes", LARGE));
+        publish(EventType.STEP_COMPLETED, Map.of("counter", 2, "notes", LARGE));
+
+        WorkflowEventMessage snapshot = encoder.snapshot("exec-1").orElseThrow();
+        assertEquals(2L, snapshot.getSequence());
+        assertEquals(2, snapshot.getData().get("counter"));
+
+        publish(EventType.WORKFLOW_COMPLETED, null);
+        assertTrue(encoder.snapshot("exec-1").isEmpty());
+    }
+
+    @Test
+    void publish_DropsIdleExecutionsWhenTrackingLimitIsReached() {
+        properties.setMaxTrackedExecutions(1);
+        properties.setIdleTimeout(Duration.ZERO);
+        publish("exec-1", EventType.STEP_COMPLETED, Map.of("counter", 1));
+        publish("exec-2", EventType.STEP_COMPLETED, Map.of("counter", 1));
+
+        assertTrue(encoder.snapshot("exec-1").isEmpty());
+        assertEquals(1L, encoder.snapshot("exec-2").orElseThrow().getSequence());
+    }
+
+    private void publish(EventType eventType, Map<String, Object> data) {
+        publish("exec-1", eventType, data);
+    }
+
+    private void publish(String executionId, EventType eventType, Map<String, Object> data) {
+        encoder.publish(WorkflowEventMessage.builder()
+                .executionId(executionId)
+                .eventType(eventType)
+                .data(data)
+                .build(), sent::add);
+    }
+}
@@ -0,0 +1,35 @@
+package com.unite.service.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void generate_IsVersion7AndStrictlyIncreasing() {
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            assertEquals(7, next.version());
+            assertEquals(2, next.variant());
+            assertTrue(next.toString().compareTo(previous.toString()) > 0, next + " <= " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void timestamp_RecoversGenerationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        Instant timestamp = UuidV7.timestamp(id);
+
+        assertTrue(timestamp.toEpochMilli() >= before);
+        assertTrue(timestamp.toEpochMilli() <= after + 1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.unite.service.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportRowWriterTest {
+
+    private static final List<ExportColumn> COLUMNS = List.of(
+            new ExportColumn("id", "id", false),
+            new ExportColumn("error_message", "errorMessage", false),
+            new ExportColumn("output_variables", "outputVariables", true));
+
+    @Test
+    void csv_QuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws Exception {
+        StringWriter out = new StringWriter();
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.CSV, COLUMNS, out);
+
+        writer.header();
+        writer.row(new String[]{"e-1", "said \"no\", twice\nthen failed", "{\"a\":1}"});
+        writer.row(new String[]{"e-2", null, null});
+
+        assertEquals("id,errorMessage,outputVariables\r\n"
+                + "e-1,\"said \"\"no\"\", twice\nthen failed\",\"{\"\"a\"\":1}\"\r\n"
+                + "e-2,,\r\n", out.toString());
+    }
+
+    @Test
+    void ndjson_CopiesJsonColumnsVerbatimAndEscapesText() throws Exception {
+        StringWriter out = new StringWriter();
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.NDJSON, COLUMNS, out);
+
+        writer.header();
+        writer.row(new String[]{"e-1", "tab\there \"quoted\"\u0001", "{\"a\":[1,2]}"});
+        writer.row(new String[]{"e-2", null, ""});
+
+        assertEquals("{\"id\":\"e-1\",\"errorMessage\":\"tab\\there \\\"quoted\\\"\\u0001\",\"outputVariables\":{\"a\":[1,2]}}\n"
+                + "{\"id\":\"e-2\",\"errorMessage\":null,\"outputVariables\":null}\n", out.toString());
+    }
+}
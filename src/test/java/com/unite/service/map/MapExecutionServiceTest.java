@@ -0,0 +1,129 @@
+package com.unite.service.map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.MapExecutionProperties;
+import com.unite.dto.MapExecutionSummary;
+import com.unite.dto.MapItemResult;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.dto.WorkflowExecutionResponse;
+import com.unite.exception.WorkflowExecutionException;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.WorkflowExecutionService;
+import com.unite.service.validation.InputSchemaValidator;
+import com.unite.service.workflows.ExecutionOutcomes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MapExecutionServiceTest {
+
+    @Mock
+    private WorkflowExecutionService executionService;
+
+    @Mock
+    private WorkflowDefinitionRepository definitionRepository;
+
+    @Mock
+    private InputSchemaValidator inputSchemaValidator;
+
+    private ExecutionOutcomes executionOutcomes;
+    private MapExecutionService service;
+
+    @BeforeEach
+    void setUp() {
+        executionOutcomes = new ExecutionOutcomes(mock(WorkflowExecutionRepository.class),
+                mock(PlatformTransactionManager.class), new ObjectMapper(), Runnable::run);
+        executionOutcomes.init();
+        service = new MapExecutionService(executionService, definitionRepository, inputSchemaValidator,
+                new MapExecutionProperties(), new ObjectMapper(), executionOutcomes);
+    }
+
+    @Test
+    void run_BoundsParallelismAndAggregatesInInputOrder() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(executionService.executeWorkflow(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return WorkflowExecutionResponse.builder().id("exec").status(ExecutionStatus.COMPLETED).build();
+        });
+        List<Map<String, Object>> inputs = IntStream.range(0, 50)
+                .mapToObj(i -> Map.<String, Object>of("item", i))
+                .toList();
+        List<MapItemResult> streamed = new ArrayList<>();
+
+        MapExecutionSummary summary = service.run("def-1", inputs.iterator(), 4, false, true, streamed::add);
+
+        assertTrue(maxInFlight.get() <= 4);
+        assertEquals(50, summary.getSubmitted());
+        assertEquals(50, summary.getSucceeded());
+        assertEquals(50, streamed.size());
+        assertEquals(IntStream.range(0, 50).boxed().toList(),
+                summary.getResults().stream().map(result -> (int) result.getIndex()).toList());
+    }
+
+    @Test
+    void run_StopsSubmittingAfterFirstFailureWhenFailFast() {
+        when(executionService.executeWorkflow(any()))
+                .thenThrow(new WorkflowExecutionException("boom"));
+        List<Map<String, Object>> inputs = IntStream.range(0, 1000)
+                .mapToObj(i -> Map.<String, Object>of("item", i))
+                .toList();
+
+        MapExecutionSummary summary = service.run("def-1", inputs.iterator(), 1, true, false, null);
+
+        assertTrue(summary.isAborted());
+        assertEquals(1, summary.getSubmitted());
+        assertEquals("boom", summary.getFirstFailure().getErrorMessage());
+        assertNull(summary.getResults());
+    }
+
+    @Test
+    void run_WaitsForRunningExecutionsToFinish() {
+        when(executionService.executeWorkflow(any())).thenAnswer(invocation -> {
+            WorkflowExecutionRequest request = invocation.getArgument(0);
+            Thread.ofVirtual().start(() -> executionOutcomes.completed(request.getCaseId(), Map.of("total", 3)));
+            return WorkflowExecutionResponse.builder().id("exec").status(ExecutionStatus.RUNNING).build();
+        });
+
+        MapExecutionSummary summary = service.run("def-1", List.of(Map.<String, Object>of("item", 1)).iterator(),
+                1, false, true, null);
+
+        MapItemResult result = summary.getResults().get(0);
+        assertEquals(ExecutionStatus.COMPLETED, result.getStatus());
+        assertEquals(3, result.getOutputVariables().get("total").asInt());
+        assertEquals(1, summary.getSucceeded());
+        assertEquals(0, summary.getUnfinished());
+    }
+
+    @Test
+    void readInputs_AcceptsJsonArrayAndNdjson() throws Exception {
+        String array = "[{\"a\": 1}, {\"a\": 2}]";
+        String ndjson = "{\"a\": 1}\n{\"a\": 2}\n";
+
+        for (String body : List.of(array, ndjson)) {
+            List<Map<String, Object>> items = service.readInputs(
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))).readAll();
+            assertEquals(List.of(Map.of("a", 1), Map.of("a", 2)), items);
+        }
+    }
+}
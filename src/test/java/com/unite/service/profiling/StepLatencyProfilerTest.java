@@ -0,0 +1,76 @@
+package com.unite.service.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.ProfilingProperties;
+import com.unite.dto.StepLatencyStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StepLatencyProfilerTest {
+
+    private static final String DEFINITION = """
+            {"steps": [
+              {"id": "validate", "next": "check-inventory"},
+              {"id": "check-inventory", "next": ["reserve", "backorder"]},
+              {"id": "reserve", "next": "ship"},
+              {"id": "backorder", "next": "ship"},
+              {"id": "ship", "next": "end"}
+            ]}
+            """;
+
+    private StepLatencyProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new StepLatencyProfiler(new ProfilingProperties());
+    }
+
+    @Test
+    void snapshot_ReportsPercentilesPerStepHottestFirst() {
+        for (int i = 0; i < 100; i++) {
+            record("case-" + i, "validate", 1);
+            record("case-" + i, "ship", 10 + i % 5);
+        }
+
+        List<StepLatencyStats> stats = profiler.snapshot("def-1");
+
+        assertEquals(2, stats.size());
+        assertEquals("ship", stats.get(0).getStep());
+        assertEquals(100, stats.get(0).getCount());
+        assertTrue(stats.get(0).getP99Micros() >= TimeUnit.MILLISECONDS.toMicros(14) * 0.99);
+        assertEquals("validate", stats.get(1).getStep());
+        assertEquals(100, profiler.snapshot("def-1").get(1).getCount());
+    }
+
+    @Test
+    void stepFinished_WithoutStartIsIgnored() {
+        profiler.stepFinished("case-1", "def-1", "validate", System.nanoTime(), false);
+
+        assertTrue(profiler.snapshot("def-1").isEmpty());
+    }
+
+    @Test
+    void criticalPath_FollowsSlowestBranch() throws Exception {
+        record("case-1", "validate", 1);
+        record("case-1", "check-inventory", 2);
+        record("case-1", "reserve", 3);
+        record("case-1", "backorder", 20);
+        record("case-1", "ship", 4);
+
+        CriticalPath path = CriticalPath.of(new ObjectMapper().readTree(DEFINITION), profiler.snapshot("def-1"));
+
+        assertEquals(List.of("validate", "check-inventory", "backorder", "ship"), path.steps());
+        assertTrue(path.durationMicros() > TimeUnit.MILLISECONDS.toMicros(27) * 0.99);
+    }
+
+    private void record(String caseId, String step, long millis) {
+        long start = System.nanoTime();
+        profiler.stepStarted(caseId, step, start);
+        profiler.stepFinished(caseId, "def-1", step, start + TimeUnit.MILLISECONDS.toNanos(millis), false);
+    }
+}
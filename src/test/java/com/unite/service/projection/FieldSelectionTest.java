@@ -0,0 +1,32 @@
+package com.unite.service.projection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    @Test
+    void executions_KeepsRequestOrderAndMarksJsonFields() {
+        FieldSelection selection = FieldSelection.executions(" status, id ,outputVariables,status");
+
+        assertEquals(List.of("status", "id", "outputVariables"), List.copyOf(selection.fields()));
+        assertEquals(Set.of("outputVariables"), selection.jsonFields());
+    }
+
+    @Test
+    void definitions_WithoutJsonFieldsSkipsParsing() {
+        FieldSelection selection = FieldSelection.definitions("id,name,version");
+
+        assertTrue(selection.jsonFields().isEmpty());
+    }
+
+    @Test
+    void parse_RejectsUnknownAndEmptySelections() {
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.executions("id,definitionJson"));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.definitions(" , "));
+    }
+}
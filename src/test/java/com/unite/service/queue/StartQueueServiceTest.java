@@ -0,0 +1,116 @@
+package com.unite.service.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.StartQueueProperties;
+import com.unite.model.WorkflowStartQueueEntity;
+import com.unite.model.WorkflowStartQueueEntity.QueueStatus;
+import com.unite.repository.WorkflowDefinitionRepository;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.repository.WorkflowStartQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartQueueServiceTest {
+
+    @Mock
+    private WorkflowStartQueueRepository repository;
+
+    @Mock
+    private WorkflowDefinitionRepository definitionRepository;
+
+    @Mock
+    private WorkflowExecutionRepository executionRepository;
+
+    private StartQueueProperties properties;
+    private StartQueueService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StartQueueProperties();
+        properties.setMaxAttempts(2);
+        service = new StartQueueService(repository, definitionRepository, executionRepository, properties,
+                new ObjectMapper());
+    }
+
+    @Test
+    void claimBatch_HidesEntriesForVisibilityTimeout() {
+        WorkflowStartQueueEntity entry = entry(0);
+        when(repository.findVisibleForUpdate(eq(QueueStatus.READY), any(), any())).thenReturn(List.of(entry));
+        when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<WorkflowStartQueueEntity> claimed = service.claimBatch();
+
+        assertEquals(1, claimed.size());
+        assertEquals(1, entry.getAttempts());
+        assertNotNull(entry.getClaimToken());
+        assertTrue(entry.getVisibleAt().isAfter(LocalDateTime.now().plus(properties.getVisibilityTimeout()).minusSeconds(5)));
+    }
+
+    @Test
+    void fail_RequeuesUntilMaxAttemptsThenMarksFailed() {
+        WorkflowStartQueueEntity entry = entry(1);
+        entry.setClaimToken("token");
+        when(repository.findById("q-1")).thenReturn(Optional.of(entry));
+
+        service.fail(entry, new IllegalStateException("boom"));
+
+        assertEquals(QueueStatus.READY, entry.getStatus());
+        assertTrue(entry.getVisibleAt().isAfter(LocalDateTime.now()));
+
+        entry.setAttempts(2);
+        entry.setClaimToken("token-2");
+        service.fail(entry, new IllegalStateException("boom again"));
+
+        assertEquals(QueueStatus.FAILED, entry.getStatus());
+        assertEquals("boom again", entry.getLastError());
+        verify(repository, times(2)).save(entry);
+    }
+
+    @Test
+    void fail_IgnoresEntryReclaimedByAnotherWorker() {
+        WorkflowStartQueueEntity stale = entry(1);
+        stale.setClaimToken("old");
+        WorkflowStartQueueEntity current = entry(2);
+        current.setClaimToken("new");
+        when(repository.findById("q-1")).thenReturn(Optional.of(current));
+
+        service.fail(stale, new IllegalStateException("late failure"));
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void extendClaims_HidesRunningEntriesForAnotherVisibilityTimeout() {
+        service.extendClaims(List.of("token"));
+
+        verify(repository).extendClaims(eq(List.of("token")), argThat(visibleAt ->
+                visibleAt.isAfter(LocalDateTime.now().plus(properties.getVisibilityTimeout()).minusSeconds(5))));
+    }
+
+    private static WorkflowStartQueueEntity entry(int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return WorkflowStartQueueEntity.builder()
+                .id("q-1")
+                .workflowDefinitionId("def-1")
+                .caseId("case-1")
+                .status(QueueStatus.READY)
+                .enqueuedAt(now)
+                .visibleAt(now)
+                .attempts(attempts)
+                .build();
+    }
+}
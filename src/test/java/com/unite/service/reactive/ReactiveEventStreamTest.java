@@ -0,0 +1,77 @@
+package com.unite.service.reactive;
+
+import com.unite.config.ReactiveProperties;
+import com.unite.dto.WorkflowEventMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveEventStreamTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void deliversOnlyEventsOfTheRequestedExecution() {
+        ReactiveEventStream stream = new ReactiveEventStream(new ReactiveProperties(), meterRegistry);
+        Flux<WorkflowEventMessage> events = stream.events("exec-1", null).take(2).cache();
+        events.subscribe();
+
+        stream.publish(event("exec-1", "1"));
+        stream.publish(event("exec-2", "2"));
+        stream.publish(event("exec-1", "3"));
+
+        List<String> ids = events.map(WorkflowEventMessage::getEventId).collectList().block(Duration.ofSeconds(5));
+        assertEquals(List.of("1", "3"), ids);
+    }
+
+    @Test
+    void slowSubscriberLosesOldestEvents() {
+        ReactiveProperties properties = new ReactiveProperties();
+        properties.setEventBuffer(2);
+        ReactiveEventStream stream = new ReactiveEventStream(properties, meterRegistry);
+        Flux<WorkflowEventMessage> events = stream.events(null, null);
+        BufferedSubscriber subscriber = new BufferedSubscriber();
+        events.subscribe(subscriber);
+
+        for (int i = 0; i < 5; i++) {
+            stream.publish(event("exec-1", String.valueOf(i)));
+        }
+        subscriber.request(2);
+
+        assertEquals(List.of("3", "4"), subscriber.ids);
+        assertEquals(3, meterRegistry.counter("unite.reactive.events.dropped").count());
+        assertTrue(stream.subscriberCount() > 0);
+    }
+
+    private static WorkflowEventMessage event(String executionId, String eventId) {
+        return WorkflowEventMessage.builder()
+                .eventId(eventId)
+                .executionId(executionId)
+                .eventType(WorkflowEventMessage.EventType.STEP_COMPLETED)
+                .build();
+    }
+
+    private static final class BufferedSubscriber extends BaseSubscriber<WorkflowEventMessage> {
+
+        private final List<String> ids = new ArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // Requests nothing until the test asks for it
+        }
+
+        @Override
+        protected void hookOnNext(WorkflowEventMessage value) {
+            ids.add(value.getEventId());
+        }
+    }
+}
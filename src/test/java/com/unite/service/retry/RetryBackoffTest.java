@@ -0,0 +1,66 @@
+package com.unite.service.retry;
+
+import com.unite.config.RetryProperties;
+import com.unite.config.RetryProperties.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBackoffTest {
+
+    @Test
+    void delay_GrowsExponentiallyWithinJitterWindow() {
+        Policy policy = new Policy();
+        policy.setInitialBackoff(Duration.ofSeconds(1));
+        policy.setMultiplier(2.0);
+        policy.setMaxBackoff(Duration.ofMinutes(1));
+        Random random = new Random(42);
+
+        for (int attempt = 1; attempt <= 4; attempt++) {
+            long cap = 1000L << (attempt - 1);
+            for (int i = 0; i < 100; i++) {
+                long delay = RetryBackoff.delay(policy, attempt, random).toMillis();
+                assertTrue(delay >= cap / 2 && delay <= cap, "attempt " + attempt + ": " + delay);
+            }
+        }
+    }
+
+    @Test
+    void delay_IsCappedAtMaxBackoff() {
+        Policy policy = new Policy();
+        policy.setMaxBackoff(Duration.ofSeconds(30));
+
+        long delay = RetryBackoff.delay(policy, 50, new Random(1)).toMillis();
+
+        assertTrue(delay >= 15_000 && delay <= 30_000);
+    }
+
+    @Test
+    void delay_SpreadsSimultaneousFailures() {
+        Policy policy = new Policy();
+        Random random = new Random(7);
+
+        long distinct = IntStream.range(0, 100)
+                .mapToLong(i -> RetryBackoff.delay(policy, 1, random).toMillis())
+                .distinct()
+                .count();
+
+        assertTrue(distinct > 50);
+    }
+
+    @Test
+    void policyFor_FallsBackToDefaults() {
+        RetryProperties properties = new RetryProperties();
+        Policy nightly = new Policy();
+        nightly.setMaxAttempts(1);
+        properties.getPolicies().put("nightly", nightly);
+
+        assertSame(nightly, properties.policyFor("nightly"));
+        assertSame(properties.getDefaults(), properties.policyFor("orders"));
+        assertSame(properties.getDefaults(), properties.policyFor(null));
+    }
+}
@@ -0,0 +1,57 @@
+package com.unite.service.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void poll_ReturnsTimersInDeadlineOrderAcrossLevels() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, now);
+        wheel.schedule("overflow", now + 300);
+        wheel.schedule("near", now + 25);
+        wheel.schedule("second-level", now + 90);
+
+        List<String> fired = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (fired.size() < 3 && System.currentTimeMillis() < deadline) {
+            fired.addAll(wheel.poll(100));
+        }
+
+        assertEquals(List.of("near", "second-level", "overflow"), fired);
+        assertEquals(0, wheel.size());
+        assertTrue(System.currentTimeMillis() >= now + 290);
+    }
+
+    @Test
+    void schedule_ReturnsNullWhenDeadlineHasPassed() {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, now);
+
+        assertNull(wheel.schedule("late", now - 1));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancel_RemovesTimerOnce() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, now);
+        HierarchicalTimingWheel.Timeout cancelled = wheel.schedule("cancelled", now + 30);
+        wheel.schedule("kept", now + 40);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+
+        List<String> fired = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (fired.isEmpty() && System.currentTimeMillis() < deadline) {
+            fired.addAll(wheel.poll(100));
+        }
+        assertEquals(List.of("kept"), fired);
+    }
+}
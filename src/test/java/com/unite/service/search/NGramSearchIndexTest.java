@@ -0,0 +1,98 @@
+package com.unite.service.search;
+
+import com.unite.config.SearchProperties;
+import com.unite.dto.WorkflowDefinitionSearchCriteria;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.repository.WorkflowDefinitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class NGramSearchIndexTest {
+
+    @Mock
+    private WorkflowDefinitionRepository repository;
+
+    private NGramSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramSearchIndex(repository, new SearchProperties());
+        index.index(definition("1", "order-processing", "Handles incoming orders", "1.0.0", true, "order,payment"));
+        index.index(definition("2", "invoice-generation", "Creates invoices for processed orders", "1.0.0", true, "billing"));
+        index.index(definition("3", "order-refund", "Refund flow", "2.0.0", false, "order"));
+    }
+
+    @Test
+    void search_RanksNameMatchesAboveDescriptionMatches() {
+        List<SearchHit> hits = index.search(WorkflowDefinitionSearchCriteria.builder().query("order").build());
+
+        assertEquals(3, hits.size());
+        assertEquals("2", hits.get(2).definitionId());
+        assertTrue(hits.get(0).score() > hits.get(2).score());
+    }
+
+    @Test
+    void search_ToleratesTypos() {
+        List<SearchHit> hits = index.search(WorkflowDefinitionSearchCriteria.builder().query("invoise").build());
+
+        assertFalse(hits.isEmpty());
+        assertEquals("2", hits.get(0).definitionId());
+    }
+
+    @Test
+    void search_AppliesThresholdToUnweightedSimilarityLikePgTrgm() {
+        SearchProperties properties = new SearchProperties();
+        properties.setSimilarityThreshold(0.6);
+        index = new NGramSearchIndex(repository, properties);
+        index.index(definition("1", "order-processing", "Handles incoming orders", "1.0.0", true, "order"));
+
+        List<SearchHit> hits = index.search(WorkflowDefinitionSearchCriteria.builder().query("incoming").build());
+
+        assertEquals(List.of("1"), hits.stream().map(SearchHit::definitionId).toList());
+        assertEquals(0.5, hits.get(0).score(), 1e-9);
+    }
+
+    @Test
+    void search_AppliesTagActiveAndVersionFilters() {
+        List<SearchHit> hits = index.search(WorkflowDefinitionSearchCriteria.builder()
+                .query("order")
+                .tag("ORDER")
+                .active(true)
+                .build());
+
+        assertEquals(List.of("1"), hits.stream().map(SearchHit::definitionId).toList());
+
+        hits = index.search(WorkflowDefinitionSearchCriteria.builder().version("2.0.0").build());
+        assertEquals(List.of("3"), hits.stream().map(SearchHit::definitionId).toList());
+    }
+
+    @Test
+    void remove_DropsDefinitionFromResults() {
+        index.remove("1");
+
+        List<SearchHit> hits = index.search(WorkflowDefinitionSearchCriteria.builder().query("processing").build());
+
+        assertTrue(hits.stream().noneMatch(hit -> hit.definitionId().equals("1")));
+    }
+
+    private WorkflowDefinitionEntity definition(String id, String name, String description, String version,
+                                                boolean active, String tags) {
+        return WorkflowDefinitionEntity.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .version(version)
+                .definitionJson("{}")
+                .active(active)
+                .tags(tags)
+                .build();
+    }
+}
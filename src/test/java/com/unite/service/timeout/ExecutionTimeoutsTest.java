@@ -0,0 +1,120 @@
+package com.unite.service.timeout;
+
+import com.unite.config.TimeoutProperties;
+import com.unite.exception.ExecutionCancelledException;
+import com.unite.service.ActiveExecutionRegistry;
+import com.unite.service.WorkflowEventPublisher;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.retry.ExecutionFailed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExecutionTimeoutsTest {
+
+    private final TimeoutProperties properties = new TimeoutProperties();
+    private final ActiveExecutionRegistry registry = new ActiveExecutionRegistry();
+    private final WorkflowEventPublisher eventPublisher = mock(WorkflowEventPublisher.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StepLatencyProfiler stepLatencyProfiler = mock(StepLatencyProfiler.class);
+    private ExecutionTimeouts timeouts;
+
+    @AfterEach
+    void tearDown() {
+        if (timeouts != null) {
+            timeouts.stop();
+        }
+    }
+
+    @Test
+    void resolve_PrefersRequestThenDefinitionThenDefault() {
+        properties.setDefaultTimeout(Duration.ofMinutes(5));
+        properties.setMaxTimeout(Duration.ofHours(1));
+        ExecutionTimeouts timeouts = newTimeouts();
+
+        assertEquals(Duration.ofSeconds(30), timeouts.resolve(Duration.ofSeconds(30), 60_000L));
+        assertEquals(Duration.ofMinutes(1), timeouts.resolve(null, 60_000L));
+        assertEquals(Duration.ofMinutes(5), timeouts.resolve(null, null));
+        assertEquals(Duration.ofHours(1), timeouts.resolve(Duration.ofDays(2), null));
+    }
+
+    @Test
+    void expiredDeadline_InterruptsEngineAndReportsFailure() throws Exception {
+        properties.setTick(Duration.ofMillis(10));
+        timeouts = newTimeouts();
+        timeouts.init();
+        CompletableFuture<Boolean> interruptCleared = new CompletableFuture<>();
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+
+        Thread runner = Thread.ofPlatform().start(() -> {
+            try {
+                registry.runEngine("case-1", () -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return null;
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                failure.complete(e);
+            }
+            interruptCleared.complete(!Thread.currentThread().isInterrupted());
+        });
+        while (runner.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        timeouts.arm("case-1", Duration.ofMillis(50), LocalDateTime.now().plus(Duration.ofMillis(50)));
+
+        assertInstanceOf(ExecutionCancelledException.class, failure.get(5, TimeUnit.SECONDS));
+        assertTrue(interruptCleared.get(5, TimeUnit.SECONDS));
+        verify(applicationEventPublisher).publishEvent(new ExecutionFailed("case-1", "Timed out after PT0.05S"));
+        verify(eventPublisher, timeout(1000)).publishEvent(any());
+        assertEquals(1, meterRegistry.counter("unite.timeouts.expired").count());
+        verify(stepLatencyProfiler, timeout(1000)).caseFinished("case-1");
+    }
+
+    @Test
+    void expiredDeadline_RefusesParkedCaseWhenRunAgain() {
+        properties.setTick(Duration.ofMillis(10));
+        timeouts = newTimeouts();
+        timeouts.init();
+
+        timeouts.arm("case-3", Duration.ofMillis(50), LocalDateTime.now().plus(Duration.ofMillis(50)));
+        verify(stepLatencyProfiler, timeout(1000)).caseFinished("case-3");
+
+        assertTrue(registry.isCancelled("case-3"));
+        ExecutionCancelledException refused = assertThrows(ExecutionCancelledException.class,
+                () -> registry.runEngine("case-3", () -> fail("resumed a timed-out case")));
+        assertNull(refused.getCause());
+    }
+
+    @Test
+    void disarm_PreventsExpiry() throws Exception {
+        properties.setTick(Duration.ofMillis(10));
+        timeouts = newTimeouts();
+        timeouts.init();
+
+        timeouts.arm("case-2", Duration.ofMillis(50), LocalDateTime.now().plus(Duration.ofMillis(50)));
+        timeouts.disarm("case-2");
+        Thread.sleep(200);
+
+        verifyNoInteractions(applicationEventPublisher, eventPublisher, stepLatencyProfiler);
+    }
+
+    private ExecutionTimeouts newTimeouts() {
+        return new ExecutionTimeouts(properties, registry, eventPublisher, applicationEventPublisher, meterRegistry,
+                stepLatencyProfiler, Runnable::run);
+    }
+}
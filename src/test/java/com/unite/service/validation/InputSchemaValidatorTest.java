@@ -0,0 +1,113 @@
+package com.unite.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.dto.WorkflowExecutionRequest;
+import com.unite.exception.InputValidationException;
+import com.unite.model.WorkflowDefinitionEntity;
+import com.unite.repository.WorkflowDefinitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InputSchemaValidatorTest {
+
+    private static final String SCHEMA = """
+            {"type": "object", "required": ["orderId"],
+             "properties": {"orderId": {"type": "string"}, "amount": {"type": "number", "minimum": 0}}}
+            """;
+
+    @Mock
+    private WorkflowDefinitionRepository repository;
+
+    private InputSchemaValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new InputSchemaValidator(repository, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void validate_CompilesSchemaOncePerDefinition() {
+        when(repository.findById("def-1")).thenReturn(Optional.of(definition("def-1", SCHEMA)));
+
+        validator.validate("def-1", Map.of("orderId", "o-1", "amount", 10));
+        InputValidationException error = assertThrows(InputValidationException.class,
+                () -> validator.validate("def-1", Map.of("amount", -1)));
+
+        assertEquals(2, error.getErrors().size());
+        verify(repository, times(1)).findById("def-1");
+    }
+
+    @Test
+    void validate_AcceptsAnythingWithoutSchema() {
+        when(repository.findById("def-1")).thenReturn(Optional.of(definition("def-1", null)));
+
+        assertDoesNotThrow(() -> validator.validate("def-1", null));
+        assertDoesNotThrow(() -> validator.validate("def-1", Map.of("anything", true)));
+    }
+
+    @Test
+    void validateAll_ReportsInvalidItemsByIndex() {
+        when(repository.findById("def-1")).thenReturn(Optional.of(definition("def-1", SCHEMA)));
+        List<WorkflowExecutionRequest> requests = List.of(
+                request(Map.of("orderId", "o-1")),
+                request(Map.of("orderId", 7)),
+                request(Map.of("orderId", "o-3")));
+
+        InputValidationException error = assertThrows(InputValidationException.class,
+                () -> validator.validateAll(requests));
+
+        assertEquals(1, error.getErrors().size());
+        assertTrue(error.getErrors().keySet().iterator().next().startsWith("[1] "));
+    }
+
+    @Test
+    void validateAll_LoadsEachSchemaOnceOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<Thread> loaders = new CopyOnWriteArrayList<>();
+        when(repository.findById("def-1")).thenAnswer(invocation -> {
+            loaders.add(Thread.currentThread());
+            return Optional.of(definition("def-1", SCHEMA));
+        });
+        List<WorkflowExecutionRequest> requests = IntStream.range(0, 64)
+                .mapToObj(i -> request(Map.of("orderId", "o-" + i)))
+                .toList();
+
+        assertDoesNotThrow(() -> validator.validateAll(requests));
+
+        assertEquals(List.of(caller), loaders);
+    }
+
+    @Test
+    void compile_RejectsInvalidSchema() {
+        assertThrows(InputValidationException.class, () -> validator.compile("{\"type\": "));
+    }
+
+    private static WorkflowDefinitionEntity definition(String id, String inputSchema) {
+        return WorkflowDefinitionEntity.builder()
+                .id(id)
+                .name("orders")
+                .inputSchema(inputSchema)
+                .build();
+    }
+
+    private static WorkflowExecutionRequest request(Map<String, Object> inputVariables) {
+        return WorkflowExecutionRequest.builder()
+                .workflowDefinitionId("def-1")
+                .inputVariables(inputVariables)
+                .build();
+    }
+}
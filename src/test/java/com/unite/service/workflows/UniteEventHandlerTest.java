@@ -0,0 +1,70 @@
+package com.unite.service.workflows;
+
+import com.anode.workflow.entities.events.EventType;
+import com.anode.workflow.entities.workflows.WorkflowContext;
+import com.anode.workflow.entities.workflows.WorkflowVariables;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.config.ConcurrencyLimitProperties;
+import com.unite.config.ProfilingProperties;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.model.WorkflowExecutionEntity.ExecutionStatus;
+import com.unite.repository.WorkflowExecutionRepository;
+import com.unite.service.ActiveExecutionRegistry;
+import com.unite.service.WorkflowEventPublisher;
+import com.unite.service.concurrency.ConcurrencyLimits;
+import com.unite.service.profiling.StepLatencyProfiler;
+import com.unite.service.timeout.ExecutionTimeouts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UniteEventHandlerTest {
+
+    private final WorkflowExecutionRepository executionRepository = mock(WorkflowExecutionRepository.class);
+    private final WorkflowEventPublisher eventPublisher = mock(WorkflowEventPublisher.class);
+    private final ExecutionTimeouts executionTimeouts = mock(ExecutionTimeouts.class);
+    private final ActiveExecutionRegistry registry = new ActiveExecutionRegistry();
+    private UniteEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties limits = new ConcurrencyLimitProperties();
+        limits.setEnabled(false);
+        ExecutionOutcomes outcomes = new ExecutionOutcomes(executionRepository, mock(PlatformTransactionManager.class),
+                new ObjectMapper(), Runnable::run);
+        outcomes.init();
+        handler = new UniteEventHandler(registry, eventPublisher,
+                new StepLatencyProfiler(new ProfilingProperties()), ObservationRegistry.create(),
+                new ConcurrencyLimits(limits, new SimpleMeterRegistry()), mock(ApplicationEventPublisher.class),
+                executionTimeouts, outcomes);
+    }
+
+    @Test
+    void workflowCompleted_MarksExecutionCompleted() {
+        WorkflowContext context = mock(WorkflowContext.class);
+        when(context.getCaseId()).thenReturn("case-1");
+        when(context.getWorkflowVariables()).thenReturn(new WorkflowVariables());
+        when(executionRepository.existsByCaseId("case-1")).thenReturn(true);
+        registry.register("case-1", "exec-1", "def-1");
+
+        handler.invoke(EventType.valueOf("ON_PROCESS_COMPLETE"), context);
+
+        verify(executionRepository).complete(eq("case-1"), any(), any(), eq(ExecutionStatus.COMPLETED),
+                anyCollection());
+        verify(executionTimeouts).disarm("case-1");
+        verify(eventPublisher).publishEvent(argThat(message ->
+                message.getEventType() == WorkflowEventMessage.EventType.WORKFLOW_COMPLETED
+                        && "exec-1".equals(message.getExecutionId())));
+        assertTrue(registry.findByCaseId("case-1").isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package com.unite.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+/**
+ * Decides whether a soak run drifted. Heap after GC is judged by the least-squares slope across all samples
+ * rather than first versus last, so one late collection or allocation burst cannot pass or fail a run on its
+ * own. p99 latency and thread count compare the median of the first quarter of the samples with the median
+ * of the last quarter.
+ */
+final class DriftAnalysis {
+
+    static final int MIN_SAMPLES = 4;
+
+    record Sample(long elapsedMillis, long heapAfterGcBytes, int threads, int executorQueue, int subscribers,
+                  long requests, long p99Micros) {
+    }
+
+    record Thresholds(double maxHeapGrowthPercent, long minHeapGrowthBytes, double maxP99DriftPercent,
+                      int maxThreadGrowth) {
+    }
+
+    record Result(long heapGrowthBytes, double heapGrowthPercent, double p99DriftPercent, int threadGrowth,
+                  List<String> violations) {
+
+        boolean passed() {
+            return violations.isEmpty();
+        }
+    }
+
+    private DriftAnalysis() {
+    }
+
+    static Result analyze(List<Sample> samples, Thresholds thresholds) {
+        List<String> violations = new ArrayList<>();
+        if (samples.size() < MIN_SAMPLES) {
+            violations.add("only " + samples.size() + " samples, at least " + MIN_SAMPLES + " are needed");
+            return new Result(0, 0, 0, 0, violations);
+        }
+
+        long heapGrowth = heapGrowth(samples);
+        long heapBaseline = (long) median(firstQuarter(samples).stream().mapToDouble(Sample::heapAfterGcBytes));
+        double heapGrowthPercent = percent(heapBaseline, heapBaseline + heapGrowth);
+        if (heapGrowthPercent > thresholds.maxHeapGrowthPercent() && heapGrowth > thresholds.minHeapGrowthBytes()) {
+            violations.add(String.format("heap after GC grew by %d KB (%.1f%%) over the run, limit is %.1f%%",
+                    heapGrowth / 1024, heapGrowthPercent, thresholds.maxHeapGrowthPercent()));
+        }
+
+        List<Sample> withTraffic = samples.stream().filter(sample -> sample.requests() > 0).toList();
+        double p99Drift = 0;
+        if (withTraffic.size() >= MIN_SAMPLES) {
+            double before = median(firstQuarter(withTraffic).stream().mapToDouble(Sample::p99Micros));
+            double after = median(lastQuarter(withTraffic).stream().mapToDouble(Sample::p99Micros));
+            p99Drift = percent(before, after);
+            if (p99Drift > thresholds.maxP99DriftPercent()) {
+                violations.add(String.format("p99 drifted from %.0fus to %.0fus (%.1f%%), limit is %.1f%%",
+                        before, after, p99Drift, thresholds.maxP99DriftPercent()));
+            }
+        } else {
+            violations.add("fewer than " + MIN_SAMPLES + " sample windows saw any requests");
+        }
+
+        int threadGrowth = (int) (median(lastQuarter(samples).stream().mapToDouble(Sample::threads))
+                - median(firstQuarter(samples).stream().mapToDouble(Sample::threads)));
+        if (threadGrowth > thresholds.maxThreadGrowth()) {
+            violations.add(String.format("live threads grew by %d, limit is %d", threadGrowth,
+                    thresholds.maxThreadGrowth()));
+        }
+
+        return new Result(heapGrowth, heapGrowthPercent, p99Drift, threadGrowth, violations);
+    }
+
+    /**
+     * Growth of heap after GC across the sampled time span, from the least-squares slope.
+     */
+    static long heapGrowth(List<Sample> samples) {
+        double n = samples.size();
+        double meanX = samples.stream().mapToDouble(Sample::elapsedMillis).sum() / n;
+        double meanY = samples.stream().mapToDouble(Sample::heapAfterGcBytes).sum() / n;
+        double covariance = 0;
+        double variance = 0;
+        for (Sample sample : samples) {
+            double dx = sample.elapsedMillis() - meanX;
+            covariance += dx * (sample.heapAfterGcBytes() - meanY);
+            variance += dx * dx;
+        }
+        if (variance == 0) {
+            return 0;
+        }
+        long span = samples.getLast().elapsedMillis() - samples.getFirst().elapsedMillis();
+        return (long) (covariance / variance * span);
+    }
+
+    private static List<Sample> firstQuarter(List<Sample> samples) {
+        return samples.subList(0, Math.max(1, samples.size() / 4));
+    }
+
+    private static List<Sample> lastQuarter(List<Sample> samples) {
+        return samples.subList(samples.size() - Math.max(1, samples.size() / 4), samples.size());
+    }
+
+    private static double median(DoubleStream values) {
+        double[] sorted = values.sorted().toArray();
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static double percent(double baseline, double current) {
+        return baseline == 0 ? 0 : (current - baseline) * 100.0 / baseline;
+    }
+}
@@ -0,0 +1,54 @@
+package com.unite.soak;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DriftAnalysisTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final DriftAnalysis.Thresholds THRESHOLDS = new DriftAnalysis.Thresholds(20, 8 * MB, 50, 20);
+
+    @Test
+    void steadyRun_WithNoisyHeapPasses() {
+        List<DriftAnalysis.Sample> samples = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            long noise = (i % 3 - 1) * 10 * MB;
+            samples.add(sample(i, 200 * MB + noise, 1000 + (i % 5) * 100));
+        }
+        samples.set(59, sample(59, 230 * MB, 1000));
+
+        DriftAnalysis.Result result = DriftAnalysis.analyze(samples, THRESHOLDS);
+
+        assertTrue(result.passed(), () -> String.join("\n", result.violations()));
+    }
+
+    @Test
+    void leakAndLatencyDrift_AreReported() {
+        List<DriftAnalysis.Sample> samples = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            samples.add(sample(i, 200 * MB + i * 2 * MB, 1000 + i * 50));
+        }
+
+        DriftAnalysis.Result result = DriftAnalysis.analyze(samples, THRESHOLDS);
+
+        assertFalse(result.passed());
+        assertEquals(118 * MB, result.heapGrowthBytes(), MB);
+        assertEquals(2, result.violations().size());
+        assertTrue(result.p99DriftPercent() > 50);
+    }
+
+    @Test
+    void tooFewSamples_FailRatherThanPass() {
+        DriftAnalysis.Result result = DriftAnalysis.analyze(List.of(sample(0, MB, 1), sample(1, MB, 1)), THRESHOLDS);
+
+        assertFalse(result.passed());
+    }
+
+    private static DriftAnalysis.Sample sample(int minute, long heap, long p99Micros) {
+        return new DriftAnalysis.Sample(minute * 60_000L, heap, 50, 0, 10, 1000, p99Micros);
+    }
+}
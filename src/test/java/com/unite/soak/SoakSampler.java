@@ -0,0 +1,87 @@
+package com.unite.soak;
+
+import com.unite.service.reactive.ReactiveEventStream;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes one {@link DriftAnalysis.Sample} per interval: heap used right after a forced full GC, live threads,
+ * the workflow executor's queue, reactive stream subscribers and the p99 of the requests recorded since the
+ * previous sample. Every sample is also appended to a CSV file for plotting.
+ */
+final class SoakSampler {
+
+    private static final String HEADER = "elapsed_ms,heap_after_gc_bytes,threads,executor_queue,subscribers,"
+            + "requests,p99_us\n";
+
+    private final Executor workflowExecutor;
+    private final ReactiveEventStream eventStream;
+    private final Path csv;
+    private final long startNanos = System.nanoTime();
+    private final Recorder latencies = new Recorder(3);
+    private final List<DriftAnalysis.Sample> samples = new ArrayList<>();
+    private Histogram interval;
+
+    SoakSampler(Executor workflowExecutor, ReactiveEventStream eventStream, Path csv) throws IOException {
+        this.workflowExecutor = workflowExecutor;
+        this.eventStream = eventStream;
+        this.csv = csv;
+        Files.createDirectories(csv.getParent());
+        Files.writeString(csv, HEADER);
+    }
+
+    void record(long nanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Drops what was recorded so far, e.g. at the end of the warm-up.
+     */
+    void reset() {
+        interval = latencies.getIntervalHistogram(interval);
+        samples.clear();
+    }
+
+    DriftAnalysis.Sample sample() {
+        System.gc();
+        interval = latencies.getIntervalHistogram(interval);
+        DriftAnalysis.Sample sample = new DriftAnalysis.Sample(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                ManagementFactory.getThreadMXBean().getThreadCount(),
+                workflowExecutor instanceof ThreadPoolTaskExecutor pool ? pool.getQueueSize() : -1,
+                eventStream.subscriberCount(),
+                interval.getTotalCount(),
+                interval.getValueAtPercentile(99));
+        samples.add(sample);
+        append(sample);
+        return sample;
+    }
+
+    List<DriftAnalysis.Sample> samples() {
+        return List.copyOf(samples);
+    }
+
+    private void append(DriftAnalysis.Sample sample) {
+        String line = String.format("%d,%d,%d,%d,%d,%d,%d%n", sample.elapsedMillis(), sample.heapAfterGcBytes(),
+                sample.threads(), sample.executorQueue(), sample.subscribers(), sample.requests(),
+                sample.p99Micros());
+        try {
+            Files.writeString(csv, line, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.unite.soak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.service.reactive.ReactiveEventStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs mixed start, subscribe and cancel traffic against the H2 profile for hours and fails if heap after GC,
+ * p99 latency or the thread count drift. The database is file-backed so stored executions do not count as
+ * heap growth. Not part of the regular build:
+ * {@code mvn -Psoak test -Dsoak.duration=4h}; samples are written to {@code target/soak/samples.csv}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/soak/unite_db;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "logging.level.com.unite=WARN"
+})
+class WorkflowSoak {
+
+    private static final String DEFINITION = """
+            {"steps": [{"id": "validate", "type": "validation"}, {"id": "process", "type": "processing"}]}
+            """;
+    private static final int RECENT_EXECUTIONS = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("workflowExecutor")
+    private Executor workflowExecutor;
+
+    @Autowired
+    private ReactiveEventStream eventStream;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ConcurrentLinkedDeque<String> recentExecutions = new ConcurrentLinkedDeque<>();
+    private final LongAdder errors = new LongAdder();
+    private WebSocketStompClient stompClient;
+    private URI baseUrl;
+    private String definitionId;
+
+    @Test
+    void mixedTrafficDoesNotDrift() throws Exception {
+        Duration duration = duration("soak.duration", "2h");
+        Duration warmup = duration("soak.warmup", "5m");
+        Duration sampleInterval = duration("soak.sample-interval", "1m");
+        int workers = Integer.getInteger("soak.workers", 16);
+        DriftAnalysis.Thresholds thresholds = new DriftAnalysis.Thresholds(
+                Double.parseDouble(System.getProperty("soak.max-heap-growth", "20")),
+                Long.getLong("soak.min-heap-growth-bytes", 32L * 1024 * 1024),
+                Double.parseDouble(System.getProperty("soak.max-p99-drift", "50")),
+                Integer.getInteger("soak.max-thread-growth", 20));
+
+        baseUrl = URI.create("http://localhost:" + port);
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        definitionId = createDefinition();
+        SoakSampler sampler = new SoakSampler(workflowExecutor, eventStream, Path.of("target/soak/samples.csv"));
+
+        long end = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        try (ExecutorService traffic = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                traffic.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        step(sampler);
+                    }
+                });
+            }
+
+            sleep(warmup);
+            sampler.reset();
+            System.out.printf("Warm-up of %s done, sampling every %s for %s%n", warmup, sampleInterval, duration);
+            while (System.nanoTime() < end) {
+                sleep(sampleInterval);
+                DriftAnalysis.Sample sample = sampler.sample();
+                System.out.printf("%6ds heap %6d KB, %4d threads, queue %3d, %3d subscribers, %7d requests, "
+                                + "p99 %7dus, %d errors%n",
+                        sample.elapsedMillis() / 1000, sample.heapAfterGcBytes() / 1024, sample.threads(),
+                        sample.executorQueue(), sample.subscribers(), sample.requests(), sample.p99Micros(),
+                        errors.sum());
+            }
+        }
+
+        DriftAnalysis.Result result = DriftAnalysis.analyze(sampler.samples(), thresholds);
+        System.out.printf("Heap growth %d KB (%.1f%%), p99 drift %.1f%%, thread growth %d%n",
+                result.heapGrowthBytes() / 1024, result.heapGrowthPercent(), result.p99DriftPercent(),
+                result.threadGrowth());
+        assertTrue(result.passed(), () -> String.join("\n", result.violations()));
+    }
+
+    /**
+     * One weighted operation. Only the HTTP calls are timed; subscriptions are held open on purpose.
+     */
+    private void step(SoakSampler sampler) {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        long started = System.nanoTime();
+        try {
+            if (roll < 40) {
+                String id = send("POST", "/api/v1/workflow-executions", execution(null)).path("id").asText(null);
+                remember(id);
+                sampler.record(System.nanoTime() - started);
+            } else if (roll < 60) {
+                send("POST", "/api/v1/workflow-executions?async=true", execution(null));
+                sampler.record(System.nanoTime() - started);
+            } else if (roll < 70) {
+                String caseId = send("POST", "/api/v1/workflow-executions", execution(Duration.ofHours(1)))
+                        .path("caseId").asText();
+                send("DELETE", "/api/v1/workflow-executions/scheduled/" + caseId, null);
+                sampler.record(System.nanoTime() - started);
+            } else if (roll < 80) {
+                String id = recentExecutions.pollFirst();
+                if (id != null) {
+                    sendIgnoringStatus("POST", "/api/v1/workflow-executions/" + id + "/cancel");
+                    sampler.record(System.nanoTime() - started);
+                }
+            } else if (roll < 90) {
+                subscribeStomp();
+            } else {
+                subscribeEvents();
+            }
+        } catch (Exception e) {
+            errors.increment();
+        }
+    }
+
+    private void subscribeStomp() throws Exception {
+        StompSession session = stompClient.connectAsync(baseUrl.toString().replaceFirst("^http", "ws") + "/ws",
+                new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+        try {
+            String id = recentExecutions.peekLast();
+            StompSession.Subscription subscription = session.subscribe(id == null
+                    ? "/topic/workflow-events"
+                    : "/topic/workflow-events/" + id, new StompSessionHandlerAdapter() {
+            });
+            sleep(holdTime());
+            subscription.unsubscribe();
+        } finally {
+            session.disconnect();
+        }
+    }
+
+    private void subscribeEvents() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/v1/reactive/workflow-executions/events"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<Stream<String>> response = http.send(request, HttpResponse.BodyHandlers.ofLines());
+        try (Stream<String> lines = response.body()) {
+            sleep(holdTime());
+        }
+    }
+
+    private String createDefinition() throws IOException {
+        Map<String, Object> body = Map.of(
+                "name", "soak-" + System.currentTimeMillis(),
+                "version", "1.0",
+                "definitionJson", objectMapper.readTree(DEFINITION),
+                "active", true,
+                "createdBy", "soak",
+                "tags", "soak");
+        return send("POST", "/api/v1/workflow-definitions", body).path("id").asText();
+    }
+
+    private Map<String, Object> execution(Duration delay) {
+        Map<String, Object> variables = Map.of("orderId", ThreadLocalRandom.current().nextInt(),
+                "items", List.of("a", "b", "c"));
+        return delay == null
+                ? Map.of("workflowDefinitionId", definitionId, "inputVariables", variables)
+                : Map.of("workflowDefinitionId", definitionId, "inputVariables", variables,
+                "delay", delay.toString());
+    }
+
+    private void remember(String executionId) {
+        if (executionId == null) {
+            return;
+        }
+        recentExecutions.addLast(executionId);
+        if (recentExecutions.size() > RECENT_EXECUTIONS) {
+            recentExecutions.pollFirst();
+        }
+    }
+
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request(method, path, body), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IOException(method + " " + path + " returned " + response.statusCode());
+        }
+        return response.body().length == 0 ? objectMapper.missingNode() : objectMapper.readTree(response.body());
+    }
+
+    /**
+     * Cancelling an execution that already finished is expected to fail.
+     */
+    private void sendIgnoringStatus(String method, String path) throws IOException, InterruptedException {
+        http.send(request(method, path, null), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest request(String method, String path, Object body) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (body == null) {
+            return request.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return request.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private static Duration holdTime() {
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(1000, 5000));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
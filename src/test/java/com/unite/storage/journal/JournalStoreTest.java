@@ -0,0 +1,90 @@
+package com.unite.storage.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalStoreTest {
+
+    private static final JournalOptions SMALL_SEGMENTS = new JournalOptions(4096, Duration.ofMillis(1), true, 0.5);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void put_LatestValueWinsAndSurvivesReopen() throws Exception {
+        try (JournalStore store = JournalStore.open(directory, SMALL_SEGMENTS)) {
+            store.put("case-1", bytes("first"));
+            store.put("case-1", bytes("second"));
+            store.put("case-2", bytes("other"));
+            store.delete("case-2");
+
+            assertEquals("second", string(store.get("case-1")));
+            assertNull(store.get("case-2"));
+        }
+
+        try (JournalStore reopened = JournalStore.open(directory, SMALL_SEGMENTS)) {
+            assertEquals("second", string(reopened.get("case-1")));
+            assertNull(reopened.get("case-2"));
+            assertEquals(1, reopened.keys().size());
+        }
+    }
+
+    @Test
+    void compact_ReclaimsSupersededSegments() throws Exception {
+        try (JournalStore store = JournalStore.open(directory, SMALL_SEGMENTS)) {
+            for (int i = 0; i < 500; i++) {
+                store.put("case-" + (i % 5), bytes("state-" + i));
+            }
+            store.delete("case-4");
+            int before = store.segmentCount();
+
+            int reclaimed = store.compact();
+
+            assertTrue(reclaimed > 0);
+            assertTrue(store.segmentCount() < before);
+            assertEquals("state-495", string(store.get("case-0")));
+            assertNull(store.get("case-4"));
+        }
+
+        try (JournalStore reopened = JournalStore.open(directory, SMALL_SEGMENTS)) {
+            assertNull(reopened.get("case-4"));
+            assertEquals(4, reopened.keys().size());
+        }
+    }
+
+    @Test
+    void put_ConcurrentWritersShareFsyncs() throws Exception {
+        try (JournalStore store = JournalStore.open(directory, new JournalOptions(1 << 20, Duration.ofMillis(2), true, 0.5))) {
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            for (int i = 0; i < 1600; i++) {
+                String key = "case-" + i;
+                executor.submit(() -> {
+                    store.put(key, new byte[64]);
+                    return null;
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            assertEquals(1600, store.keys().size());
+            assertTrue(store.flushCount() < 1600);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+package com.unite.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLinesSpanExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void export_WritesOneLinePerSpanWithParentLinks() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path file = tempDir.resolve("spans.jsonl");
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new JsonLinesSpanExporter(file, objectMapper)))
+                .build();
+        Tracer tracer = provider.get("test");
+
+        Span parent = tracer.spanBuilder("unite.workflow.start").startSpan();
+        try (Scope scope = parent.makeCurrent()) {
+            tracer.spanBuilder("unite.engine.start")
+                    .setAttribute("unite.definition.id", "def-1")
+                    .startSpan()
+                    .end();
+        } finally {
+            parent.end();
+        }
+        provider.shutdown();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertEquals("unite.engine.start", child.get("name").asText());
+        assertEquals(root.get("traceId"), child.get("traceId"));
+        assertEquals(root.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertTrue(root.get("parentSpanId").isNull());
+        assertEquals("def-1", child.get("attributes").get("unite.definition.id").asText());
+    }
+}
@@ -0,0 +1,72 @@
+package com.unite.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unite.dto.WorkflowEventMessage;
+import com.unite.service.events.EventDeltaEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkflowEventWebSocketControllerTest {
+
+    private final EventDeltaEncoder deltaEncoder = mock(EventDeltaEncoder.class);
+    private final MessageChannel clientOutboundChannel = mock(MessageChannel.class);
+    private WorkflowEventWebSocketController controller;
+
+    @BeforeEach
+    void setUp() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper().findAndRegisterModules());
+        controller = new WorkflowEventWebSocketController(deltaEncoder, clientOutboundChannel, converter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void subscribeToExecutionTopic_SendsSnapshotToThatSubscriptionOnly() {
+        when(deltaEncoder.snapshot("exec-1")).thenReturn(Optional.of(WorkflowEventMessage.builder()
+                .executionId("exec-1")
+                .sequence(7L)
+                .build()));
+
+        controller.onSubscribeToExecution(subscribe("/topic/workflow-events/exec-1"));
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(clientOutboundChannel).send(sent.capture());
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent.getValue());
+        assertEquals("session-1", headers.getSessionId());
+        assertEquals("sub-0", headers.getSubscriptionId());
+        assertEquals("/topic/workflow-events/exec-1", headers.getDestination());
+        String payload = new String((byte[]) sent.getValue().getPayload(), StandardCharsets.UTF_8);
+        assertTrue(payload.contains("\"sequence\":7"), payload);
+    }
+
+    @Test
+    void subscribeToOtherTopics_SendsNothing() {
+        controller.onSubscribeToExecution(subscribe("/topic/workflow-events"));
+        controller.onSubscribeToExecution(subscribe("/queue/other"));
+
+        verifyNoInteractions(clientOutboundChannel, deltaEncoder);
+    }
+
+    private SessionSubscribeEvent subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}